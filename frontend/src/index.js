@@ -3,6 +3,29 @@ import ReactDOM from 'react-dom/client';
 import './index.css';
 import App from './App';
 import reportWebVitals from './reportWebVitals';
+import axios from 'axios';
+
+// ✅ 로그인 토큰을 모든 API 요청에 첨부 (서버는 body 의 사용자 이름 대신 토큰을 믿음)
+axios.interceptors.request.use((config) => {
+    const raw = localStorage.getItem('user');
+    const token = raw ? JSON.parse(raw).token : null;
+    if (token) {
+        config.headers.Authorization = `Bearer ${token}`;
+    }
+    return config;
+});
+
+// ✅ 토큰 만료/위조 → 저장된 로그인 정보 삭제 후 로그인 화면으로
+axios.interceptors.response.use(
+    (res) => res,
+    (err) => {
+        if (err.response?.status === 401 && localStorage.getItem('user')) {
+            localStorage.removeItem('user');
+            window.location.href = '/login';
+        }
+        return Promise.reject(err);
+    }
+);
 
 const root = ReactDOM.createRoot(document.getElementById('root'));
 root.render(
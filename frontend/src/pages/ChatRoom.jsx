@@ -1,5 +1,5 @@
 import React, { useEffect, useState, useRef } from "react";
-import { useNavigate } from "react-router-dom";
+import { useNavigate, useSearchParams } from "react-router-dom";
 import styles from "./ChatRoom.module.css";
 import SockJS from "sockjs-client";
 import { Client } from "@stomp/stompjs";
@@ -12,8 +12,13 @@ const ChatRoom = () => {
     const [input, setInput] = useState("");
     const [users, setUsers] = useState([]);
     const navigate = useNavigate();
+    // ✅ 채팅방 (?room=debate-3 → 토론 방, 없으면 전체 채팅)
+    const [searchParams] = useSearchParams();
+    const roomId = searchParams.get("room") || "public";
     const clientRef = useRef(null);
     const messagesEndRef = useRef(null);
+    // ✅ 마지막으로 받은 채팅 offset (재연결 시 이 다음부터 다시 받기)
+    const lastOffsetRef = useRef(null);
 
     // ✅ 로그인된 유저 닉네임 불러오기
     useEffect(() => {
@@ -38,11 +43,24 @@ const ChatRoom = () => {
                 setConnected(true);
 
                 // ✅ 채팅 메시지 구독
-                client.subscribe("/topic/public", (payload) => {
+                //  - 기록(/app/rooms/{roomId}/chat.history) 도착 전 실시간 메시지는 모아 두었다가 offset 기준으로 중복 없이 이어 붙임
+                let historyLoaded = false;
+                let live = [];
+
+                const showChat = (msg) => {
+                    if (msg.offset != null) {
+                        if (lastOffsetRef.current != null && msg.offset <= lastOffsetRef.current) return;
+                        lastOffsetRef.current = msg.offset;
+                    }
+                    setMessages((prev) => [...prev, `${msg.sender}: ${msg.message}`]);
+                };
+
+                client.subscribe(`/topic/rooms/${roomId}`, (payload) => {
                     const msg = JSON.parse(payload.body);
 
                     if (msg.type === "CHAT") {
-                        setMessages((prev) => [...prev, `${msg.sender}: ${msg.message}`]);
+                        if (!historyLoaded) live.push(msg);
+                        else showChat(msg);
                     } else if (msg.type === "JOIN") {
                         if (msg.sender === nickname && msg.ip) setIp(msg.ip);
                         setMessages((prev) => [
@@ -57,30 +75,67 @@ const ChatRoom = () => {
                     }
                 });
 
-                // ✅ 접속자 목록 구독 (배열/객체 둘 다 처리)
-                client.subscribe("/topic/users", (payload) => {
-                    try {
-                        const data = JSON.parse(payload.body);
-                        let list = [];
-
-                        if (Array.isArray(data)) {
-                            // 서버가 [ { sender, ip }, ... ] 로 보낸 경우
-                            list = data;
-                        } else if (data && typeof data === "object") {
-                            // 서버가 { sessionId: { sender, ip }, ... } 로 보낸 경우
-                            list = Object.values(data);
-                        }
-
-                        setUsers(list);
-                    } catch (err) {
-                        console.error("❌ users payload parse error:", err, payload.body);
-                        setUsers([]);
+                const historyHeaders =
+                    lastOffsetRef.current != null ? { since: String(lastOffsetRef.current + 1) } : {};
+                client.subscribe(
+                    `/app/rooms/${roomId}/chat.history`,
+                    (payload) => {
+                        JSON.parse(payload.body).forEach(showChat);
+                        live.forEach(showChat);
+                        live = [];
+                        historyLoaded = true;
+                    },
+                    historyHeaders
+                );
+
+                // ✅ 너무 빨리 보내면 서버가 메시지를 버리고 이 세션에만 알려줌
+                client.subscribe("/user/queue/errors", (payload) => {
+                    const err = JSON.parse(payload.body);
+                    if (err.type === "RATE_LIMITED") {
+                        setMessages((prev) => [
+                            ...prev,
+                            `⏳ 메시지를 너무 빨리 보내고 있어요. ${err.retryAfterSeconds}초 후 다시 시도해주세요.`,
+                        ]);
+                    }
+                });
+
+                // ✅ 접속자 목록: 변경분(/topic/rooms/{roomId}/presence) 먼저 구독 → 스냅샷(/app/rooms/{roomId}/chat.users) 1회 수신
+                //  - 스냅샷 전에 온 변경분은 모아 두었다가, 같은 서버 기준 seq 가 더 큰 것만 이어서 적용
+                //  - 닉네임이 키라 같은 변경을 두 번 적용해도 결과가 같음
+                const usersBySender = new Map();
+                let snapshot = null;
+                let pending = [];
+
+                const applyDelta = (d) => {
+                    if (d.type === "JOIN") usersBySender.set(d.sender, { sender: d.sender, ip: d.ip });
+                    else if (d.type === "LEAVE") usersBySender.delete(d.sender);
+                };
+                const render = () => setUsers(Array.from(usersBySender.values()));
+
+                client.subscribe(`/topic/rooms/${roomId}/presence`, (payload) => {
+                    const delta = JSON.parse(payload.body);
+                    if (!snapshot) {
+                        pending.push(delta);
+                        return;
                     }
+                    applyDelta(delta);
+                    render();
+                });
+
+                client.subscribe(`/app/rooms/${roomId}/chat.users`, (payload) => {
+                    snapshot = JSON.parse(payload.body);
+                    usersBySender.clear();
+                    (snapshot.users || []).forEach((u) => usersBySender.set(u.sender, u));
+                    pending
+                        .filter((d) => d.node !== snapshot.node || d.seq > snapshot.seq)
+                        .forEach(applyDelta);
+                    pending = [];
+                    render();
                 });
 
                 // ✅ 입장 알림 보내기 (ip는 서버에서 채움)
                 client.publish({
-                    destination: "/app/chat.newUser",
+                    destination: `/app/rooms/${roomId}/chat.newUser`,
                     body: JSON.stringify({ sender: nickname }),
                 });
             },
@@ -97,7 +152,7 @@ const ChatRoom = () => {
     const sendMessage = () => {
         if (!input.trim() || !clientRef.current) return;
         clientRef.current.publish({
-            destination: "/app/chat.sendMessage",
+            destination: `/app/rooms/${roomId}/chat.sendMessage`,
             body: JSON.stringify({ sender: nickname, message: input }),
         });
         setInput("");
@@ -107,7 +162,7 @@ const ChatRoom = () => {
     const leaveChat = () => {
         if (clientRef.current) {
             clientRef.current.publish({
-                destination: "/app/chat.leaveUser",
+                destination: `/app/rooms/${roomId}/chat.leaveUser`,
                 body: JSON.stringify({ sender: nickname }),
             });
             clientRef.current.deactivate();
@@ -115,6 +170,7 @@ const ChatRoom = () => {
         setConnected(false);
         setUsers([]);
         setMessages([]);
+        lastOffsetRef.current = null;
         navigate("/board");
     };
 
@@ -1,6 +1,8 @@
 axios.defaults.baseURL = "http://192.168.0.21:8080";
-import React, { useEffect, useState } from "react";
+import React, { useEffect, useRef, useState } from "react";
 import axios from "axios";
+import SockJS from "sockjs-client";
+import { Client } from "@stomp/stompjs";
 import { Trash2, MessageSquare } from "lucide-react";
 import { useNavigate } from "react-router-dom";
 import styles from "./DebateBoard.module.css";
@@ -40,6 +42,11 @@ const DebateBoard = () => {
     const [comments, setComments] = useState({});
     // ✅ 제목 클릭 시 펼침/접힘 토글용 (추가)
     const [expandedDebateId, setExpandedDebateId] = useState(null);
+    // ✅ STOMP 콜백 안에서 최신 펼침 상태를 읽기 위한 ref
+    const expandedDebateIdRef = useRef(null);
+    useEffect(() => {
+        expandedDebateIdRef.current = expandedDebateId;
+    }, [expandedDebateId]);
 
     const MAX_COMMENT_INDENT = 4;
     useEffect(() => {
@@ -87,15 +94,53 @@ const DebateBoard = () => {
         // 첫 로딩 시 데이터 가져오기
         fetchDebates();
 
-        // 3초마다 주기적으로 갱신
-        const interval = setInterval(() => {
-            fetchDebates(false);
-            if (expandedDebateId) {
-                fetchComments(expandedDebateId); // ✅ 펼쳐진 카드의 댓글 트리도 최신화
-            }// 👈 탭 상태 변경 방지용 인자
-        }, 3000);
+        // ✅ 폴링 대신 서버 변경 알림(/topic/debates) 구독
+        //  - UPDATED: 요약 값(투표/좋아요/마감)만 반영, 댓글 변경이면 펼친 카드 댓글만 다시 조회
+        //  - 생성/삭제/수정/반박/일괄 마감: 목록 다시 조회
+        const client = new Client({
+            webSocketFactory: () => new SockJS("http://192.168.0.21:8080/ws"),
+            reconnectDelay: 5000,
+            onConnect: () => {
+                client.subscribe("/topic/debates", (payload) => {
+                    const msg = JSON.parse(payload.body);
+                    const events = msg.events || [];
+                    const needsRefetch =
+                        msg.type !== "UPDATED" ||
+                        events.some((e) => ["CREATED", "UPDATED", "REBUTTED"].includes(e));
+
+                    if (needsRefetch) {
+                        fetchDebates(false);
+                    } else if (msg.summary) {
+                        const s = msg.summary;
+                        setDebates((prev) =>
+                            prev.map((d) =>
+                                d.id === msg.debateId
+                                    ? {
+                                        ...d,
+                                        authorVotes: s.authorVotes,
+                                        rebuttalVotes: s.rebuttalVotes,
+                                        likes: s.likes,
+                                        dislikes: s.dislikes,
+                                        isClosed: s.isClosed,
+                                        winner: s.winner,
+                                    }
+                                    : d
+                            )
+                        );
+                    }
+
+                    if (
+                        msg.debateId === expandedDebateIdRef.current &&
+                        events.some((e) => ["COMMENTED", "COMMENT_DELETED"].includes(e))
+                    ) {
+                        fetchComments(msg.debateId); // ✅ 펼쳐진 카드의 댓글 트리도 최신화
+                    }
+                });
+            },
+        });
+        client.activate();
 
-        return () => clearInterval(interval);
+        return () => client.deactivate();
     }, []);
 
     const fetchDebates = async (shouldAutoSwitch = true) => {
@@ -149,10 +194,8 @@ const DebateBoard = () => {
     const handleVote = async (debateId, type) => {
         if (!requireLogin()) return;
         try {
-            await axios.post(`/api/debates/${debateId}/vote`, {
-                type,
-                voter: currentUser?.username,
-            });
+            // 투표자는 서버가 토큰으로 판단
+            await axios.post(`/api/debates/${debateId}/vote`, { type });
             alert("✅ 투표가 완료되었습니다!");
             fetchDebates();
         } catch (err) {
@@ -793,6 +836,17 @@ const DebateBoard = () => {
                                                     {debate.rebuttalAuthor} ({debate.rebuttalVotes})
                                                 </button>
                                             </div>
+
+                                            {/* 💬 이 토론 전용 채팅방 */}
+                                            <button
+                                                className={styles.chatroomButton}
+                                                onClick={(e) => {
+                                                    e.stopPropagation();
+                                                    navigate(`/chatroom?room=debate-${debate.id}`);
+                                                }}
+                                            >
+                                                💬 이 토론 채팅방
+                                            </button>
                                         </>
                                     )}
 
@@ -42,6 +42,7 @@ const MyPage = () => {
 
     // 내 글/UI
     const [myDebates, setMyDebates] = useState([]);
+    const [myStats, setMyStats] = useState(null);
     const [expandedId, setExpandedId] = useState(null);
 
     // ✨ 추가: 토론 수정용 상태
@@ -161,8 +162,20 @@ const MyPage = () => {
         setCurrentUser(user);
         setEditForm({ nickname: user.username, email: user.email || "", password: "" });
         fetchMyDebates(user.username);
+        fetchMyStats(user.username);
     }, []);
 
+    // ✅ 내 활동 통계 (서버에 미리 집계된 값 1건)
+    const fetchMyStats = async (username) => {
+        if (!username) return;
+        try {
+            const res = await axios.get(`/api/stats/users/${encodeURIComponent(username)}`);
+            setMyStats(res.data);
+        } catch (err) {
+            console.error("❌ 활동 통계 불러오기 실패:", err);
+        }
+    };
+
     // ✅ 내가 쓴 토론 불러오기 (상태 우선 + 최신순)
     const fetchMyDebates = async (username) => {
         if (!username) return;
@@ -393,8 +406,14 @@ const MyPage = () => {
                             <b>이메일:</b> {currentUser.email}
                         </p>
                         <p>
-                            <b>EXP:</b> {currentUser.exp || 0}
+                            <b>EXP:</b> {myStats ? myStats.exp : currentUser.exp || 0}
+                            {myStats && <> (Lv.{myStats.level})</>}
                         </p>
+                        {myStats && (
+                            <p>
+                                <b>활동:</b> 토론 {myStats.debates} · 승리 {myStats.wins} · 댓글 {myStats.comments} · 투표 {myStats.votesCast}
+                            </p>
+                        )}
                     </section>
                 )}
 
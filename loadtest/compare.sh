@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# ✅ 플랫폼 스레드 vs 가상 스레드 비교 (같은 jar, 같은 DB, 같은 부하)
+# - 필요: Java 21 이상 (JAVA_HOME), k6, 데이터가 들어 있는 MySQL
+# - 사용: ./gradlew bootJar && loadtest/compare.sh [VUS=5000]
+# - 결과: loadtest/results/<mode>-k6.json (k6 요약), <mode>-memory.csv (5초마다 RSS / 힙 / 스레드 수)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=${JAR:-build/libs/kakaoboard-0.0.1-SNAPSHOT.jar}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+VUS=${1:-${VUS:-5000}}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+OUT=loadtest/results
+mkdir -p "$OUT"
+
+"$JAVA" -version 2>&1 | head -1
+
+metric() {
+  curl -s "$BASE_URL/actuator/metrics/$1${2:+?tag=$2}" | sed -n 's/.*"measurements":\[{"statistic":"[A-Z_]*","value":\([0-9.E+-]*\)}.*/\1/p'
+}
+
+for mode in false true; do
+  echo "=== VIRTUAL_THREADS=$mode (동시 연결 $VUS) ==="
+  VIRTUAL_THREADS=$mode "$JAVA" -Xmx1g -jar "$JAR" > "$OUT/$mode-app.log" 2>&1 &
+  APP=$!
+  trap 'kill $APP 2>/dev/null || true' EXIT
+  until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+  echo "time,rss_kb,heap_used,threads_live,pinned_count" > "$OUT/$mode-memory.csv"
+  (
+    while kill -0 $APP 2>/dev/null; do
+      echo "$(date +%s),$(ps -o rss= -p $APP | tr -d ' '),$(metric jvm.memory.used area:heap),$(metric jvm.threads.live),$(metric jvm.threads.virtual.pinned)" >> "$OUT/$mode-memory.csv"
+      sleep 5
+    done
+  ) &
+  SAMPLER=$!
+
+  k6 run -q -e BASE_URL="$BASE_URL" -e VUS="$VUS" --summary-export "$OUT/$mode-k6.json" loadtest/read-mix.js
+
+  kill $APP; wait $APP 2>/dev/null || true
+  kill $SAMPLER 2>/dev/null || true
+  trap - EXIT
+
+  echo "요청/초: $(sed -n 's/.*"http_reqs":{[^}]*"rate":\([0-9.]*\).*/\1/p' "$OUT/$mode-k6.json")"
+  echo "최대 RSS(KB): $(tail -n +2 "$OUT/$mode-memory.csv" | cut -d, -f2 | sort -n | tail -1)"
+  echo "최대 스레드: $(tail -n +2 "$OUT/$mode-memory.csv" | cut -d, -f4 | sort -n | tail -1)"
+done
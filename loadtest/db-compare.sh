@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# ✅ 데이터 접근 설정 비교: 기본값(이전 설정) vs application.yml 의 튜닝 설정 (같은 jar, 같은 DB, 같은 부하)
+# - 이전 설정: show-sql + format_sql, Hikari 기본값(10개, 30초 대기), 드라이버 문장 캐시/배치 재작성 없음
+# - 필요: k6, 데이터가 들어 있는 MySQL, mysql 클라이언트(선택: 서버 쪽 prepare 횟수 비교)
+# - 사용: ./gradlew bootJar && loadtest/db-compare.sh [VUS=500]
+# - 결과: loadtest/results/db-<baseline|tuned>-k6.json, db-<mode>-pool.csv (5초마다 활성/대기 커넥션, 커넥션 대기 p99)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=${JAR:-build/libs/kakaoboard-0.0.1-SNAPSHOT.jar}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+VUS=${1:-${VUS:-500}}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+MYSQL=${MYSQL:-mysql -uroot -p${MYSQL_PASSWORD:-} kakaoboard}
+OUT=loadtest/results
+mkdir -p "$OUT"
+
+DS=--spring.datasource.hikari
+DSP=$DS.data-source-properties
+BASELINE=(
+  --spring.jpa.show-sql=true
+  --spring.jpa.properties.hibernate.format_sql=true
+  --kakaoboard.sql-log.sample-rate=0
+  $DS.maximum-pool-size=10 $DS.minimum-idle=10 $DS.connection-timeout=30000
+  $DSP.cachePrepStmts=false $DSP.useServerPrepStmts=false $DSP.rewriteBatchedStatements=false
+  $DSP.useLocalSessionState=false $DSP.cacheResultSetMetadata=false $DSP.cacheServerConfiguration=false
+  $DSP.elideSetAutoCommits=false $DSP.maintainTimeStats=true
+)
+
+metric() {
+  curl -s "$BASE_URL/actuator/metrics/$1${2:+?tag=$2}" | sed -n 's/.*"measurements":\[{"statistic":"[A-Z_]*","value":\([0-9.E+-]*\)}.*/\1/p'
+}
+
+server_status() {
+  $MYSQL -N -e "show global status where Variable_name in ('Com_stmt_prepare','Com_stmt_execute','Questions')" 2>/dev/null \
+    | awk '{printf "%s=%s ", $1, $2}'
+}
+
+for mode in baseline tuned; do
+  echo "=== $mode (동시 연결 $VUS) ==="
+  args=()
+  [ "$mode" = baseline ] && args=("${BASELINE[@]}")
+  "$JAVA" -jar "$JAR" "${args[@]}" > "$OUT/db-$mode-app.log" 2>&1 &
+  APP=$!
+  trap 'kill $APP 2>/dev/null || true' EXIT
+  until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+  echo "time,active,pending,acquire_p99_s,statements" > "$OUT/db-$mode-pool.csv"
+  (
+    while kill -0 $APP 2>/dev/null; do
+      echo "$(date +%s),$(metric hikaricp.connections.active),$(metric hikaricp.connections.pending),$(metric hikaricp.connections.acquire.percentile phi:0.99),$(metric db.statements)" >> "$OUT/db-$mode-pool.csv"
+      sleep 5
+    done
+  ) &
+  SAMPLER=$!
+
+  before=$(server_status)
+  k6 run -q -e BASE_URL="$BASE_URL" -e VUS="$VUS" --summary-export "$OUT/db-$mode-k6.json" loadtest/read-mix.js
+  after=$(server_status)
+
+  kill $APP; wait $APP 2>/dev/null || true
+  kill $SAMPLER 2>/dev/null || true
+  trap - EXIT
+
+  echo "요청/초: $(sed -n 's/.*"http_reqs":{[^}]*"rate":\([0-9.]*\).*/\1/p' "$OUT/db-$mode-k6.json")"
+  echo "최대 대기 커넥션: $(tail -n +2 "$OUT/db-$mode-pool.csv" | cut -d, -f3 | sort -n | tail -1)"
+  echo "MySQL 전: $before"
+  echo "MySQL 후: $after"
+done
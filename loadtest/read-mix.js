@@ -0,0 +1,45 @@
+// ✅ 조회 위주 부하 (k6): 가상 스레드 모드 비교(compare.sh) / 데이터 접근 설정 비교(db-compare.sh)
+// - 동시 연결 VUS 개(기본 5000)가 쉬지 않고 DB 를 타는 조회를 보냄
+// - 실행: k6 run -e BASE_URL=http://localhost:8080 -e VUS=5000 loadtest/read-mix.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '5000', 10);
+const DEBATES = parseInt(__ENV.DEBATES || '100', 10);
+
+export const options = {
+    scenarios: {
+        connections: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },            // 연결 늘리기
+                { duration: __ENV.HOLD || '2m', target: VUS }, // 측정 구간
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// 캐시에 덜 걸리도록 토론/카테고리를 돌려 가며 조회
+const CATEGORIES = ['게임', '사회', '연애', '음식', '기타'];
+
+export default function () {
+    const id = 1 + Math.floor(Math.random() * DEBATES);
+    const category = CATEGORIES[Math.floor(Math.random() * CATEGORIES.length)];
+    const roll = Math.random();
+    let res;
+    if (roll < 0.4) {
+        res = http.get(`${BASE_URL}/api/debates/list?category=${encodeURIComponent(category)}&size=20`, { tags: { name: 'list' } });
+    } else if (roll < 0.7) {
+        res = http.get(`${BASE_URL}/api/debates/${id}/comments/tree`, { tags: { name: 'comments' } });
+    } else if (roll < 0.9) {
+        res = http.get(`${BASE_URL}/api/stats/users/user${id}`, { tags: { name: 'stats' } });
+    } else {
+        res = http.get(`${BASE_URL}/api/debates/${id}/summary`, { tags: { name: 'summary' } });
+    }
+    check(res, { 'status 2xx/404': (r) => (r.status >= 200 && r.status < 300) || r.status === 404 });
+}
@@ -0,0 +1,24 @@
+package com.example.kakaoboard.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.security.Principal;
+
+/**
+ * ✅ 토큰에서 꺼낸 로그인 사용자 (컨트롤러에서 @AuthenticationPrincipal AuthUser 로 받음)
+ * - DB 를 다시 조회하지 않음 → 서명이 맞으면 이 값을 그대로 믿음
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AuthUser implements Principal {
+    private final Long id;
+    private final String username;
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.kakaoboard.auth;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * ✅ BCrypt cost 자동 보정
+ * - 서버 CPU 에서 해시 1번이 target-ms 안쪽이 되는 가장 큰 cost 를 고름 (cost +1 = 시간 2배)
+ * - 하한 min 아래로는 내려가지 않음 (느린 서버라도 보안 강도 유지)
+ */
+public final class BCryptCalibration {
+
+    // 기존 기본값(10) 아래로는 내리지 않음
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 14;
+
+    private static final String SAMPLE = "calibration-Password1";
+
+    private BCryptCalibration() {
+    }
+
+    public static int calibratedStrength(long targetMillis) {
+        return strengthFor(targetMillis, MIN_STRENGTH, MAX_STRENGTH);
+    }
+
+    static int strengthFor(long targetMillis, int min, int max) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(min);
+        encoder.encode(SAMPLE); // JIT 워밍업
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int strength = min;
+        long nanos = best;
+        long target = targetMillis * 1_000_000;
+        while (strength < max && nanos * 2 <= target) {
+            nanos *= 2;
+            strength++;
+        }
+        return strength;
+    }
+}
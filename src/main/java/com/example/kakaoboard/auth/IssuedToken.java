@@ -0,0 +1,16 @@
+package com.example.kakaoboard.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * ✅ 발급된 토큰 + 만료 시각
+ */
+@Getter
+@AllArgsConstructor
+public class IssuedToken {
+    private final String token;
+    private final Instant expiresAt;
+}
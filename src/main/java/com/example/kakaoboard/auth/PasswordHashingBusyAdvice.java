@@ -0,0 +1,21 @@
+package com.example.kakaoboard.auth;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * ✅ 해시 대기열이 가득 차서 거절된 요청 → 503 + Retry-After (로그인/비밀번호 확인/수정/탈퇴 공통)
+ */
+@RestControllerAdvice
+public class PasswordHashingBusyAdvice {
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<String> busy(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+}
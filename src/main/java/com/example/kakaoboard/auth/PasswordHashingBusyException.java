@@ -0,0 +1,11 @@
+package com.example.kakaoboard.auth;
+
+/**
+ * ✅ 비밀번호 해시 대기열이 가득 참 → 컨트롤러에서 503 + Retry-After
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("⏳ 로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
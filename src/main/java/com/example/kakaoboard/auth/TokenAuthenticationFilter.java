@@ -0,0 +1,67 @@
+package com.example.kakaoboard.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ✅ Authorization: Bearer 토큰 확인 (SecurityConfig 에서 CORS 다음, 요청 제한 앞에 등록)
+ * - 토큰 없음: 익명으로 통과 (로그인 필요한 경로는 SecurityConfig 가 401)
+ * - 토큰 있음 + 서명/만료 불일치: 바로 401 → 프론트가 다시 로그인
+ * - kakaoboard.admin.user-ids 에 있는 사용자는 ROLE_ADMIN 도 (토큰이 아니라 서버 설정으로만 정해짐)
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final TokenService tokenService;
+    private final Set<Long> adminIds;
+
+    public TokenAuthenticationFilter(TokenService tokenService, Set<Long> adminIds) {
+        this.tokenService = tokenService;
+        this.adminIds = Set.copyOf(adminIds);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AuthUser> user = tokenService.verify(header.substring(BEARER.length()).trim());
+        if (user.isEmpty()) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("🔒 로그인이 만료되었습니다. 다시 로그인해주세요.");
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                user.get(), null, adminIds.contains(user.get().getId())
+                        ? AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN")
+                        : AuthorityUtils.createAuthorityList("ROLE_USER")));
+        SecurityContextHolder.setContext(context);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.kakaoboard.auth;
+
+import com.example.kakaoboard.domain.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ✅ 로그인 토큰 발급/검증 (JWT 형식, HS256)
+ * - 토큰 = base64url(header).base64url({sub, name, iat, exp}).base64url(HMAC-SHA256)
+ * - 검증 = HMAC 1번 + 만료 확인 → 요청마다 DB 조회/BCrypt 없음
+ * - 키를 넣은 Mac 을 스레드마다 1개씩 만들어 재사용 (요청마다 키 초기화 안 함)
+ * - secret 이 비어 있으면 기동할 때마다 무작위 키 → 재시작하면 모두 다시 로그인
+ */
+@Slf4j
+@Component
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    // 헤더는 항상 같으므로 미리 인코딩 (검증 때는 문자열 비교만)
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public TokenService(ObjectMapper objectMapper,
+                        @Value("${kakaoboard.auth.secret:}") String secret,
+                        @Value("${kakaoboard.auth.token-ttl-minutes:720}") long ttlMinutes) {
+        this(objectMapper, secret, Duration.ofMinutes(ttlMinutes), Clock.systemUTC());
+    }
+
+    TokenService(ObjectMapper objectMapper, String secret, Duration ttl, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.clock = clock;
+
+        byte[] key;
+        if (secret == null || secret.isBlank()) {
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+            log.warn("kakaoboard.auth.secret 이 비어 있어 임시 키를 사용합니다. 재시작하면 모든 토큰이 무효가 됩니다.");
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+            if (key.length < 32) {
+                throw new IllegalStateException("kakaoboard.auth.secret 은 32바이트 이상이어야 합니다.");
+            }
+        }
+        SecretKeySpec keySpec = new SecretKeySpec(key, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(keySpec);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * ✅ 로그인 성공 시 토큰 발급
+     */
+    public IssuedToken issue(User user) {
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(ttl);
+
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", String.valueOf(user.getId()));
+        claims.put("name", user.getUsername());
+        claims.put("iat", now.getEpochSecond());
+        claims.put("exp", expiresAt.getEpochSecond());
+
+        String payload;
+        try {
+            payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        String signingInput = HEADER + "." + payload;
+        return new IssuedToken(signingInput + "." + ENCODER.encodeToString(sign(signingInput)), expiresAt);
+    }
+
+    /**
+     * ✅ 서명 + 만료 확인 → 로그인 사용자 (위조/만료/형식 오류면 empty)
+     */
+    public Optional<AuthUser> verify(String token) {
+        if (token == null) return Optional.empty();
+        int first = token.indexOf('.');
+        int second = token.indexOf('.', first + 1);
+        if (first < 0 || second < 0 || token.indexOf('.', second + 1) >= 0) return Optional.empty();
+        if (!HEADER.equals(token.substring(0, first))) return Optional.empty();
+
+        try {
+            byte[] signature = DECODER.decode(token.substring(second + 1));
+            if (!MessageDigest.isEqual(signature, sign(token.substring(0, second)))) return Optional.empty();
+
+            JsonNode claims = objectMapper.readTree(DECODER.decode(token.substring(first + 1, second)));
+            if (claims.path("exp").asLong(0) <= clock.instant().getEpochSecond()) return Optional.empty();
+            return Optional.of(new AuthUser(Long.valueOf(claims.path("sub").asText()), claims.path("name").asText()));
+        } catch (IllegalArgumentException | IOException e) {
+            // base64 / JSON / 숫자 형식 오류
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String signingInput) {
+        // doFinal 후 Mac 은 초기 상태로 돌아가므로 그대로 재사용
+        return macs.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.kakaoboard.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * ✅ 채팅 기록: 추가 전용(append-only) 세그먼트 로그 (방 1개당 1개, ChatHistoryStore 가 관리)
+ * - 파일 = {시작 offset 20자리}.log, mmap 으로 열어 메모리 복사만으로 기록
+ * - 레코드 = [길이 int][crc32 int][ChatMessage JSON]
+ * - offset = 전체 메시지 순번, 세그먼트마다 (offset - 시작 offset) → 파일 위치 인덱스
+ * - 디스크 반영(force)은 ChatHistoryStore 가 flush-interval-ms 마다 모아서 1번 (group commit)
+ * - 세그먼트가 차면 새 파일로 넘어가고, max-segments 를 넘는 가장 오래된 파일은 삭제
+ */
+@Slf4j
+public class ChatHistoryLog {
+
+    public static final int DEFAULT_REPLAY = 50;
+    public static final int MAX_REPLAY = 500;
+
+    private static final int HEADER_BYTES = 8;
+
+    private final ObjectMapper objectMapper;
+    private final Path dir;
+    private final int segmentBytes;
+    private final int maxSegments;
+
+    // 오래된 순서 (마지막이 현재 쓰는 세그먼트)
+    private final List<Segment> segments = new ArrayList<>();
+
+    // 다음에 쓸 offset (읽는 쪽은 이 값 미만만 읽음)
+    private volatile long nextOffset;
+
+    // 닫힌 뒤에는 쓰기 거절 (ChatHistoryStore 가 새로 열어서 다시 씀)
+    private volatile boolean closed;
+
+    ChatHistoryLog(ObjectMapper objectMapper, Path dir, int segmentBytes, int maxSegments) {
+        this.objectMapper = objectMapper;
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = Math.max(1, maxSegments);
+    }
+
+    /**
+     * ✅ 기존 세그먼트 복구 (crc 가 깨진 레코드부터는 버림)
+     */
+    public synchronized void open() throws IOException {
+        Files.createDirectories(dir);
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(p -> p.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+        for (Path file : files) {
+            Segment segment = Segment.open(file, baseOffsetOf(file), segmentBytes);
+            segments.add(segment);
+            nextOffset = segment.baseOffset + segment.count;
+        }
+        if (segments.isEmpty()) {
+            segments.add(Segment.create(dir, 0, segmentBytes));
+        }
+        log.info("채팅 기록 복구: dir={} segments={} nextOffset={}", dir, segments.size(), nextOffset);
+    }
+
+    /**
+     * ✅ 메시지 추가 → 부여된 offset 반환
+     * - JSON 변환은 락 밖에서, 락 안에서는 mmap 복사만
+     * @throws ClosedException 이미 닫힌 기록 (유휴 정리/방 삭제)
+     */
+    public long append(ChatMessage message) {
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (payload.length + HEADER_BYTES > segmentBytes) {
+            throw new IllegalArgumentException("메시지가 세그먼트보다 큽니다: " + payload.length);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        synchronized (this) {
+            if (closed) throw new ClosedException(dir);
+            Segment active = segments.get(segments.size() - 1);
+            if (!active.hasRoom(payload.length)) {
+                active = roll();
+            }
+            active.write(payload, (int) crc.getValue());
+            return nextOffset++;
+        }
+    }
+
+    /**
+     * ✅ 다시 받기: since 가 있으면 그 offset 부터, 없으면 최근 limit 개
+     */
+    public List<ChatMessage> replay(Long since, Integer limit) {
+        int size = Math.min(limit == null ? DEFAULT_REPLAY : Math.max(1, limit), MAX_REPLAY);
+        return since == null ? tail(size) : since(since, size);
+    }
+
+    /**
+     * ✅ 최근 N개
+     */
+    public List<ChatMessage> tail(int limit) {
+        long end = nextOffset;
+        return read(Math.max(0, end - limit), end);
+    }
+
+    /**
+     * ✅ offset 이후(포함) 최대 limit 개
+     */
+    public List<ChatMessage> since(long offset, int limit) {
+        long end = nextOffset;
+        return read(Math.max(0, offset), Math.min(end, Math.max(0, offset) + limit));
+    }
+
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    /**
+     * ✅ group commit: 마지막 반영 이후 기록된 구간만 디스크에 반영
+     */
+    public void flush() {
+        Segment active;
+        synchronized (this) {
+            if (closed) return;
+            active = segments.get(segments.size() - 1);
+        }
+        try {
+            active.force();
+        } catch (RuntimeException e) {
+            // 반영 도중 닫힘 → close 가 이미 반영함
+            if (!closed) throw e;
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * ✅ 디스크 반영 후 파일 닫기 (이후 append 는 ClosedException, 이미 읽던 조회는 그대로 끝남)
+     */
+    public synchronized void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        for (Segment segment : segments) {
+            segment.force();
+            segment.channel.close();
+        }
+    }
+
+    /**
+     * ✅ 닫힌 기록에 쓰려고 함
+     */
+    public static class ClosedException extends IllegalStateException {
+        ClosedException(Path dir) {
+            super("채팅 기록이 닫혔습니다: " + dir);
+        }
+    }
+
+    private List<ChatMessage> read(long from, long to) {
+        List<Segment> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(segments);
+        }
+        List<ChatMessage> result = new ArrayList<>((int) Math.max(0, to - from));
+        for (Segment segment : snapshot) {
+            long segEnd = segment.baseOffset + segment.count;
+            if (segEnd <= from || segment.baseOffset >= to) continue;
+            for (long offset = Math.max(from, segment.baseOffset); offset < Math.min(to, segEnd); offset++) {
+                ChatMessage message = decode(segment.payload(offset));
+                message.setOffset(offset);
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    private ChatMessage decode(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, ChatMessage.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 호출자가 this 락을 잡고 있음
+    private Segment roll() {
+        Segment sealed = segments.get(segments.size() - 1);
+        sealed.force();
+        try {
+            Segment next = Segment.create(dir, nextOffset, segmentBytes);
+            segments.add(next);
+            while (segments.size() > maxSegments) {
+                Segment oldest = segments.remove(0);
+                oldest.channel.close();
+                Files.deleteIfExists(oldest.file);
+            }
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long baseOffsetOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - ".log".length()));
+    }
+
+    /**
+     * ✅ 세그먼트 1개 = mmap 파일 + offset 인덱스(파일 내 위치 배열)
+     */
+    static final class Segment {
+
+        final Path file;
+        final long baseOffset;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+
+        // i 번째 레코드의 파일 내 위치
+        private int[] positions = new int[1024];
+        // 인덱스에 들어간 레코드 수 (읽는 쪽은 ChatHistoryLog.nextOffset 으로 범위를 제한)
+        volatile int count;
+
+        private int writePos;
+        private int flushedPos;
+
+        private Segment(Path file, long baseOffset, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.baseOffset = baseOffset;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path dir, long baseOffset, int size) throws IOException {
+            return open(dir.resolve(String.format("%020d.log", baseOffset)), baseOffset, size);
+        }
+
+        static Segment open(Path file, long baseOffset, int size) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            int mapSize = (int) Math.max(size, channel.size());
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mapSize);
+            Segment segment = new Segment(file, baseOffset, channel, buffer);
+            segment.recover();
+            return segment;
+        }
+
+        private void recover() {
+            int pos = 0;
+            int n = 0;
+            while (pos + HEADER_BYTES <= buffer.capacity()) {
+                int length = buffer.getInt(pos);
+                if (length <= 0 || pos + HEADER_BYTES + length > buffer.capacity()) break;
+                byte[] payload = new byte[length];
+                buffer.get(pos + HEADER_BYTES, payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt(pos + 4)) break;
+                index(n++, pos);
+                pos += HEADER_BYTES + length;
+            }
+            // 깨진 꼬리는 0 으로 지워서 다음 복구 때 끝으로 인식되게 함
+            if (pos + 4 <= buffer.capacity()) buffer.putInt(pos, 0);
+            writePos = pos;
+            flushedPos = pos;
+            count = n;
+        }
+
+        boolean hasRoom(int payloadLength) {
+            // 다음 레코드 길이 자리(0 = 끝 표시)까지 남겨 둠
+            return writePos + HEADER_BYTES + payloadLength + 4 <= buffer.capacity();
+        }
+
+        synchronized void write(byte[] payload, int crc) {
+            int pos = writePos;
+            buffer.put(pos + HEADER_BYTES, payload);
+            buffer.putInt(pos + 4, crc);
+            buffer.putInt(pos + HEADER_BYTES + payload.length, 0);
+            // 길이는 마지막에 기록 → 중간에 죽으면 이전 레코드까지만 복구됨
+            buffer.putInt(pos, payload.length);
+            writePos = pos + HEADER_BYTES + payload.length;
+            index(count, pos);
+            count = count + 1;
+        }
+
+        byte[] payload(long offset) {
+            int pos;
+            synchronized (this) {
+                pos = positions[(int) (offset - baseOffset)];
+            }
+            byte[] payload = new byte[buffer.getInt(pos)];
+            buffer.get(pos + HEADER_BYTES, payload);
+            return payload;
+        }
+
+        void force() {
+            int from;
+            int to;
+            synchronized (this) {
+                from = flushedPos;
+                to = writePos;
+                flushedPos = to;
+            }
+            if (to > from) {
+                buffer.force(from, to - from);
+            }
+        }
+
+        private synchronized void index(int i, int pos) {
+            if (i == positions.length) {
+                positions = Arrays.copyOf(positions, positions.length * 2);
+            }
+            positions[i] = pos;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.kakaoboard.chat;
+
+import com.example.kakaoboard.event.DebateEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * ✅ 방별 채팅 기록 (dir/{roomId}/ 아래에 세그먼트 로그)
+ * - 방 기록은 처음 쓰거나 읽을 때 열림 (기존 파일이 있으면 복구)
+ * - 열린 기록(mmap + 파일)은 max-open-rooms 개까지, idle-close-minutes 동안 안 쓰면 닫음 → 다시 쓰면 파일에서 복구
+ * - 토론이 삭제되면 그 방의 기록 파일도 삭제 (삭제 표시를 먼저 남겨, 닫기~파일 삭제 사이에 다시 열리지 않게)
+ * - 열린 방 로그만 flush-interval-ms 마다 모아서 디스크 반영 (group commit)
+ */
+@Slf4j
+@Component
+public class ChatHistoryStore {
+
+    private final ObjectMapper objectMapper;
+    private final Path dir;
+    private final int segmentBytes;
+    private final int maxSegments;
+
+    // roomId → 열린 기록 (밀려날 때 evictionListener 가 같은 키의 새 열기보다 먼저 닫음)
+    private final Cache<String, ChatHistoryLog> logs;
+    // 삭제된 방 (이 동안은 열기/쓰기 거부, 방 목록에서도 빠지므로 늦게 도착한 요청만 걸러내면 됨)
+    private final Cache<String, Boolean> deleted = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public ChatHistoryStore(ObjectMapper objectMapper,
+                            @Value("${kakaoboard.chat.history.dir:./data/chat-log}") String dir,
+                            @Value("${kakaoboard.chat.history.segment-size-mb:8}") int segmentSizeMb,
+                            @Value("${kakaoboard.chat.history.max-segments:16}") int maxSegments,
+                            @Value("${kakaoboard.chat.history.max-open-rooms:256}") int maxOpenRooms,
+                            @Value("${kakaoboard.chat.history.idle-close-minutes:10}") int idleCloseMinutes) {
+        this.objectMapper = objectMapper;
+        this.dir = Path.of(dir);
+        this.segmentBytes = segmentSizeMb * 1024 * 1024;
+        this.maxSegments = maxSegments;
+        this.logs = Caffeine.newBuilder()
+                .maximumSize(maxOpenRooms)
+                .expireAfterAccess(Duration.ofMinutes(idleCloseMinutes))
+                .evictionListener((String roomId, ChatHistoryLog history, RemovalCause cause) -> close(roomId, history))
+                .build();
+    }
+
+    /**
+     * ✅ 방 기록 (roomId 는 ChatRoomRegistry 에서 확인된 값만 들어옴)
+     * - 조회용: 돌려받은 뒤 닫혀도 읽기는 그대로 됨, 쓰기는 append 사용
+     */
+    public ChatHistoryLog log(String roomId) {
+        return logs.get(roomId, id -> {
+            // 같은 키의 삭제(computeIfPresent)와 겹치지 않음 → 삭제 표시 뒤에는 새로 열지 않음
+            if (deleted.getIfPresent(id) != null) throw new ChatHistoryLog.ClosedException(dir.resolve(id));
+            ChatHistoryLog history = new ChatHistoryLog(objectMapper, dir.resolve(id), segmentBytes, maxSegments);
+            try {
+                history.open();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return history;
+        });
+    }
+
+    /**
+     * ✅ 메시지 기록 → offset (받아 온 기록이 그 사이 유휴 정리로 닫혔으면 다시 열어서)
+     */
+    public long append(String roomId, ChatMessage message) {
+        while (true) {
+            try {
+                return log(roomId).append(message);
+            } catch (ChatHistoryLog.ClosedException e) {
+                // 방이 삭제돼서 닫힘 → 다시 열지 않고 그만둠
+                if (deleted.getIfPresent(roomId) != null) throw e;
+                // 유휴 정리로 닫힘 → 이미 캐시에서 빠졌으므로 다음 log() 가 새로 엶
+            }
+        }
+    }
+
+    /**
+     * ✅ 토론 삭제 → 방 기록 닫고 파일 삭제
+     */
+    @EventListener
+    public void onDebateEvent(DebateEvent event) {
+        if (event.getType() != DebateEvent.Type.DELETED || event.getDebateId() == null) return;
+        String roomId = ChatRoom.debateRoomId(event.getDebateId());
+        deleted.put(roomId, Boolean.TRUE);
+        logs.asMap().computeIfPresent(roomId, (id, history) -> {
+            close(id, history);
+            return null;
+        });
+        delete(dir.resolve(roomId));
+    }
+
+    @Scheduled(fixedDelayString = "${kakaoboard.chat.history.flush-interval-ms:10}")
+    public void flush() {
+        logs.asMap().values().forEach(ChatHistoryLog::flush);
+    }
+
+    // 유휴 기록 닫기 (Caffeine 은 접근할 때만 만료 처리 → 아무도 안 쓰는 동안에도 닫히게)
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        logs.cleanUp();
+    }
+
+    long openCount() {
+        return logs.estimatedSize();
+    }
+
+    @PreDestroy
+    public void close() {
+        logs.asMap().forEach(this::close);
+        logs.invalidateAll();
+    }
+
+    private void close(String roomId, ChatHistoryLog history) {
+        try {
+            history.close();
+        } catch (IOException e) {
+            log.warn("채팅 기록 닫기 실패: room={}", roomId, e);
+        }
+    }
+
+    private void delete(Path roomDir) {
+        if (!Files.isDirectory(roomDir)) return;
+        try (Stream<Path> files = Files.walk(roomDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+            log.info("채팅 기록 삭제: dir={}", roomDir);
+        } catch (IOException e) {
+            log.warn("채팅 기록 삭제 실패: dir={}", roomDir, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.kakaoboard.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ✅ 채팅방
+ * - public     : 기본 전체 채팅방
+ * - debate-{id}: 토론마다 자동으로 생기는 방
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoom {
+
+    public static final String PUBLIC = "public";
+
+    private String id;
+    private String name;
+    private Long debateId;   // 토론 방이 아니면 null
+
+    public static String debateRoomId(Long debateId) {
+        return "debate-" + debateId;
+    }
+
+    // ✅ 채팅 메시지 + 입장/퇴장 알림
+    public static String topic(String roomId) {
+        return "/topic/rooms/" + roomId;
+    }
+
+    // ✅ 접속자 변경분
+    public static String presenceTopic(String roomId) {
+        return topic(roomId) + "/presence";
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.kakaoboard.chat;
+
+import com.example.kakaoboard.event.DebateEvent;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ✅ 채팅방 목록
+ * - 토론이 생성되면 debate-{id} 방을 만들고, 삭제되면 제거
+ * - 서버 재시작 전에 만들어진 토론 방은 처음 찾을 때 DB 확인 후 등록
+ * - 없는 토론 id 는 MISS_TTL 동안 기억 → 같은 없는 방을 계속 찾아도 매번 DB 를 치지 않음
+ *   (이 서버에서 생성되면 바로 지움, 다른 서버에서 생성된 토론은 최대 MISS_TTL 늦게 열림)
+ * - 등록된 방 id 만 허용 (기록 파일 경로로도 쓰이므로 임의 문자열 거부)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomRegistry {
+
+    private static final Pattern DEBATE_ROOM = Pattern.compile("debate-(\\d{1,18})");
+    private static final Duration MISS_TTL = Duration.ofSeconds(10);
+
+    private final DebateRepository debateRepository;
+
+    private final Map<String, ChatRoom> rooms = new ConcurrentHashMap<>(
+            Map.of(ChatRoom.PUBLIC, new ChatRoom(ChatRoom.PUBLIC, "전체 채팅", null)));
+    private final Cache<Long, Boolean> missing = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(MISS_TTL)
+            .build();
+
+    public Optional<ChatRoom> find(String roomId) {
+        if (roomId == null) return Optional.empty();
+        ChatRoom room = rooms.get(roomId);
+        if (room != null) return Optional.of(room);
+
+        Matcher m = DEBATE_ROOM.matcher(roomId);
+        if (m.matches()) {
+            Long debateId = Long.valueOf(m.group(1));
+            if (missing.getIfPresent(debateId) != null) return Optional.empty();
+            if (debateRepository.existsById(debateId)) {
+                return Optional.of(rooms.computeIfAbsent(roomId, id -> debateRoom(debateId)));
+            }
+            missing.put(debateId, Boolean.TRUE);
+        }
+        return Optional.empty();
+    }
+
+    public Collection<ChatRoom> rooms() {
+        return List.copyOf(rooms.values());
+    }
+
+    @EventListener
+    public void onDebateEvent(DebateEvent event) {
+        if (event.getDebateId() == null) return;
+        String roomId = ChatRoom.debateRoomId(event.getDebateId());
+        if (event.getType() == DebateEvent.Type.CREATED) {
+            missing.invalidate(event.getDebateId());
+            rooms.putIfAbsent(roomId, debateRoom(event.getDebateId()));
+        } else if (event.getType() == DebateEvent.Type.DELETED) {
+            rooms.remove(roomId);
+        }
+    }
+
+    private static ChatRoom debateRoom(Long debateId) {
+        return new ChatRoom(ChatRoom.debateRoomId(debateId), "토론 #" + debateId, debateId);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.kakaoboard.chat;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ✅ 방 상태 샤딩: 방 id 로 고른 단일 스레드 실행기에서만 그 방의 작업 처리
+ * - 같은 방의 입장/퇴장/메시지는 항상 같은 스레드 → 순서 보장, 전역 락 없음
+ * - 다른 방은 다른 스레드에서 병렬 처리 → 한 방이 붐벼도 나머지 방은 막히지 않음
+ */
+@Slf4j
+@Component
+public class ChatRoomShards {
+
+    private final ExecutorService[] shards;
+
+    public ChatRoomShards(@Value("${kakaoboard.chat.room-shards:0}") int shardCount) {
+        int n = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new ExecutorService[n];
+        for (int i = 0; i < n; i++) {
+            String name = "chat-room-" + i;
+            shards[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    public int size() {
+        return shards.length;
+    }
+
+    /**
+     * ✅ 방 작업 실행 (결과 필요 없음)
+     */
+    public void execute(String roomId, Runnable task) {
+        shardOf(roomId).execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("채팅방 작업 실패: room={}", roomId, e);
+            }
+        });
+    }
+
+    /**
+     * ✅ 방 작업 실행 (결과 필요)
+     */
+    public <T> CompletableFuture<T> submit(String roomId, Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, shardOf(roomId));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+        for (ExecutorService shard : shards) {
+            shard.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private ExecutorService shardOf(String roomId) {
+        return shards[Math.floorMod(roomId.hashCode(), shards.length)];
+    }
+}
@@ -1,14 +1,16 @@
-// src/main/java/com/example/kakaoboard/chat/MessageDTO.java
 package com.example.kakaoboard.chat;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * ✅ 접속자 정보 (/topic/users 로 나가는 항목)
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class MessageDTO {
-    private String nickname;
+public class ChatUser {
+    private String sender;   // 닉네임
     private String ip;
 }
@@ -0,0 +1,91 @@
+package com.example.kakaoboard.chat;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 단일 서버용 접속자 저장소 (JVM 메모리)
+ */
+@Component
+@ConditionalOnProperty(name = "kakaoboard.chat.presence", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPresenceRegistry implements PresenceRegistry {
+
+    // roomId -> 방 접속자
+    private final Map<String, RoomPresence> rooms = new ConcurrentHashMap<>();
+
+    // sessionId -> 들어가 있는 방들
+    private final Map<String, Set<String>> roomsBySession = new ConcurrentHashMap<>();
+
+    @Override
+    public void join(String roomId, String sessionId, String sender, String ip) {
+        RoomPresence room = rooms.computeIfAbsent(roomId, id -> new RoomPresence());
+
+        // 🎯 같은 닉네임(sender)을 가진 이전 세션 제거해서 중복 방지
+        if (sender != null) {
+            String previous = room.sessionBySender.put(sender, sessionId);
+            if (previous != null && !previous.equals(sessionId)) {
+                room.connectedUsers.remove(previous);
+                forget(previous, roomId);
+            }
+        }
+
+        room.connectedUsers.put(sessionId, new ChatUser(sender, ip));
+        roomsBySession.compute(sessionId, (id, joined) -> {
+            Set<String> set = joined != null ? joined : ConcurrentHashMap.newKeySet();
+            set.add(roomId);
+            return set;
+        });
+    }
+
+    @Override
+    public Optional<ChatUser> leave(String roomId, String sessionId) {
+        RoomPresence room = rooms.get(roomId);
+        if (room == null) return Optional.empty();
+
+        ChatUser removed = room.connectedUsers.remove(sessionId);
+        if (removed != null && removed.getSender() != null) {
+            // 그 사이 같은 닉네임이 새 세션으로 들어왔으면 인덱스는 유지
+            room.sessionBySender.remove(removed.getSender(), sessionId);
+        }
+        forget(sessionId, roomId);
+        // 빈 방은 정리 (방 작업은 한 스레드에서만 들어오므로 안전)
+        if (room.connectedUsers.isEmpty()) {
+            rooms.remove(roomId, room);
+        }
+        return Optional.ofNullable(removed);
+    }
+
+    @Override
+    public Collection<String> roomsOf(String sessionId) {
+        Set<String> joined = roomsBySession.get(sessionId);
+        return joined == null ? List.of() : List.copyOf(joined);
+    }
+
+    @Override
+    public Collection<ChatUser> users(String roomId) {
+        RoomPresence room = rooms.get(roomId);
+        return room == null ? List.of() : List.copyOf(room.connectedUsers.values());
+    }
+
+    private void forget(String sessionId, String roomId) {
+        roomsBySession.computeIfPresent(sessionId, (id, joined) -> {
+            joined.remove(roomId);
+            return joined.isEmpty() ? null : joined;
+        });
+    }
+
+    private static final class RoomPresence {
+        // sessionId -> { sender, ip }
+        final Map<String, ChatUser> connectedUsers = new ConcurrentHashMap<>();
+
+        // sender -> sessionId (닉네임 중복 제거를 전체 스캔 없이 O(1) 로)
+        final Map<String, String> sessionBySender = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.kakaoboard.chat;
+
+import com.example.kakaoboard.domain.ChatPresence;
+import com.example.kakaoboard.repository.ChatPresenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * ✅ 여러 서버 공유 접속자 저장소 (chat_presence 테이블)
+ * - 서버 A 에 접속한 사용자도 서버 B 의 같은 방 접속자 목록에 보임
+ * - 각 서버는 heartbeat 마다 자기 세션의 lastSeen 갱신
+ * - ttl 동안 갱신이 없으면 (서버 다운) 목록에서 빠지고 정리됨
+ */
+@Component
+@ConditionalOnProperty(name = "kakaoboard.chat.presence", havingValue = "jdbc")
+public class JdbcPresenceRegistry implements PresenceRegistry {
+
+    private final ChatPresenceRepository repository;
+    private final String nodeId;
+    private final long ttlSeconds;
+
+    public JdbcPresenceRegistry(ChatPresenceRepository repository,
+                                @Value("${kakaoboard.chat.node-id:${random.uuid}}") String nodeId,
+                                @Value("${kakaoboard.chat.presence-ttl-seconds:30}") long ttlSeconds) {
+        this.repository = repository;
+        this.nodeId = nodeId;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @Override
+    @Transactional
+    public void join(String roomId, String sessionId, String sender, String ip) {
+        // 🎯 같은 방에 같은 닉네임의 이전 세션 제거 (다른 서버에 있던 세션 포함)
+        if (sender != null) {
+            repository.deleteByRoomIdAndSender(roomId, sender);
+        }
+        repository.save(ChatPresence.builder()
+                .id(ChatPresence.idOf(roomId, sessionId))
+                .roomId(roomId)
+                .sessionId(sessionId)
+                .sender(sender)
+                .ip(ip)
+                .nodeId(nodeId)
+                .lastSeen(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public Optional<ChatUser> leave(String roomId, String sessionId) {
+        String id = ChatPresence.idOf(roomId, sessionId);
+        Optional<ChatUser> user = repository.findById(id)
+                .map(p -> new ChatUser(p.getSender(), p.getIp()));
+        if (user.isPresent() && repository.deletePresence(id) > 0) {
+            return user;
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Collection<String> roomsOf(String sessionId) {
+        return repository.findRoomIdsBySessionId(sessionId);
+    }
+
+    @Override
+    public Collection<ChatUser> users(String roomId) {
+        return repository.findByRoomIdAndLastSeenAfter(roomId, LocalDateTime.now().minusSeconds(ttlSeconds)).stream()
+                .map(p -> new ChatUser(p.getSender(), p.getIp()))
+                .toList();
+    }
+
+    /** ✅ 생존 신호 + 죽은 서버 세션 정리 (ttl 의 1/3 주기) */
+    @Scheduled(fixedDelayString = "#{${kakaoboard.chat.presence-ttl-seconds:30} * 1000 / 3}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        repository.touchNode(nodeId, now);
+        repository.deleteStale(now.minusSeconds(ttlSeconds));
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+}
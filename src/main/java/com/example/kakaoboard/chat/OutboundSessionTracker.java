@@ -0,0 +1,154 @@
+package com.example.kakaoboard.chat;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 세션별 송신 버퍼 + 느린 클라이언트 처리 + 지표
+ * - overflow=drop      : 버퍼가 넘치면 오래된 프레임부터 버림 (연결 유지)
+ * - overflow=terminate : 버퍼가 넘치면 연결 종료 (Spring 기본 동작)
+ * - 어느 쪽이든 send-time-limit-ms 동안 한 프레임도 못 보내면 연결 종료
+ * - 지표: chat.outbound.sessions / chat.outbound.queue.depth / chat.outbound.dropped (바이트)
+ */
+@Component
+public class OutboundSessionTracker {
+
+    private final boolean dropOnOverflow;
+    private final int sendTimeLimitMs;
+    private final int sendBufferSizeBytes;
+
+    // sessionId → 추적 중인 세션
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+
+    // 이미 닫힌 세션들의 누적 드롭 수
+    private final AtomicLong closedDropped = new AtomicLong();
+
+    public OutboundSessionTracker(MeterRegistry meterRegistry,
+                                  @Value("${kakaoboard.chat.outbound.overflow:drop}") String overflow,
+                                  @Value("${kakaoboard.chat.outbound.send-time-limit-ms:10000}") int sendTimeLimitMs,
+                                  @Value("${kakaoboard.chat.outbound.send-buffer-size-kb:512}") int sendBufferSizeKb) {
+        this.dropOnOverflow = "drop".equals(overflow);
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.sendBufferSizeBytes = sendBufferSizeKb * 1024;
+
+        Gauge.builder("chat.outbound.sessions", sessions, Map::size)
+                .description("추적 중인 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.outbound.queue.depth", this, OutboundSessionTracker::queueDepth)
+                .description("모든 세션 송신 버퍼에 쌓인 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("chat.outbound.dropped", this, OutboundSessionTracker::droppedTotal)
+                .description("느린 클라이언트 때문에 버려진 프레임 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public int getSendTimeLimitMs() {
+        return sendTimeLimitMs;
+    }
+
+    public int getSendBufferSizeBytes() {
+        return sendBufferSizeBytes;
+    }
+
+    /**
+     * ✅ 연결 시 세션 감싸기 (TrackingSubProtocolWebSocketHandler 에서, 세션당 버퍼는 이것 하나)
+     * - drop: 바이트를 세는 DROP 버퍼 / terminate: Spring 기본과 같은 버퍼
+     */
+    public WebSocketSession track(WebSocketSession session) {
+        if (!dropOnOverflow) {
+            return new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, sendBufferSizeBytes);
+        }
+        TrackedSession tracked = new TrackedSession(session, sendTimeLimitMs, sendBufferSizeBytes);
+        sessions.put(session.getId(), tracked);
+        return tracked;
+    }
+
+    /**
+     * ✅ 연결 종료 시 정리
+     */
+    public void untrack(String sessionId) {
+        TrackedSession removed = sessions.remove(sessionId);
+        if (removed != null) {
+            closedDropped.addAndGet(removed.dropped());
+        }
+    }
+
+    long queueDepth() {
+        long total = 0;
+        for (TrackedSession s : sessions.values()) {
+            total += s.getBufferSize();
+        }
+        return total;
+    }
+
+    long droppedTotal() {
+        long total = closedDropped.get();
+        for (TrackedSession s : sessions.values()) {
+            total += s.dropped();
+        }
+        return total;
+    }
+
+    /**
+     * ✅ 들어온/보낸 바이트를 세는 DROP 버퍼 세션
+     * - 버려진 바이트 = 버퍼에 들어간 바이트 - 실제 전송 바이트 - 버퍼에 남은 바이트
+     * - 동시 전송 중엔 일시적으로 작게 보일 수는 있어도 크게 보이진 않음 (누적 최대값만 보고)
+     */
+    static class TrackedSession extends ConcurrentWebSocketSessionDecorator {
+
+        private final LongAdder bytesIn;
+        private final LongAdder bytesSent;
+        private final AtomicLong droppedBytes = new AtomicLong();
+
+        TrackedSession(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit) {
+            this(delegate, sendTimeLimit, bufferSizeLimit, new LongAdder());
+        }
+
+        private TrackedSession(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit, LongAdder bytesSent) {
+            super(new CountingSession(delegate, bytesSent), sendTimeLimit, bufferSizeLimit, OverflowStrategy.DROP);
+            this.bytesSent = bytesSent;
+            this.bytesIn = new LongAdder();
+            // 버퍼에 들어간 직후 호출됨
+            setMessageCallback(message -> bytesIn.add(message.getPayloadLength()));
+        }
+
+        long dropped() {
+            long current = bytesIn.sum() - bytesSent.sum() - getBufferSize();
+            return droppedBytes.accumulateAndGet(current, Math::max);
+        }
+    }
+
+    /**
+     * ✅ 실제 소켓으로 나간 바이트만 셈
+     */
+    static class CountingSession extends WebSocketSessionDecorator {
+
+        private final LongAdder bytesSent;
+
+        CountingSession(WebSocketSession delegate, LongAdder bytesSent) {
+            super(delegate);
+            this.bytesSent = bytesSent;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            super.sendMessage(message);
+            bytesSent.add(message.getPayloadLength());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.kakaoboard.chat;
+
+import com.example.kakaoboard.event.DebateEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 접속자 변경분 전송 + 스냅샷 생성 (방별)
+ * - 입장/퇴장마다 전체 목록(O(n)) 대신 변경 1건만 /topic/rooms/{roomId}/presence 로 전송
+ * - seq 는 방마다 따로 증가 (같은 방 작업은 한 스레드에서만 호출됨), 토론이 삭제되면 그 방 seq 도 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class PresenceBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final PresenceRegistry presenceRegistry;
+
+    private final Map<String, AtomicLong> seqByRoom = new ConcurrentHashMap<>();
+
+    public void joined(String roomId, ChatUser user) {
+        send(roomId, PresenceDelta.Type.JOIN, user);
+    }
+
+    public void left(String roomId, ChatUser user) {
+        send(roomId, PresenceDelta.Type.LEAVE, user);
+    }
+
+    /**
+     * ✅ 방의 전체 목록
+     * - seq 를 먼저 읽고 목록을 읽음: 그 사이 변경은 클라이언트가 다시 적용해도 결과가 같음 (put/remove)
+     */
+    public PresenceSnapshot snapshot(String roomId) {
+        long current = seq(roomId).get();
+        return new PresenceSnapshot(current, presenceRegistry.nodeId(), presenceRegistry.users(roomId));
+    }
+
+    @EventListener
+    public void onDebateEvent(DebateEvent event) {
+        if (event.getType() == DebateEvent.Type.DELETED && event.getDebateId() != null) {
+            seqByRoom.remove(ChatRoom.debateRoomId(event.getDebateId()));
+        }
+    }
+
+    // 테스트용
+    int roomCount() {
+        return seqByRoom.size();
+    }
+
+    private void send(String roomId, PresenceDelta.Type type, ChatUser user) {
+        PresenceDelta delta = new PresenceDelta(
+                type, seq(roomId).incrementAndGet(), presenceRegistry.nodeId(), user.getSender(), user.getIp());
+        messagingTemplate.convertAndSend(ChatRoom.presenceTopic(roomId), delta);
+    }
+
+    private AtomicLong seq(String roomId) {
+        return seqByRoom.computeIfAbsent(roomId, id -> new AtomicLong());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.kakaoboard.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ✅ 접속자 변경분 (/topic/rooms/{roomId}/presence)
+ * - 전체 목록 대신 한 명 분량만 전송
+ * - seq: 서버(node)별 증가 번호, 스냅샷 이후 변경분만 적용하는 데 사용
+ * - 닉네임은 접속자 중 유일하므로 sender 를 키로 put/remove
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceDelta {
+
+    public enum Type {
+        JOIN, LEAVE
+    }
+
+    private Type type;
+    private long seq;
+    private String node;
+    private String sender;
+    private String ip;
+}
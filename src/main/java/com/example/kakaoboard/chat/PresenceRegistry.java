@@ -0,0 +1,42 @@
+package com.example.kakaoboard.chat;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * ✅ 채팅 접속자 저장소 (방별)
+ * - memory: 단일 서버용 (기본값)
+ * - jdbc  : DB 를 공유 저장소로 사용, 여러 서버가 같은 접속자 목록을 봄
+ * - kakaoboard.chat.presence 로 선택
+ * - 같은 방에 대한 호출은 ChatRoomShards 의 한 스레드에서만 들어옴
+ */
+public interface PresenceRegistry {
+
+    /**
+     * ✅ 입장 (같은 방에 같은 닉네임의 이전 세션이 있으면 제거)
+     */
+    void join(String roomId, String sessionId, String sender, String ip);
+
+    /**
+     * ✅ 퇴장
+     * @return 실제로 제거된 접속자 (이미 없거나 같은 닉네임으로 교체된 세션이면 empty)
+     */
+    Optional<ChatUser> leave(String roomId, String sessionId);
+
+    /**
+     * ✅ 이 세션이 들어가 있는 방들 (연결이 끊겼을 때 정리용)
+     */
+    Collection<String> roomsOf(String sessionId);
+
+    /**
+     * ✅ 방의 현재 접속자 목록
+     */
+    Collection<ChatUser> users(String roomId);
+
+    /**
+     * ✅ 이 서버 식별자 (변경분 seq 의 기준)
+     */
+    default String nodeId() {
+        return "local";
+    }
+}
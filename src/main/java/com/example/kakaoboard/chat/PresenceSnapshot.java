@@ -0,0 +1,20 @@
+package com.example.kakaoboard.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * ✅ 구독 시 한 번 받는 전체 접속자 목록 (/app/rooms/{roomId}/chat.users)
+ * - 같은 node 의 변경분 중 seq 가 이보다 큰 것만 이어서 적용
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceSnapshot {
+    private long seq;
+    private String node;
+    private Collection<ChatUser> users;
+}
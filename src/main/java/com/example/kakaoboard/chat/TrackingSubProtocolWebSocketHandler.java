@@ -0,0 +1,39 @@
+package com.example.kakaoboard.chat;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * ✅ STOMP 세션 송신 버퍼를 OutboundSessionTracker 가 만든 것으로 교체
+ * - 기본 핸들러는 세션을 TERMINATE 버퍼로 감쌈 → 그 안쪽에 DROP 버퍼를 두면
+ *   바깥 버퍼가 한 프레임씩 넘겨주므로 안쪽에는 쌓이지 않고 느린 클라이언트는 그대로 끊김
+ * - 그래서 버퍼는 여기서 한 겹만 (overflow 설정에 따라 DROP 또는 TERMINATE)
+ */
+public class TrackingSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final OutboundSessionTracker tracker;
+
+    public TrackingSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                               SubscribableChannel clientOutboundChannel,
+                                               OutboundSessionTracker tracker) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return tracker.track(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        try {
+            super.afterConnectionClosed(session, closeStatus);
+        } finally {
+            tracker.untrack(session.getId());
+        }
+    }
+}
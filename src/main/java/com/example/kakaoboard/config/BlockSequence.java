@@ -0,0 +1,27 @@
+package com.example.kakaoboard.config;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ✅ 시퀀스에서 id 구간을 전용 커넥션으로 받아 오는 id (SequenceBlockGenerator)
+ * - @Id 필드에 @GeneratedValue 대신 붙임
+ */
+@IdGeneratorType(SequenceBlockGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BlockSequence {
+
+    /** 시퀀스 이름 (MySQL 은 같은 이름의 테이블) */
+    String name();
+
+    /** 한 번에 받아 올 id 수 */
+    int allocationSize() default 50;
+
+    /** 시퀀스를 지원하는 DB 에서도 테이블로 (MySQL 과 같은 경로를 테스트할 때) */
+    boolean forceTable() default false;
+}
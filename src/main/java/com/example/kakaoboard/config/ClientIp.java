@@ -0,0 +1,22 @@
+package com.example.kakaoboard.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * ✅ 클라이언트 IP (접속한 주소 그대로)
+ * - X-Forwarded-For 를 직접 읽지 않음: 클라이언트가 아무 값이나 넣을 수 있어서 요청마다 바꾸면 IP 별 요청 제한이 무력화됨
+ * - 프록시(로드밸런서) 뒤면 server.forward-headers-strategy=native:
+ *   톰캣이 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)에서 온 요청만 헤더 값으로 getRemoteAddr 를 바꿔 줌
+ */
+public final class ClientIp {
+
+    private ClientIp() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        String ip = request.getRemoteAddr();
+        if (ip == null) return "-";
+        if ("0:0:0:0:0:0:0:1".equals(ip)) ip = "127.0.0.1";
+        return ip;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.kakaoboard.config;
+
+import com.example.kakaoboard.domain.Comment;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ 시퀀스 id 로 바꾼 테이블의 시작값 맞추기 (기동 시 1번, 요청을 받기 전)
+ * - IDENTITY(AUTO_INCREMENT) 로 쌓인 기존 행이 있으면 새로 만든 시퀀스는 1 부터라 id 가 겹침
+ * - 시퀀스 값 ≤ max(id) 인 경우만 max(id)+1 로 올림 → 이미 앞서 있으면 그대로 (다른 서버가 받아 둔 구간을 건드리지 않음)
+ * - MySQL 은 시퀀스가 없어 Hibernate 가 comment_seq 테이블(next_val) 로 대신함
+ */
+@Slf4j
+@Component
+public class IdSequenceAligner {
+
+    private final JdbcTemplate jdbc;
+    private final Dialect dialect;
+
+    public IdSequenceAligner(JdbcTemplate jdbc, EntityManagerFactory entityManagerFactory) {
+        this.jdbc = jdbc;
+        // EntityManagerFactory 를 받으므로 스키마 생성/갱신이 끝난 뒤에 실행됨
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    @PostConstruct
+    public void align() {
+        align(Comment.ID_SEQUENCE, "comment");
+    }
+
+    void align(String sequence, String table) {
+        Long max = jdbc.queryForObject("select max(id) from " + table, Long.class);
+        if (max == null) return;
+
+        if (dialect.getSequenceSupport().supportsSequences()) {
+            // 현재 값을 읽으려면 한 번 받아야 함 (받은 구간은 버림, allocationSize 만큼의 빈 번호)
+            Long next = jdbc.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+            if (next != null && next <= max) {
+                jdbc.execute("alter sequence " + sequence + " restart with " + (max + 1));
+                log.info("id 시퀀스 맞춤: {} {} → {}", sequence, next, max + 1);
+            }
+        } else {
+            int updated = jdbc.update("update " + sequence + " set next_val = ? where next_val <= ?", max + 1, max);
+            if (updated > 0) {
+                log.info("id 시퀀스 맞춤: {} → {}", sequence, max + 1);
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 // src/main/java/com/example/kakaoboard/config/IpHandshakeInterceptor.java
 package com.example.kakaoboard.config;
 
-import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.http.server.ServletServerHttpRequest;
@@ -21,15 +20,7 @@ public class IpHandshakeInterceptor implements HandshakeInterceptor {
                                    Map<String, Object> attributes) {
 
         if (request instanceof ServletServerHttpRequest servletRequest) {
-            HttpServletRequest httpRequest = servletRequest.getServletRequest();
-            String ip = httpRequest.getHeader("X-Forwarded-For");
-            if (ip == null || ip.isBlank()) {
-                ip = httpRequest.getRemoteAddr();
-            }
-            if (ip != null && ip.contains(",")) {
-                ip = ip.split(",")[0].trim();
-            }
-            attributes.put("ip", ip);
+            attributes.put("ip", ClientIp.of(servletRequest.getServletRequest()));
         }
 
         return true;
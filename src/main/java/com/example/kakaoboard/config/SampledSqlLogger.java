@@ -0,0 +1,83 @@
+package com.example.kakaoboard.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ✅ SQL 로그 (show-sql 대신)
+ * - show-sql 은 모든 문장을 stdout 에 동기로 씀 (레벨/출력 대상 조절 불가) → 요청마다 여러 줄, 부하 때 stdout 이 병목
+ * - 여기서는 sample-rate 비율만 kakaoboard.sql 로거(INFO) 로, 종류별 개수는 전부 지표 (db.statements, type=select|insert|update|delete|other)
+ * - 느린 쿼리는 샘플링 없이 전부: hibernate.log_slow_query (org.hibernate.SQL_SLOW 로거)
+ * - 전부 보고 싶으면 logging.level.kakaoboard.sql=DEBUG (샘플링 무시)
+ */
+@Slf4j(topic = "kakaoboard.sql")
+@Component
+public class SampledSqlLogger implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final double sampleRate;
+
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter others;
+
+    public SampledSqlLogger(MeterRegistry meterRegistry,
+                            @Value("${kakaoboard.sql-log.sample-rate:0.001}") double sampleRate) {
+        this.sampleRate = sampleRate;
+        this.selects = counter(meterRegistry, "select");
+        this.inserts = counter(meterRegistry, "insert");
+        this.updates = counter(meterRegistry, "update");
+        this.deletes = counter(meterRegistry, "delete");
+        this.others = counter(meterRegistry, "other");
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    /**
+     * ✅ Hibernate 가 문장을 준비할 때마다 호출 (문장은 바꾸지 않음)
+     */
+    @Override
+    public String inspect(String sql) {
+        counterFor(sql).increment();
+        if (log.isDebugEnabled()) {
+            log.debug("{}", sql);
+        } else if (sampleRate > 0 && log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("{}", sql);
+        }
+        return sql;
+    }
+
+    private Counter counterFor(String sql) {
+        int i = 0;
+        while (i < sql.length() && (Character.isWhitespace(sql.charAt(i)) || sql.charAt(i) == '(')) i++;
+        if (sql.length() - i < 6) return others;
+        return switch (sql.substring(i, i + 6).toLowerCase(Locale.ROOT)) {
+            case "select" -> selects;
+            case "insert" -> inserts;
+            case "update" -> updates;
+            case "delete" -> deletes;
+            default -> others;
+        };
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("db.statements")
+                .description("Hibernate 가 실행한 SQL 문장 수")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
@@ -1,29 +1,62 @@
 package com.example.kakaoboard.config;
 
+import com.example.kakaoboard.auth.BCryptCalibration;
+import com.example.kakaoboard.auth.TokenAuthenticationFilter;
+import com.example.kakaoboard.auth.TokenService;
+import com.example.kakaoboard.ratelimit.RateLimitFilter;
+import com.example.kakaoboard.ratelimit.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.web.filter.CorsFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           RateLimiter rateLimiter,
+                                           TokenService tokenService,
+                                           @Value("${kakaoboard.admin.user-ids:}") List<Long> adminIds) throws Exception {
         http
                 .cors(Customizer.withDefaults()) // ✅ CORS 활성화
+                // ✅ 같은 위치에 등록하면 등록 순서대로 실행 → 토큰 확인 후 요청 제한 (로그인 사용자는 사용자별로 제한)
+                .addFilterAfter(new TokenAuthenticationFilter(tokenService, new HashSet<>(adminIds)), CorsFilter.class) // ✅ Bearer 토큰 (401)
+                .addFilterAfter(new RateLimitFilter(rateLimiter), CorsFilter.class) // ✅ 요청 제한 (429)
                 .csrf(csrf -> csrf.disable())    // ✅ WebSocket 사용 시 CSRF 비활성화
+                // ✅ 세션 없이 매 요청 토큰으로만 인증
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .exceptionHandling(e -> e.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(auth -> auth
+                        // ✅ 로그인 사용자만 (사용자는 토큰에서 꺼냄, 요청 body 의 이름은 믿지 않음)
+                        .requestMatchers(HttpMethod.POST, "/api/debates/*/vote").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/users/verify").authenticated()
+                        .requestMatchers(HttpMethod.PUT, "/api/users/update/*").authenticated()
+                        .requestMatchers(HttpMethod.DELETE, "/api/users/delete/*").authenticated()
+                        // ✅ 관리자만 (작성자/득표/승자를 파일 그대로 복원하므로)
+                        .requestMatchers(HttpMethod.POST, "/api/debates/import").hasRole("ADMIN")
                         .requestMatchers(
                                 // ✅ 기존 API 경로
                                 "/api/auth/**",
@@ -43,9 +76,21 @@ public class SecurityConfig {
     }
 
     // ✅ PasswordEncoder Bean 등록
+    //  - 새 해시는 "{bcrypt}$2a$<cost>..." 형식, cost 는 서버 CPU 에 맞춰 보정 (bcrypt-strength 를 주면 고정)
+    //  - 접두사 없는 기존 해시도 BCrypt 로 확인 → 로그인 성공 시 새 형식으로 다시 저장 (PasswordHasher.needsRehash)
+    //  - 알고리즘을 바꿀 때는 encoders 에 추가하고 idForEncode 만 바꾸면 로그인하면서 점진적으로 옮겨감
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${kakaoboard.password.bcrypt-strength:0}") int strength,
+            @Value("${kakaoboard.password.target-ms:150}") long targetMs) {
+        int cost = strength > 0 ? strength : BCryptCalibration.calibratedStrength(targetMs);
+        log.info("BCrypt cost = {}", cost);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(cost));
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", encoders);
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 
     // ✅ React CORS 설정 (localhost + 내부 IP)
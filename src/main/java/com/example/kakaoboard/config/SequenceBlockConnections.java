@@ -0,0 +1,57 @@
+package com.example.kakaoboard.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * ✅ id 구간 받기 전용 커넥션 풀 (SequenceBlockGenerator 가 Hibernate 설정으로 받아 씀)
+ * - 본 풀(HikariCP) 설정을 그대로 복사해 block-pool-size 개짜리 풀로 → 요청 처리가 본 풀을 다 써도 구간 받기는 기다리지 않음
+ * - 구간은 옵티마이저 잠금 안에서 하나씩만 받으므로 1~2개면 충분
+ * - 본 DataSource 가 Hikari 가 아니면 (테스트 내장 DB 등) 그대로 사용
+ */
+@Component
+public class SequenceBlockConnections implements HibernatePropertiesCustomizer {
+
+    static final String SETTING = "kakaoboard.id.block-data-source";
+
+    private final DataSource dataSource;
+    private final HikariDataSource pool;
+
+    public SequenceBlockConnections(DataSource dataSource,
+                                    @Value("${kakaoboard.id.block-pool-size:2}") int poolSize) {
+        HikariDataSource main = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (main == null) {
+            this.dataSource = dataSource;
+            this.pool = null;
+            return;
+        }
+        // 처음 getConnection 할 때 풀이 시작됨
+        HikariDataSource ids = new HikariDataSource();
+        main.copyStateTo(ids);
+        ids.setPoolName(main.getPoolName() + "-ids");
+        ids.setMaximumPoolSize(Math.max(1, poolSize));
+        ids.setMinimumIdle(1);
+        this.dataSource = ids;
+        this.pool = ids;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(SETTING, dataSource);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.kakaoboard.config;
+
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerationException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Member;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * ✅ 시퀀스 id 구간을 전용 커넥션으로 받아 오는 SequenceStyleGenerator (댓글 id)
+ * - 기본 구현은 구간이 떨어지면 INSERT 하던 스레드가 커넥션을 쥔 채 같은 풀에서 하나 더 받음
+ *   (MySQL 은 시퀀스가 없어 comment_seq 테이블을 별도 트랜잭션으로 갱신)
+ *   → 동시 INSERT 가 풀을 다 쓰고 있으면 구간을 받는 스레드도, 그 뒤에서 id 를 기다리는 스레드도
+ *     connection-timeout 까지 멈췄다가 실패
+ * - 여기서는 SequenceBlockConnections 의 전용 풀(요청 처리가 쓰지 않음)에서 받으므로 본 풀이 다 차도 기다리지 않음
+ * - 테이블/시퀀스 생성, pooled-lo 구간 계산은 그대로 (전용 풀 설정이 없으면 기본 동작)
+ * - 사용: @Id 에 @BlockSequence(name = ..., allocationSize = ...)
+ */
+public class SequenceBlockGenerator extends SequenceStyleGenerator {
+
+    private final BlockSequence config;
+    private DataSource dataSource;
+    private Dialect dialect;
+
+    // 물리 시퀀스: nextval 1번 / 테이블: 읽고 "읽은 값일 때만" 올림 (다른 서버와 겹치면 다시)
+    private String nextValueSql;
+    private String selectSql;
+    private String updateSql;
+
+    public SequenceBlockGenerator(BlockSequence config, Member member, CustomIdGeneratorCreationContext context) {
+        this.config = config;
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        parameters.put(SEQUENCE_PARAM, config.name());
+        parameters.put(INCREMENT_PARAM, String.valueOf(config.allocationSize()));
+        if (config.forceTable()) {
+            parameters.put(FORCE_TBL_PARAM, "true");
+        }
+        super.configure(type, parameters, serviceRegistry);
+        Object setting = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings().get(SequenceBlockConnections.SETTING);
+        this.dataSource = setting instanceof DataSource ds ? ds : null;
+        this.dialect = serviceRegistry.requireService(JdbcEnvironment.class).getDialect();
+    }
+
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        super.initialize(context);
+        String name = context.format(getDatabaseStructure().getPhysicalName());
+        if (getDatabaseStructure().isPhysicalSequence()) {
+            nextValueSql = dialect.getSequenceSupport().getSequenceNextValString(name);
+        } else {
+            selectSql = "select " + DEF_VALUE_COLUMN + " from " + name;
+            updateSql = "update " + name + " set " + DEF_VALUE_COLUMN + " = ? where " + DEF_VALUE_COLUMN + " = ?";
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (dataSource == null) {
+            return super.generate(session, object);
+        }
+        return getOptimizer().generate(new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                return nextValue();
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return session.getTenantIdentifier();
+            }
+        });
+    }
+
+    // 옵티마이저 잠금 안에서만 호출됨 → 서버당 동시에 1개
+    private IntegralDataTypeHolder nextValue() {
+        IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(
+                getIdentifierType().getReturnedClass());
+        try (Connection con = dataSource.getConnection()) {
+            if (nextValueSql != null) {
+                try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(nextValueSql)) {
+                    rs.next();
+                    return value.initialize(rs.getLong(1));
+                }
+            }
+            while (true) {
+                long current;
+                try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(selectSql)) {
+                    if (!rs.next()) {
+                        throw new IdentifierGenerationException("id 시퀀스 테이블이 비어 있습니다: " + selectSql);
+                    }
+                    current = rs.getLong(1);
+                }
+                try (PreparedStatement update = con.prepareStatement(updateSql)) {
+                    update.setLong(1, current + getDatabaseStructure().getIncrementSize());
+                    update.setLong(2, current);
+                    if (update.executeUpdate() == 1) {
+                        return value.initialize(current);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentifierGenerationException("id 구간을 받지 못했습니다", e);
+        }
+    }
+}
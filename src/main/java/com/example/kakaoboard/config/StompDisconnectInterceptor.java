@@ -20,7 +20,7 @@ public class StompDisconnectInterceptor implements ChannelInterceptor {
         if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
             String sessionId = accessor.getSessionId();
             log.info("🔌 STOMP DISCONNECT, sessionId={}", sessionId);
-            // ❌ ChatService 호출 안 함 → 순환참조 끊기
+            // 접속자 정리는 ChatController 의 SessionDisconnectEvent 에서 처리
         }
 
         return message;
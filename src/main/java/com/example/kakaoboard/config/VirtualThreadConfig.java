@@ -0,0 +1,29 @@
+package com.example.kakaoboard.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * ✅ 가상 스레드 모드 (spring.threads.virtual.enabled=true + Java 21 이상)
+ * - 톰캣 요청 처리 / @Async / MVC 비동기는 스프링 부트가 가상 스레드로 바꿈
+ * - 여기서는 @Scheduled 스케줄러만 직접 지정:
+ *   부트 기본(SimpleAsyncTaskScheduler)은 fixedDelay 작업을 스레드 1개에서 차례로 돌리고 fixedRate 작업은 겹쳐 실행될 수 있음
+ *   → 지금과 같은 pool.size 개 동시 실행 + 겹침 없음을 유지하되 각 스레드만 가상 스레드로 (자동 마감의 DB 대기 중 OS 스레드를 잡지 않음)
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadFactory(new VirtualThreadTaskExecutor("scheduling-").getVirtualThreadFactory());
+        return scheduler;
+    }
+}
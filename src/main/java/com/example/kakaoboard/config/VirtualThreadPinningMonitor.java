@@ -0,0 +1,115 @@
+package com.example.kakaoboard.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ 가상 스레드 고정(pinning) 감시
+ * - synchronized 안에서 I/O 대기하면 가상 스레드가 캐리어(OS) 스레드를 놓지 못함 → 캐리어 수(코어 수)만큼 막히면 전체가 멈춤
+ * - 주 원인: MySQL Connector/J 8.x (쿼리 실행이 커넥션 synchronized 안), SMTPTransport.sendMessage
+ * - JFR jdk.VirtualThreadPinned 를 앱 안에서 구독 → threshold-ms 넘게 고정된 경우만
+ *   지표: jvm.threads.virtual.pinned (source=jdbc|mail|app) / 로그: 처음 보는 호출 위치만 스택과 함께 WARN
+ * - 기동 옵션 -Djdk.tracePinnedThreads=short 로도 확인 가능 (Java 21~23)
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 16;
+    private static final int MAX_SITES = 1000;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+
+    // 호출 위치(상위 프레임) → 발생 횟수
+    private final Map<String, Long> sites = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${kakaoboard.threads.pinned-threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 고정 감시 시작 (기준 {}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("캐리어 스레드에 고정된 가상 스레드 (threshold 이상)")
+                .tag("source", source(frames))
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        String site = frames.stream().limit(5).map(VirtualThreadPinningMonitor::describe).collect(Collectors.joining(" <- "));
+        if (sites.size() >= MAX_SITES && !sites.containsKey(site)) {
+            return;
+        }
+        if (sites.merge(site, 1L, Long::sum) == 1L) {
+            log.warn("가상 스레드 고정 {}ms (thread={}):\n\tat {}",
+                    event.getDuration().toMillis(),
+                    event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                    frames.stream().limit(LOGGED_FRAMES).map(VirtualThreadPinningMonitor::describe)
+                            .collect(Collectors.joining("\n\tat ")));
+        }
+    }
+
+    // ✅ 지표 태그는 몇 가지로만 (호출 위치별로 나누면 태그가 끝없이 늘어남)
+    static String source(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod() == null ? "" : frame.getMethod().getType().getName();
+            if (type.startsWith("com.mysql.") || type.startsWith("com.zaxxer.hikari.") || type.startsWith("org.h2.")) {
+                return "jdbc";
+            }
+            if (type.startsWith("org.eclipse.angus.mail.") || type.startsWith("jakarta.mail.")) {
+                return "mail";
+            }
+        }
+        return "app";
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        if (frame.getMethod() == null) {
+            return "?";
+        }
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
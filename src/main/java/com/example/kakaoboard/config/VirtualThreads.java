@@ -0,0 +1,39 @@
+package com.example.kakaoboard.config;
+
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ 가상 스레드 모드 (spring.threads.virtual.enabled=true)
+ * - Java 21 이상에서만 실제로 켜짐, 17 에서는 설정이 켜져 있어도 기존 플랫폼 스레드 그대로
+ * - 직접 만드는 스레드(메일 워커 등)도 같은 기준으로 고르도록 한 곳에 모음
+ */
+public final class VirtualThreads {
+
+    public static final String PROPERTY = "spring.threads.virtual.enabled";
+
+    private VirtualThreads() {
+    }
+
+    public static boolean active(boolean enabled) {
+        return enabled && JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+    }
+
+    /**
+     * ✅ 가상 스레드 모드면 가상 스레드, 아니면 데몬 플랫폼 스레드 (이름: prefix + 번호)
+     */
+    public static ThreadFactory factory(boolean enabled, String prefix) {
+        if (active(enabled)) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        AtomicInteger threadNo = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.kakaoboard.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * ✅ debate_voters.voter 를 닉네임 → 사용자 id 로 옮김 (기동 시 1번, 요청을 받기 전)
+ * - 투표자 키가 토큰의 사용자 id 로 바뀌어, 예전 닉네임 행이 남아 있으면 같은 사람이 한 번 더 투표할 수 있음
+ * - 숫자만으로 된 닉네임은 id 와 구분되지 않으므로 두 번 돌리면 안 됨 → data_migration 에 이름을 남기고 한 번만
+ *   (표시 INSERT 와 변환이 한 트랜잭션: 여러 서버가 동시에 떠도 먼저 표시한 한 곳만 변환)
+ * - 지금 회원 닉네임과 맞지 않는 행(탈퇴/닉네임 변경)은 그대로 둠 → 득표수는 그대로, 사용자별 투표 집계에서만 빠짐
+ */
+@Slf4j
+@Component
+public class VoterKeyMigration {
+
+    static final String NAME = "debate_voters-user-id";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transaction;
+
+    public VoterKeyMigration(JdbcTemplate jdbc,
+                             PlatformTransactionManager transactionManager,
+                             EntityManagerFactory entityManagerFactory) {
+        // EntityManagerFactory 를 받으므로 스키마 생성/갱신이 끝난 뒤에 실행됨
+        this.jdbc = jdbc;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        jdbc.execute("create table if not exists data_migration ("
+                + "name varchar(100) not null primary key, applied_at timestamp not null)");
+        Integer done = jdbc.queryForObject("select count(*) from data_migration where name = ?", Integer.class, NAME);
+        if (done != null && done > 0) return;
+
+        Integer migrated = transaction.execute(status -> {
+            try {
+                jdbc.update("insert into data_migration (name, applied_at) values (?, ?)",
+                        NAME, Timestamp.valueOf(LocalDateTime.now()));
+            } catch (DuplicateKeyException e) {
+                return null; // 다른 서버가 먼저 변환함
+            }
+            return jdbc.update("""
+                    update debate_voters
+                       set voter = (select concat(u.id, '') from users u where u.username = debate_voters.voter)
+                     where voter in (select u.username from users u)
+                    """);
+        });
+        if (migrated != null) {
+            log.info("투표자 키 변환 (닉네임 → 사용자 id): {}행", migrated);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.kakaoboard.config;
+
+import com.example.kakaoboard.chat.OutboundSessionTracker;
+import com.example.kakaoboard.chat.TrackingSubProtocolWebSocketHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * ✅ @EnableWebSocketMessageBroker 대신 (같은 설정 + 세션 핸들러만 교체)
+ * - WebSocketConfig 등 WebSocketMessageBrokerConfigurer 는 그대로 적용됨
+ * - 기본 핸들러는 세션을 항상 TERMINATE 버퍼로 감싸서 overflow=drop 이 적용되지 않음
+ */
+@Configuration
+public class WebSocketBrokerConfiguration extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    private final OutboundSessionTracker outboundSessionTracker;
+
+    public WebSocketBrokerConfiguration(OutboundSessionTracker outboundSessionTracker) {
+        this.outboundSessionTracker = outboundSessionTracker;
+    }
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                       AbstractSubscribableChannel clientOutboundChannel) {
+        TrackingSubProtocolWebSocketHandler handler =
+                new TrackingSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel, outboundSessionTracker);
+        handler.setPhase(getPhase());
+        return handler;
+    }
+}
@@ -1,22 +1,57 @@
 // src/main/java/com/example/kakaoboard/config/WebSocketConfig.java
 package com.example.kakaoboard.config;
 
-import com.example.kakaoboard.chat.ChatService;
+import com.example.kakaoboard.chat.OutboundSessionTracker;
+import com.example.kakaoboard.ratelimit.StompRateLimitInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+// ✅ 브로커 설정 자체는 WebSocketBrokerConfiguration (@EnableWebSocketMessageBroker 대신, 세션 핸들러 교체)
 @Configuration
-@EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final IpHandshakeInterceptor ipHandshakeInterceptor;
     private final StompDisconnectInterceptor stompDisconnectInterceptor;
+    private final StompRateLimitInterceptor stompRateLimitInterceptor;
+    private final OutboundSessionTracker outboundSessionTracker;
+
+    // ✅ simple: 서버 내장 브로커 (단일 서버) / relay: 외부 STOMP 브로커 (RabbitMQ, ActiveMQ 등) 중계
+    @Value("${kakaoboard.chat.broker:simple}")
+    private String brokerMode;
+
+    @Value("${kakaoboard.chat.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${kakaoboard.chat.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${kakaoboard.chat.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${kakaoboard.chat.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // ✅ 브로커 → 클라이언트 송신 스레드 (구독자 fan-out)
+    @Value("${kakaoboard.chat.outbound.pool-size:8}")
+    private int outboundPoolSize;
+
+    @Value("${kakaoboard.chat.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${kakaoboard.chat.outbound.message-size-limit-kb:64}")
+    private int messageSizeLimitKb;
+
+    // ✅ 가상 스레드 모드 (Java 21 이상에서만 적용)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -28,12 +63,44 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic", "/queue");
+        if ("relay".equals(brokerMode)) {
+            // 여러 서버가 같은 브로커를 바라보므로 A 서버에서 보낸 메시지를 B 서버 구독자도 받음
+            registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            registry.enableSimpleBroker("/topic", "/queue");
+        }
         registry.setApplicationDestinationPrefixes("/app");
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompDisconnectInterceptor);
+        registration.interceptors(stompDisconnectInterceptor, stompRateLimitInterceptor);
+        // ✅ 가상 스레드 모드: 수신 메시지마다 가상 스레드 (채팅 저장/DB 대기 중에도 다른 세션 처리가 밀리지 않음)
+        // - 기본은 코어 수 x2 고정 풀, 초당 처리량은 StompRateLimitInterceptor 가 제한
+        if (VirtualThreads.active(virtualThreads)) {
+            registration.executor(new VirtualThreadTaskExecutor("stomp-in-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    // ✅ 세션별 송신 버퍼 한도 (느린 클라이언트 처리는 TrackingSubProtocolWebSocketHandler)
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimitKb * 1024)
+                .setSendTimeLimit(outboundSessionTracker.getSendTimeLimitMs())
+                .setSendBufferSizeLimit(outboundSessionTracker.getSendBufferSizeBytes());
     }
 }
@@ -1,16 +1,22 @@
 package com.example.kakaoboard.controller;
 
+import com.example.kakaoboard.auth.PasswordHashingBusyException;
+import com.example.kakaoboard.auth.TokenService;
+import com.example.kakaoboard.controller.dto.AuthResponse;
+import com.example.kakaoboard.controller.dto.UserResponse;
 import com.example.kakaoboard.domain.User;
 import com.example.kakaoboard.repository.UserRepository;
 import com.example.kakaoboard.service.UserService;
 import com.example.kakaoboard.service.EmailVerificationService;
 import com.example.kakaoboard.service.EmailService;
-import jakarta.mail.MessagingException;
+import com.example.kakaoboard.verification.VerificationLockedException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -22,6 +28,7 @@ public class AuthController {
     private final EmailVerificationService verificationService;
     private final EmailService emailService; // ✅ 이메일 전송 서비스
     private final UserRepository userRepository; // ✅ DB 중복 확인용
+    private final TokenService tokenService; // ✅ 로그인 토큰 발급
 
     // ✅ 이메일 인증번호 전송
     @PostMapping("/send-code")
@@ -34,13 +41,15 @@ public class AuthController {
             }
 
             // ✅ 인증번호 생성 및 전송
-            verificationService.createVerificationCode(email); // ⚡ 여기서 이미 메일 발송됨
+            verificationService.createVerificationCode(email); // ⚡ 발송 대기열에 넣고 바로 반환
             return ResponseEntity.ok("✅ 인증 메일 전송 완료!");
 
-        } catch (MessagingException e) {
-            e.printStackTrace();
-            return ResponseEntity.internalServerError()
-                    .body("메일 전송 중 오류가 발생했습니다: " + e.getMessage());
+        } catch (VerificationLockedException e) {
+            // 인증번호를 너무 많이 틀림
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            // 발송 대기열이 가득 참
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.internalServerError()
@@ -66,8 +75,10 @@ public class AuthController {
             // 회원가입용 중복체크는 건너뛴다
             verificationService.createVerificationCode(email);
             return ResponseEntity.ok("✅ 수정용 인증 메일 발송 완료");
-        } catch (MessagingException e) {
-            return ResponseEntity.internalServerError().body("❌ 이메일 전송 실패: " + e.getMessage());
+        } catch (VerificationLockedException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("⛔ " + e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("❌ " + e.getMessage());
         }
     }
 
@@ -101,8 +112,10 @@ public class AuthController {
             // ✅ 회원가입 완료 후 인증 상태 초기화
             verificationService.clearVerification(user.getEmail());
 
-            return ResponseEntity.ok(saved);
+            return ResponseEntity.ok(UserResponse.of(saved));
 
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
@@ -112,16 +125,18 @@ public class AuthController {
         }
     }
 
-    // ✅ 로그인
+    // ✅ 로그인 → 사용자 정보 + 토큰 (이후 요청은 Authorization: Bearer 토큰)
+    //  - 비밀번호 확인(BCrypt)이 끝날 때까지 요청 스레드를 잡지 않음 (비동기 응답)
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> body) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody Map<String, String> body) {
         String username = body.get("username");
         String password = body.get("password");
 
         return userService.login(username, password)
-                .<ResponseEntity<?>>map(ResponseEntity::ok)
-                .orElse(ResponseEntity.status(401)
-                        .body("아이디 또는 비밀번호가 올바르지 않습니다."));
+                .thenApply(result -> result
+                        .<ResponseEntity<?>>map(user -> ResponseEntity.ok(AuthResponse.of(user, tokenService.issue(user))))
+                        .orElse(ResponseEntity.status(401)
+                                .body("아이디 또는 비밀번호가 올바르지 않습니다.")));
     }
 
     // ✅ 아이디 중복 체크
@@ -1,45 +1,109 @@
 package com.example.kakaoboard.controller;
 
+import com.example.kakaoboard.chat.ChatHistoryStore;
+import com.example.kakaoboard.chat.ChatMessage;
+import com.example.kakaoboard.chat.ChatRoom;
+import com.example.kakaoboard.chat.ChatRoomRegistry;
+import com.example.kakaoboard.chat.ChatRoomShards;
+import com.example.kakaoboard.chat.ChatUser;
+import com.example.kakaoboard.chat.PresenceBroadcaster;
+import com.example.kakaoboard.chat.PresenceRegistry;
+import com.example.kakaoboard.chat.PresenceSnapshot;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.Map;
 
+/**
+ * ✅ 방별 채팅 (/app/rooms/{roomId}/...)
+ * - 방 상태 변경(입장/퇴장/메시지)은 ChatRoomShards 에서 방 id 로 고른 스레드에서만 처리 → 방 안 순서 보장
+ * - 등록되지 않은 방 id 는 무시
+ */
 @Controller
 public class ChatController {
 
     private final SimpMessagingTemplate messagingTemplate;
 
-    // sessionId -> { sender, ip }
-    private final Map<String, Map<String, String>> connectedUsers = new ConcurrentHashMap<>();
+    // ✅ 접속자 저장소 (memory: 단일 서버 / jdbc: 여러 서버 공유)
+    private final PresenceRegistry presenceRegistry;
 
-    public ChatController(SimpMessagingTemplate messagingTemplate) {
+    // ✅ 접속자 변경분(JOIN/LEAVE) 전송
+    private final PresenceBroadcaster presenceBroadcaster;
+
+    // ✅ 방별 채팅 기록 (세그먼트 로그)
+    private final ChatHistoryStore chatHistoryStore;
+
+    // ✅ 방 목록 + 방별 실행 스레드
+    private final ChatRoomRegistry chatRoomRegistry;
+    private final ChatRoomShards chatRoomShards;
+
+    public ChatController(SimpMessagingTemplate messagingTemplate,
+                          PresenceRegistry presenceRegistry,
+                          PresenceBroadcaster presenceBroadcaster,
+                          ChatHistoryStore chatHistoryStore,
+                          ChatRoomRegistry chatRoomRegistry,
+                          ChatRoomShards chatRoomShards) {
         this.messagingTemplate = messagingTemplate;
+        this.presenceRegistry = presenceRegistry;
+        this.presenceBroadcaster = presenceBroadcaster;
+        this.chatHistoryStore = chatHistoryStore;
+        this.chatRoomRegistry = chatRoomRegistry;
+        this.chatRoomShards = chatRoomShards;
+    }
+
+    // ✅ 방 접속자 전체 목록 (구독한 클라이언트에게만 1회 응답, 이후는 /topic/rooms/{roomId}/presence 변경분)
+    //  - 방 스레드에서 읽어서 seq 와 목록이 같은 시점을 가리키게 함
+    @SubscribeMapping("/rooms/{roomId}/chat.users")
+    public PresenceSnapshot users(@DestinationVariable String roomId) {
+        if (chatRoomRegistry.find(roomId).isEmpty()) {
+            return new PresenceSnapshot(0, presenceRegistry.nodeId(), List.of());
+        }
+        return chatRoomShards.submit(roomId, () -> presenceBroadcaster.snapshot(roomId)).join();
     }
 
-    // ✅ 일반 채팅 메시지
-    @MessageMapping("/chat.sendMessage")
-    public void sendMessage(@Payload Map<String, Object> payload) {
+    // ✅ 방 채팅 기록 다시 받기 (구독 헤더 since / limit, 없으면 최근 50개)
+    @SubscribeMapping("/rooms/{roomId}/chat.history")
+    public List<ChatMessage> history(@DestinationVariable String roomId,
+                                     @Header(name = "since", required = false) Long since,
+                                     @Header(name = "limit", required = false) Integer limit) {
+        if (chatRoomRegistry.find(roomId).isEmpty()) {
+            return List.of();
+        }
+        return chatHistoryStore.log(roomId).replay(since, limit);
+    }
 
-        String sender = (String) payload.get("sender");
-        String messageText = (String) payload.get("message");
+    // ✅ 일반 채팅 메시지 (JSON 변환은 브로커에 넘기기 전 1회 → 구독자들은 같은 바이트를 공유)
+    @MessageMapping("/rooms/{roomId}/chat.sendMessage")
+    public void sendMessage(@DestinationVariable String roomId, @Payload ChatMessage payload) {
+        if (chatRoomRegistry.find(roomId).isEmpty()) return;
 
-        Map<String, Object> chat = new HashMap<>();
-        chat.put("type", "CHAT");
-        chat.put("sender", sender);
-        chat.put("message", messageText);
+        ChatMessage chat = ChatMessage.builder()
+                .type(ChatMessage.MessageType.CHAT)
+                .sender(payload.getSender())
+                .message(payload.getMessage())
+                .build();
 
-        messagingTemplate.convertAndSend("/topic/public", chat);
+        chatRoomShards.execute(roomId, () -> {
+            chat.setOffset(chatHistoryStore.append(roomId, chat));
+            messagingTemplate.convertAndSend(ChatRoom.topic(roomId), chat);
+        });
     }
 
     // ✅ 새 유저 입장
-    @MessageMapping("/chat.newUser")
-    public void newUser(@Payload Map<String, Object> payload,
+    @MessageMapping("/rooms/{roomId}/chat.newUser")
+    public void newUser(@DestinationVariable String roomId,
+                        @Payload Map<String, Object> payload,
                         SimpMessageHeaderAccessor headerAccessor) {
+        if (chatRoomRegistry.find(roomId).isEmpty()) return;
 
         String sessionId = headerAccessor.getSessionId();
         Map<String, Object> attrs = headerAccessor.getSessionAttributes();
@@ -54,53 +118,56 @@ public class ChatController {
                 ip = (String) ipAttr;
             }
         }
-        if (ip == null) ip = "-";
+        String userIp = ip == null ? "-" : ip;
 
-        // 🎯 같은 닉네임(sender)을 가진 이전 세션들 전부 제거해서 중복 방지
-        connectedUsers.entrySet().removeIf(entry -> {
-            Map<String, String> info = entry.getValue();
-            return sender != null && sender.equals(info.get("sender"));
-        });
-
-        // 새 세션 정보 등록
-        Map<String, String> info = new HashMap<>();
-        info.put("sender", sender);
-        info.put("ip", ip);
-        connectedUsers.put(sessionId, info);
+        chatRoomShards.execute(roomId, () -> {
+            // 새 세션 정보 등록 (같은 방에 같은 닉네임의 이전 세션은 저장소에서 제거)
+            presenceRegistry.join(roomId, sessionId, sender, userIp);
 
-        // 입장 메시지
-        Map<String, Object> join = new HashMap<>();
-        join.put("type", "JOIN");
-        join.put("sender", sender);
-        join.put("ip", ip);
+            // 입장 메시지
+            ChatMessage join = ChatMessage.builder()
+                    .type(ChatMessage.MessageType.JOIN)
+                    .sender(sender)
+                    .ip(userIp)
+                    .build();
 
-        messagingTemplate.convertAndSend("/topic/public", join);
+            messagingTemplate.convertAndSend(ChatRoom.topic(roomId), join);
 
-        // 현재 접속자 목록 (배열 형태) 브로드캐스트
-        Collection<Map<String, String>> users = connectedUsers.values();
-        messagingTemplate.convertAndSend("/topic/users", users);
+            // 접속자 변경분만 브로드캐스트 (전체 목록 X)
+            presenceBroadcaster.joined(roomId, new ChatUser(sender, userIp));
+        });
     }
 
     // ✅ 유저 퇴장
-    @MessageMapping("/chat.leaveUser")
-    public void leaveUser(@Payload Map<String, Object> payload,
+    @MessageMapping("/rooms/{roomId}/chat.leaveUser")
+    public void leaveUser(@DestinationVariable String roomId,
+                          @Payload Map<String, Object> payload,
                           SimpMessageHeaderAccessor headerAccessor) {
+        if (chatRoomRegistry.find(roomId).isEmpty()) return;
 
         String sessionId = headerAccessor.getSessionId();
-
-        // 이 세션 제거
-        connectedUsers.remove(sessionId);
-
         String sender = (String) payload.get("sender");
 
-        Map<String, Object> leave = new HashMap<>();
-        leave.put("type", "LEAVE");
-        leave.put("sender", sender);
+        chatRoomShards.execute(roomId, () -> {
+            // 이 세션 제거 → 실제로 빠진 경우만 변경분 전송
+            presenceRegistry.leave(roomId, sessionId).ifPresent(user -> presenceBroadcaster.left(roomId, user));
 
-        messagingTemplate.convertAndSend("/topic/public", leave);
+            ChatMessage leave = ChatMessage.builder()
+                    .type(ChatMessage.MessageType.LEAVE)
+                    .sender(sender)
+                    .build();
 
-        // 남은 접속자 목록 다시 브로드캐스트
-        Collection<Map<String, String>> users = connectedUsers.values();
-        messagingTemplate.convertAndSend("/topic/users", users);
+            messagingTemplate.convertAndSend(ChatRoom.topic(roomId), leave);
+        });
+    }
+
+    // ✅ 창 닫기 등으로 leaveUser 없이 끊긴 세션 정리 (들어가 있던 방마다 그 방 스레드에서)
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        for (String roomId : presenceRegistry.roomsOf(sessionId)) {
+            chatRoomShards.execute(roomId, () ->
+                    presenceRegistry.leave(roomId, sessionId).ifPresent(user -> presenceBroadcaster.left(roomId, user)));
+        }
     }
 }
@@ -0,0 +1,45 @@
+package com.example.kakaoboard.controller;
+
+import com.example.kakaoboard.chat.ChatHistoryStore;
+import com.example.kakaoboard.chat.ChatMessage;
+import com.example.kakaoboard.chat.ChatRoom;
+import com.example.kakaoboard.chat.ChatRoomRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/chat")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {
+        "http://localhost:3000",
+        "http://192.168.0.21:3000"
+})
+public class ChatHistoryController {
+
+    private final ChatRoomRegistry chatRoomRegistry;
+    private final ChatHistoryStore chatHistoryStore;
+
+    /** ✅ 채팅방 목록 (전체 채팅 + 토론별 방) */
+    @GetMapping("/rooms")
+    public ResponseEntity<Collection<ChatRoom>> rooms() {
+        return ResponseEntity.ok(chatRoomRegistry.rooms());
+    }
+
+    /** ✅ 방 채팅 기록
+     *  - 최근 N개: /api/chat/rooms/public/history?limit=50
+     *  - offset 이후: /api/chat/rooms/debate-3/history?since=1234&limit=200 (응답 마지막 offset + 1 로 이어서 조회)
+     */
+    @GetMapping("/rooms/{roomId}/history")
+    public ResponseEntity<List<ChatMessage>> history(@PathVariable String roomId,
+                                                     @RequestParam(required = false) Long since,
+                                                     @RequestParam(required = false) Integer limit) {
+        if (chatRoomRegistry.find(roomId).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(chatHistoryStore.log(roomId).replay(since, limit));
+    }
+}
@@ -1,16 +1,28 @@
 package com.example.kakaoboard.controller;
 
+import com.example.kakaoboard.auth.AuthUser;
+import com.example.kakaoboard.controller.dto.CommentNode;
+import com.example.kakaoboard.controller.dto.DebateDetail;
+import com.example.kakaoboard.controller.dto.DebatePageResponse;
 import com.example.kakaoboard.domain.Comment;
 import com.example.kakaoboard.domain.Debate;
 import com.example.kakaoboard.domain.Reply;
-import com.example.kakaoboard.repository.DebateRepository;
+import com.example.kakaoboard.export.DebateExportService;
+import com.example.kakaoboard.export.DebateImportService;
+import com.example.kakaoboard.export.ExportFormat;
 import com.example.kakaoboard.service.DebateService;
+import com.example.kakaoboard.trending.TrendingEntry;
+import com.example.kakaoboard.trending.TrendingService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import com.example.kakaoboard.repository.CommentRepository;
-import java.time.Duration;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -24,44 +36,61 @@ import java.util.*;
 public class DebateController {
 
     private final DebateService debateService;
-    private final DebateRepository debateRepository;
-    private final CommentRepository commentRepository;
-    /** ✅ 전체 토론 조회 + 자동 마감 */
-    @GetMapping
-    public ResponseEntity<List<Debate>> getAllDebates() {
-        List<Debate> debates = debateRepository.findAll();
-        LocalDateTime now = LocalDateTime.now();
-
-        for (Debate d : debates) {
-            if (d.getRebuttalAt() != null &&
-                    Duration.between(d.getRebuttalAt(), now).toHours() >= 12 &&
-                    !d.isClosed()) {
-                d.setClosed(true);
-                d.setClosedAt(now);
-                debateService.updateWinner(d);
-                debateRepository.save(d);
-            }
+    private final TrendingService trendingService;
+    private final DebateExportService exportService;
+    private final DebateImportService importService;
 
+    /** ✅ 전체 토론 조회 (자동 마감은 스케줄러에서만 처리) */
+    @GetMapping
+    public ResponseEntity<List<DebateDetail>> getAllDebates() {
+        return ResponseEntity.ok(debateService.findAll());
+    }
 
-        }
+    /** ✅ 토론 목록 (커서 페이징, 요약만)
+     *  - 예: /api/debates/list?category=게임&size=20
+     *  - 다음 페이지: &cursorCreatedAt=...&cursorId=... (이전 응답의 nextCursor 값)
+     */
+    @GetMapping("/list")
+    public ResponseEntity<DebatePageResponse> getDebatePage(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(debateService.findSummaries(category, cursorCreatedAt, cursorId, size));
+    }
 
-        return ResponseEntity.ok(debates);
+    /** ✅ 인기 토론 상위 50 (시간 감쇠 점수, 메모리에서만 조회)
+     *  - 예: /api/debates/trending?category=게임
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingEntry>> getTrending(@RequestParam(required = false) String category) {
+        return ResponseEntity.ok(trendingService.top(category));
     }
 
+    /** ✅ 토론 요약 단건 (캐시) */
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<?> getSummary(@PathVariable Long id) {
+        return debateService.findSummary(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 
-    /** ✅ 새 토론 생성 */
+    /** ✅ 새 토론 생성 (토큰이 있으면 작성자는 로그인 사용자, 없으면 body 의 이름 또는 익명) */
     @PostMapping
-    public ResponseEntity<?> createDebate(@RequestBody Debate debate) {
+    public ResponseEntity<?> createDebate(@RequestBody Debate debate,
+                                          @AuthenticationPrincipal AuthUser user) {
         try {
             if (debate.getTitle() == null || debate.getContent() == null)
                 return ResponseEntity.badRequest().body("제목과 내용을 입력하세요.");
-            if (debate.getAuthor() == null || debate.getAuthor().isEmpty())
-                debate.setAuthor("익명");
+            debate.setAuthor(authorName(user, debate.getAuthor()));
+            debate.setAuthorId(user != null ? user.getId() : null);
 
             debate.setCreatedAt(LocalDateTime.now());
             debate.setClosed(false);
             Debate saved = debateService.createDebate(debate);
-            return ResponseEntity.ok(saved);
+            return ResponseEntity.ok(DebateDetail.of(saved));
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.internalServerError().body(e.getMessage());
@@ -71,29 +100,22 @@ public class DebateController {
     /** ✅ 수동 마감 */
     @PatchMapping("/{id}/close")
     public ResponseEntity<?> closeDebate(@PathVariable Long id) {
-        Debate debate = debateRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("해당 토론을 찾을 수 없습니다."));
-
-        if (debate.isClosed()) {
-            return ResponseEntity.badRequest().body("이미 마감된 토론입니다.");
-        }
-
-        debate.setClosed(true);
-        debate.setClosedAt(LocalDateTime.now());
-        debateRepository.save(debate);
-
-        return ResponseEntity.ok("✅ 토론이 수동으로 마감되었습니다.");
+        return debateService.close(id);
     }
 
     /** ✅ 좋아요 / 싫어요 */
     @PostMapping("/{id}/like")
     public ResponseEntity<?> like(@PathVariable Long id) {
-        return ResponseEntity.ok(debateService.like(id));
+        return debateService.like(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @PostMapping("/{id}/dislike")
     public ResponseEntity<?> dislike(@PathVariable Long id) {
-        return ResponseEntity.ok(debateService.dislike(id));
+        return debateService.dislike(id)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     /** ✅ 댓글 추가 */
@@ -101,16 +123,17 @@ public class DebateController {
     public ResponseEntity<?> addComment(
             @PathVariable Long debateId,
             @RequestBody Map<String, Object> body,
+            @AuthenticationPrincipal AuthUser user,
             HttpServletRequest request) {
 
-        String author = (String) body.get("author");
         String text = (String) body.get("text");
         Long parentId = body.get("parentId") != null
                 ? Long.parseLong(body.get("parentId").toString())
                 : null;
 
         Comment comment = new Comment();
-        comment.setAuthor(author != null ? author : "익명");
+        comment.setAuthor(authorName(user, (String) body.get("author")));
+        comment.setAuthorId(user != null ? user.getId() : null);
         comment.setText(text);
         comment.setCreatedAt(LocalDateTime.now());
 
@@ -124,17 +147,17 @@ public class DebateController {
             saved = debateService.addComment(debateId, comment, request);
         }
 
-        return ResponseEntity.ok(saved);
+        return ResponseEntity.ok(CommentNode.of(saved));
     }
     @PostMapping("/{debateId}/comments/{parentId}/reply")
     public ResponseEntity<?> addReply(
             @PathVariable Long debateId,
             @PathVariable Long parentId,
             @RequestBody Map<String, Object> body,
+            @AuthenticationPrincipal AuthUser user,
             HttpServletRequest request) { // ✅ request 추가
 
         try {
-            String author = (String) body.getOrDefault("author", "익명");
             String text = (String) body.get("text");
 
             if (text == null || text.trim().isEmpty()) {
@@ -142,7 +165,8 @@ public class DebateController {
             }
 
             Comment reply = new Comment();
-            reply.setAuthor(author);
+            reply.setAuthor(authorName(user, (String) body.get("author")));
+            reply.setAuthorId(user != null ? user.getId() : null);
             reply.setText(text);
             reply.setCreatedAt(LocalDateTime.now());
 
@@ -150,7 +174,7 @@ public class DebateController {
             reply.setIpAddress(request.getRemoteAddr());
 
             Comment saved = debateService.addReplyAsComment(debateId, parentId, reply);
-            return ResponseEntity.ok(saved);
+            return ResponseEntity.ok(CommentNode.of(saved));
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -160,74 +184,19 @@ public class DebateController {
 
     /** ✅ 반박 등록 */
     @PostMapping("/{id}/rebuttal")
-    public ResponseEntity<?> addRebuttal(@PathVariable Long id, @RequestBody Map<String, String> body) {
-        Optional<Debate> opt = debateRepository.findById(id);
-        if (opt.isEmpty()) return ResponseEntity.notFound().build();
-
-        Debate debate = opt.get();
-        if (debate.getRebuttalTitle() != null)
-            return ResponseEntity.badRequest().body("이미 반박이 등록된 토론입니다.");
-
-        debate.setRebuttalTitle(body.get("title"));
-        debate.setRebuttalContent(body.get("content"));
-        debate.setRebuttalAuthor(body.get("author"));
-        debate.setRebuttalAt(LocalDateTime.now());
-        debate.setClosed(false);
-        debate.setClosedAt(null);
-
-        debateRepository.save(debate);
-        return ResponseEntity.ok(debate);
+    public ResponseEntity<?> addRebuttal(@PathVariable Long id,
+                                         @RequestBody Map<String, String> body,
+                                         @AuthenticationPrincipal AuthUser user) {
+        return debateService.addRebuttal(id, body, user);
     }
 
-    /** ✅ 투표 기능 */
+    /** ✅ 투표 기능 (투표자는 토큰의 로그인 사용자, body 에는 type 만) */
     @PostMapping("/{id}/vote")
-    public ResponseEntity<?> vote(@PathVariable Long id, @RequestBody Map<String, Object> body) {
+    public ResponseEntity<?> vote(@PathVariable Long id,
+                                  @RequestBody Map<String, Object> body,
+                                  @AuthenticationPrincipal AuthUser voter) {
         try {
-            String type = (String) body.get("type");
-            String voter = (String) body.get("voter");
-
-            Optional<Debate> opt = debateRepository.findById(id);
-            if (opt.isEmpty()) return ResponseEntity.notFound().build();
-
-            Debate debate = opt.get();
-
-            if (debate.getRebuttalTitle() == null)
-                return ResponseEntity.badRequest().body("아직 반박이 등록되지 않았습니다.");
-
-            if (debate.isClosed()) {
-                LocalDateTime now = LocalDateTime.now();
-                if (debate.getRebuttalAt() != null &&
-                        Duration.between(debate.getRebuttalAt(), now).toHours() < 12) {
-                    debate.setClosed(false);
-                } else {
-                    return ResponseEntity.badRequest().body("이미 마감된 토론입니다.");
-                }
-            }
-
-            if (debate.getAuthor().equals(voter) ||
-                    (debate.getRebuttalAuthor() != null && debate.getRebuttalAuthor().equals(voter)))
-                return ResponseEntity.badRequest().body("작성자 또는 반박자는 투표할 수 없습니다.");
-
-            if (debate.getVoters() == null)
-                debate.setVoters(new ArrayList<>());
-            if (debate.getVoters().contains(voter))
-                return ResponseEntity.badRequest().body("이미 투표하셨습니다.");
-
-            if ("author".equals(type))
-                debate.setAuthorVotes(debate.getAuthorVotes() + 1);
-            else if ("rebuttal".equals(type))
-                debate.setRebuttalVotes(debate.getRebuttalVotes() + 1);
-            else
-                return ResponseEntity.badRequest().body("잘못된 투표 타입입니다.");
-
-            debate.getVoters().add(voter);
-            debateRepository.save(debate);
-
-            return ResponseEntity.ok(Map.of(
-                    "message", "✅ 투표 성공",
-                    "authorVotes", debate.getAuthorVotes(),
-                    "rebuttalVotes", debate.getRebuttalVotes()
-            ));
+            return debateService.vote(id, body, voter);
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.internalServerError().body("서버 오류 발생: " + e.getMessage());
@@ -243,23 +212,62 @@ public class DebateController {
 
     /** ✅ 댓글 트리 조회 (무한 대댓글 구조 포함) */
     @GetMapping("/{debateId}/comments/tree")
-    public ResponseEntity<List<Comment>> getTree(@PathVariable Long debateId) {
+    public ResponseEntity<List<CommentNode>> getTree(@PathVariable Long debateId) {
         return ResponseEntity.ok(debateService.getCommentTree(debateId));
     }
+
+    /** ✅ 토론 + 댓글 전체 내보내기 (관리/보관용, 트리로 모으지 않고 한 건씩 스트리밍)
+     *  - /api/debates/{id}/export?format=ndjson | binary
+     *  - 반환 타입이 ResponseEntity<StreamingResponseBody> 여야 비동기 스트리밍으로 처리됨 (오류 응답은 본문 없이)
+     */
+    @GetMapping("/{debateId}/export")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable Long debateId,
+                                                        @RequestParam(defaultValue = "ndjson") String format) {
+        Optional<ExportFormat> exportFormat = ExportFormat.of(format);
+        if (exportFormat.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        ExportFormat f = exportFormat.get();
+        return exportService.find(debateId)
+                .map(debate -> {
+                    StreamingResponseBody body = out -> exportService.write(debate, f, out);
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.parseMediaType(f.contentType()))
+                            .header(HttpHeaders.CONTENT_DISPOSITION,
+                                    "attachment; filename=\"debate-" + debateId + "." + f.extension() + "\"")
+                            .body(body);
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /** ✅ 내보낸 파일로 토론 복원 (새 토론으로, 댓글은 배치 INSERT)
+     *  - POST /api/debates/import?format=ndjson | binary, 본문 = 내보내기 파일 그대로
+     *  - 관리자만 (SecurityConfig, kakaoboard.admin.user-ids)
+     */
+    @PostMapping("/import")
+    public ResponseEntity<?> importDebate(@RequestParam(defaultValue = "ndjson") String format,
+                                          HttpServletRequest request) {
+        Optional<ExportFormat> importFormat = ExportFormat.of(format);
+        if (importFormat.isEmpty()) {
+            return ResponseEntity.badRequest().body("지원하지 않는 형식입니다: " + format);
+        }
+        try {
+            return ResponseEntity.ok(importService.importDebate(request.getInputStream(), importFormat.get()));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("가져오기 실패: " + e.getMessage());
+        }
+    }
+
     /** ✅ 댓글 삭제 (해당 토론에 속한 댓글만 삭제) */
     @DeleteMapping("/{debateId}/comments/{commentId}")
     public ResponseEntity<?> deleteComment(
             @PathVariable Long debateId,
             @PathVariable Long commentId
     ) {
-        var opt = commentRepository.findByIdAndDebateId(commentId, debateId);
-
-        if (opt.isEmpty()) {
+        if (!debateService.deleteComment(debateId, commentId)) {
             // 요청한 토론에 속한 댓글이 아니거나, 없는 댓글
             return ResponseEntity.notFound().build();
         }
-
-        commentRepository.delete(opt.get());
         return ResponseEntity.ok("댓글 삭제 완료");
     }
     /** ✅ 토론 수정 (마이페이지에서 사용)
@@ -271,36 +279,7 @@ public class DebateController {
             @RequestBody Map<String, String> body
     ) {
         try {
-            Optional<Debate> opt = debateRepository.findById(id);
-            if (opt.isEmpty()) {
-                return ResponseEntity.notFound().build();
-            }
-
-            Debate debate = opt.get();
-
-            // 🔒 반박중 / 마감된 토론은 수정 금지
-            if (debate.isClosed() || debate.getRebuttalTitle() != null) {
-                return ResponseEntity
-                        .badRequest()
-                        .body("반박중이거나 마감된 토론은 수정할 수 없습니다.");
-            }
-
-            String title = body.get("title");
-            String content = body.get("content");
-
-            if (title == null || title.trim().isEmpty()
-                    || content == null || content.trim().isEmpty()) {
-                return ResponseEntity
-                        .badRequest()
-                        .body("제목과 내용을 모두 입력해주세요.");
-            }
-
-            // ✏️ 실제 수정
-            debate.setTitle(title.trim());
-            debate.setContent(content.trim());
-            debateRepository.save(debate);
-
-            return ResponseEntity.ok(debate);
+            return debateService.updateDebate(id, body);
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity
@@ -309,4 +288,9 @@ public class DebateController {
         }
     }
 
+    // 토큰이 있으면 로그인 사용자 이름 (body 의 author 는 무시), 없으면 body 의 이름 또는 익명
+    private static String authorName(AuthUser user, String requested) {
+        if (user != null) return user.getUsername();
+        return requested == null || requested.isBlank() ? "익명" : requested;
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.kakaoboard.controller;
+
+import com.example.kakaoboard.search.SearchHit;
+import com.example.kakaoboard.search.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {
+        "http://localhost:3000",
+        "http://192.168.0.21:3000"
+})
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /** ✅ 토론/댓글 검색: /api/search?q=밸런스 게임&limit=20 (점수 높은 순) */
+    @GetMapping
+    public ResponseEntity<?> search(@RequestParam String q,
+                                    @RequestParam(required = false) Integer limit) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().body("검색어를 입력해주세요.");
+        }
+        List<SearchHit> hits = searchService.search(q, limit);
+        return ResponseEntity.ok(hits);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.kakaoboard.controller;
+
+import com.example.kakaoboard.controller.dto.CategoryStatsResponse;
+import com.example.kakaoboard.controller.dto.UserStatsResponse;
+import com.example.kakaoboard.stats.StatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {
+        "http://localhost:3000",
+        "http://192.168.0.21:3000"
+})
+public class StatsController {
+
+    private final StatsService statsService;
+
+    /** ✅ 사용자 활동 통계 (마이페이지): 토론/승리/댓글/투표 수 + 경험치/레벨 */
+    @GetMapping("/users/{username}")
+    public ResponseEntity<?> user(@PathVariable String username) {
+        return ResponseEntity.ok(UserStatsResponse.of(username, statsService.user(username)));
+    }
+
+    /** ✅ 카테고리별 토론/댓글/투표 수 */
+    @GetMapping("/categories")
+    public ResponseEntity<?> categories() {
+        return ResponseEntity.ok(statsService.categories().stream().map(CategoryStatsResponse::of).toList());
+    }
+}
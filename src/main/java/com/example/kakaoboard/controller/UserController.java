@@ -1,15 +1,20 @@
 package com.example.kakaoboard.controller;
 
+import com.example.kakaoboard.auth.AuthUser;
+import com.example.kakaoboard.auth.PasswordHasher;
+import com.example.kakaoboard.auth.PasswordHashingBusyException;
+import com.example.kakaoboard.auth.TokenService;
+import com.example.kakaoboard.controller.dto.AuthResponse;
 import com.example.kakaoboard.domain.User;
 import com.example.kakaoboard.repository.UserRepository;
 import com.example.kakaoboard.service.UserService;
-import com.example.kakaoboard.service.EmailService;
 import com.example.kakaoboard.service.EmailVerificationService;
-import jakarta.mail.MessagingException;
+import com.example.kakaoboard.verification.VerificationLockedException;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -23,13 +28,18 @@ public class UserController {
 
     private final UserService userService;
     private final UserRepository userRepository;
-    private final EmailService emailService;
     private final EmailVerificationService verificationService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TokenService tokenService;
 
-    /** ✅ 회원정보 수정 */
+    /** ✅ 회원정보 수정 (본인만, 닉네임이 바뀔 수 있으므로 토큰 재발급) */
     @PutMapping("/update/{id}")
-    public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody UpdateRequest request) {
+    public ResponseEntity<?> updateUser(@PathVariable Long id,
+                                        @RequestBody UpdateRequest request,
+                                        @AuthenticationPrincipal AuthUser principal) {
+        if (!principal.getId().equals(id)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("❌ 본인 정보만 수정할 수 있습니다.");
+        }
         try {
             User updated = userService.updateUser(
                     id,
@@ -38,23 +48,23 @@ public class UserController {
                     request.username,
                     request.newEmail
             );
-            return ResponseEntity.ok(updated);
+            return ResponseEntity.ok(AuthResponse.of(updated, tokenService.issue(updated)));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
-    /** ✅ 비밀번호 검증 */
+    /** ✅ 비밀번호 검증 (중요 작업 전 재확인용, 토큰의 본인 계정만) */
     @PostMapping("/verify")
-    public boolean verifyPassword(@RequestBody Map<String, String> data) {
-        String email = data.get("email");
+    public boolean verifyPassword(@RequestBody Map<String, String> data,
+                                  @AuthenticationPrincipal AuthUser principal) {
         String password = data.get("password");
 
-        Optional<User> userOpt = userRepository.findByEmail(email);
+        Optional<User> userOpt = userRepository.findById(principal.getId());
         if (userOpt.isEmpty()) return false;
 
         User user = userOpt.get();
-        return passwordEncoder.matches(password, user.getPassword());
+        return passwordHasher.matches(password, user.getPassword());
     }
 
     /** ✅ 아이디 찾기 */
@@ -79,15 +89,17 @@ public class UserController {
                 return ResponseEntity.badRequest().body("❌ 존재하지 않는 이메일입니다.");
             }
 
-            // ✅ 인증번호 생성 및 메일 전송
-            String code = verificationService.createVerificationCode(email);
-            emailService.sendVerificationMail(email, code);
+            // ✅ 인증번호 생성 + 메일 발송 예약 (발송은 createVerificationCode 안에서 1번만)
+            verificationService.createVerificationCode(email);
 
             return ResponseEntity.ok("✅ 인증번호가 이메일로 전송되었습니다.");
 
-        } catch (MessagingException e) {
-            e.printStackTrace();
-            return ResponseEntity.internalServerError().body("메일 전송 실패: " + e.getMessage());
+        } catch (VerificationLockedException e) {
+            // 인증번호를 너무 많이 틀림
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        } catch (IllegalStateException e) {
+            // 발송 대기열이 가득 참
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         }
     }
     /** ✅ 인증번호 검증 */
@@ -103,8 +115,12 @@ public class UserController {
     @DeleteMapping("/delete/{id}")
     public ResponseEntity<?> deleteUser(
             @PathVariable Long id,
-            @RequestBody(required = false) DeleteUserRequest request
+            @RequestBody(required = false) DeleteUserRequest request,
+            @AuthenticationPrincipal AuthUser principal
     ) {
+        if (!principal.getId().equals(id)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("❌ 본인만 탈퇴할 수 있습니다.");
+        }
         String email = request != null ? request.getEmail() : null;
         String password = request != null ? request.getPassword() : null;
 
@@ -132,6 +148,8 @@ public class UserController {
             userService.updatePassword(email, newPassword);
             verificationService.clearVerification(email);
             return ResponseEntity.ok("✅ 비밀번호가 성공적으로 변경되었습니다.");
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.internalServerError().body("비밀번호 변경 중 오류: " + e.getMessage());
         }
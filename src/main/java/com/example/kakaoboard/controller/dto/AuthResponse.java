@@ -0,0 +1,29 @@
+package com.example.kakaoboard.controller.dto;
+
+import com.example.kakaoboard.auth.IssuedToken;
+import com.example.kakaoboard.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * ✅ 로그인/회원정보 수정 응답 (비밀번호 해시 없이 화면에 필요한 값 + 토큰)
+ * - 프론트는 이 객체를 그대로 localStorage "user" 에 저장하고 token 을 Authorization 헤더로 보냄
+ */
+@Getter
+@AllArgsConstructor
+public class AuthResponse {
+    private Long id;
+    private String username;
+    private String email;
+    private int exp;
+    private int level;
+    private String token;
+    private Instant expiresAt;
+
+    public static AuthResponse of(User user, IssuedToken token) {
+        return new AuthResponse(user.getId(), user.getUsername(), user.getEmail(),
+                user.getExp(), user.getLevel(), token.getToken(), token.getExpiresAt());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.kakaoboard.controller.dto;
+
+import com.example.kakaoboard.domain.CategoryStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ✅ 카테고리별 토론/댓글/투표 수
+ */
+@Getter
+@AllArgsConstructor
+public class CategoryStatsResponse {
+    private String category;
+    private long debates;
+    private long comments;
+    private long votes;
+
+    public static CategoryStatsResponse of(CategoryStats s) {
+        return new CategoryStatsResponse(s.getCategory(), s.getDebates(), s.getComments(), s.getVotes());
+    }
+}
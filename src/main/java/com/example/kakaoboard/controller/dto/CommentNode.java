@@ -0,0 +1,39 @@
+package com.example.kakaoboard.controller.dto;
+
+import com.example.kakaoboard.domain.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ✅ 댓글 트리 노드 (댓글 작성 응답 / 댓글 트리 응답)
+ * - 부모/토론 역참조 없이 replies 만 아래로 → 캐시에 넣어도 엔티티/세션을 붙잡지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class CommentNode {
+    private Long id;
+    private Long parentId;
+    private String author;
+    private String text;
+    private String ipAddress;
+    private LocalDateTime createdAt;
+    private List<CommentNode> replies;
+
+    /**
+     * ✅ 댓글 + 이미 채워진 replies 를 재귀로 변환 (CommentTreeBuilder 결과용)
+     */
+    public static CommentNode of(Comment c) {
+        List<CommentNode> replies = c.getReplies() == null
+                ? List.of()
+                : c.getReplies().stream().map(CommentNode::of).toList();
+        return new CommentNode(c.getId(), c.getParent() == null ? null : c.getParent().getId(),
+                c.getAuthor(), c.getText(), c.getIpAddress(), c.getCreatedAt(), replies);
+    }
+
+    public static List<CommentNode> tree(List<Comment> roots) {
+        return roots.stream().map(CommentNode::of).toList();
+    }
+}
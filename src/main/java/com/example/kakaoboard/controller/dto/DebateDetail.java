@@ -0,0 +1,47 @@
+package com.example.kakaoboard.controller.dto;
+
+import com.example.kakaoboard.domain.Debate;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 토론 응답 (전체 목록/작성/수정/반박)
+ * - 엔티티를 그대로 내보내면 comments → replies 그래프 전체가 딸려 나가고 지연 로딩이 터짐
+ * - 화면에 쓰는 단일 값만, 댓글은 /comments/tree 로 따로
+ */
+@Getter
+@AllArgsConstructor
+public class DebateDetail {
+    private Long id;
+    private String title;
+    private String content;
+    private String author;
+    private String category;
+    private String winner;
+
+    private String rebuttalTitle;
+    private String rebuttalContent;
+    private String rebuttalAuthor;
+    private LocalDateTime rebuttalAt;
+
+    private int authorVotes;
+    private int rebuttalVotes;
+    private int likes;
+    private int dislikes;
+
+    @JsonProperty("isClosed")
+    private boolean closed;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime closedAt;
+
+    public static DebateDetail of(Debate d) {
+        return new DebateDetail(d.getId(), d.getTitle(), d.getContent(), d.getAuthor(), d.getCategory(), d.getWinner(),
+                d.getRebuttalTitle(), d.getRebuttalContent(), d.getRebuttalAuthor(), d.getRebuttalAt(),
+                d.getAuthorVotes(), d.getRebuttalVotes(), d.getLikes(), d.getDislikes(),
+                d.isClosed(), d.getCreatedAt(), d.getClosedAt());
+    }
+}
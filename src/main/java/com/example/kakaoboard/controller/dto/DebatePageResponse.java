@@ -0,0 +1,20 @@
+package com.example.kakaoboard.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ✅ 커서(keyset) 페이지 응답
+ * - 다음 페이지는 nextCursorCreatedAt + nextCursorId 를 그대로 넘기면 됨
+ */
+@Getter
+@AllArgsConstructor
+public class DebatePageResponse {
+    private List<DebateSummary> items;
+    private boolean hasNext;
+    private LocalDateTime nextCursorCreatedAt;
+    private Long nextCursorId;
+}
@@ -0,0 +1,32 @@
+package com.example.kakaoboard.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 토론 목록용 요약 (댓글/투표자 컬렉션 없이 한 줄 조회)
+ * - DebateRepository 의 JPQL constructor expression 으로 바로 채워짐
+ */
+@Getter
+@AllArgsConstructor
+public class DebateSummary {
+    private Long id;
+    private String title;
+    private String category;
+    private String author;
+    private String rebuttalAuthor;
+    private int authorVotes;
+    private int rebuttalVotes;
+    private int likes;
+    private int dislikes;
+
+    @JsonProperty("isClosed")
+    private boolean closed;
+
+    private String winner;
+    private LocalDateTime createdAt;
+    private long commentCount;
+}
@@ -0,0 +1,26 @@
+package com.example.kakaoboard.controller.dto;
+
+import com.example.kakaoboard.event.DebateEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * ✅ 실시간 토론 변경 알림 (/topic/debates, /topic/debates/{id})
+ * - type: UPDATED(summary 포함) / DELETED / REFRESH(여러 토론이 바뀜 → 목록 다시 조회)
+ * - events: 묶인 구간 동안 발생한 변경 종류 (VOTED, LIKED, COMMENTED ...)
+ */
+@Getter
+@AllArgsConstructor
+public class DebateUpdateMessage {
+
+    public enum Type {
+        UPDATED, DELETED, REFRESH
+    }
+
+    private Type type;
+    private Long debateId;
+    private Set<DebateEvent.Type> events;
+    private DebateSummary summary;
+}
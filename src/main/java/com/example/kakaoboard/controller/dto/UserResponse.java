@@ -0,0 +1,22 @@
+package com.example.kakaoboard.controller.dto;
+
+import com.example.kakaoboard.domain.User;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ✅ 회원가입 응답 (비밀번호 해시/인증번호 없이)
+ */
+@Getter
+@AllArgsConstructor
+public class UserResponse {
+    private Long id;
+    private String username;
+    private String email;
+    private int exp;
+    private int level;
+
+    public static UserResponse of(User user) {
+        return new UserResponse(user.getId(), user.getUsername(), user.getEmail(), user.getExp(), user.getLevel());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.kakaoboard.controller.dto;
+
+import com.example.kakaoboard.domain.UserStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ✅ 사용자 활동 통계 응답 (마이페이지)
+ */
+@Getter
+@AllArgsConstructor
+public class UserStatsResponse {
+    private String username;
+    private long debates;
+    private long wins;
+    private long comments;
+    private long votesCast;
+    private long exp;
+    private long level;
+
+    public static UserStatsResponse of(String username, UserStats s) {
+        return new UserStatsResponse(username, s.getDebates(), s.getWins(), s.getComments(),
+                s.getVotesCast(), s.getExp(), s.getLevel());
+    }
+}
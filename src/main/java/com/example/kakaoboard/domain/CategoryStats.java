@@ -0,0 +1,25 @@
+package com.example.kakaoboard.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ✅ 카테고리별 활동 집계 (토론/댓글/투표 수)
+ * - 카테고리는 몇 개 안 되므로 통계 화면은 이 테이블 전체를 읽음
+ */
+@Entity
+@Table(name = "category_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryStats {
+
+    @Id
+    @Column(length = 100)
+    private String category;
+
+    private long debates;
+    private long comments;
+    private long votes;
+}
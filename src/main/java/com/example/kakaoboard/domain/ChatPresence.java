@@ -0,0 +1,49 @@
+package com.example.kakaoboard.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 채팅 접속자 (여러 서버 공유용, 방별)
+ * - id: roomId + "/" + sessionId (한 세션이 여러 방에 들어갈 수 있음)
+ * - nodeId: 세션을 가진 서버
+ * - lastSeen: 서버가 주기적으로 갱신, 오래된 행은 죽은 서버의 세션으로 보고 정리
+ */
+@Entity
+@Table(name = "chat_presence", indexes = {
+        @Index(name = "idx_chat_presence_room_sender", columnList = "room_id, sender"),
+        @Index(name = "idx_chat_presence_session", columnList = "session_id"),
+        @Index(name = "idx_chat_presence_last_seen", columnList = "last_seen")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatPresence {
+
+    @Id
+    @Column(length = 200)
+    private String id;
+
+    @Column(nullable = false, length = 100)
+    private String roomId;
+
+    @Column(nullable = false, length = 100)
+    private String sessionId;
+
+    private String sender;
+    private String ip;
+
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime lastSeen;
+
+    public static String idOf(String roomId, String sessionId) {
+        return roomId + "/" + sessionId;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.kakaoboard.domain;
 
+import com.example.kakaoboard.config.BlockSequence;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
@@ -16,11 +17,18 @@ import java.util.List;
 @Builder
 public class Comment {
 
+    // ✅ id 를 한 번에 몇 개씩 받아 올지 (가져온 뒤에는 DB 왕복 없이 메모리에서 배정)
+    public static final String ID_SEQUENCE = "comment_seq";
+    public static final int ID_ALLOCATION = 50;
+
+    /** ✅ IDENTITY 는 INSERT 를 실행해야 id 를 알 수 있어 JDBC 배치가 꺼짐 → 시퀀스(MySQL 은 comment_seq 테이블) 에서 미리 받아 둠
+     *  - 구간은 전용 커넥션으로 받음 (SequenceBlockGenerator: 본 풀이 다 차도 INSERT 가 멈추지 않게) */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @BlockSequence(name = ID_SEQUENCE, allocationSize = ID_ALLOCATION)
     private Long id;
 
     private String author;
+    private Long authorId; // ✅ 로그인해서 쓴 경우 작성자 id (익명이면 null)
     private String text;
     private String ipAddress;
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -1,5 +1,6 @@
 package com.example.kakaoboard.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
@@ -10,6 +11,13 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 @Entity
+@Table(indexes = {
+        // ✅ 목록 커서 페이징 (최신순) / 카테고리 필터 + 최신순
+        @Index(name = "idx_debate_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_debate_category_created_id", columnList = "category, created_at, id"),
+        // ✅ 자동 마감 대상 (미마감 + 반박시각 오래된 순)
+        @Index(name = "idx_debate_closed_rebuttal", columnList = "is_closed, rebuttal_at")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Getter
 @Setter
@@ -26,6 +34,10 @@ public class Debate {
     private String content;
     private String author;
 
+    // ✅ 로그인해서 쓴 경우 작성자 id (토큰에서, 익명이면 null) → 본인 투표 확인/활동 기록은 이름이 아니라 이 값으로
+    @JsonIgnore
+    private Long authorId;
+
     private String winner; // "author", "rebuttal", or "draw"
 
     @Column(nullable = false)
@@ -35,6 +47,8 @@ public class Debate {
     private String rebuttalTitle;
     private String rebuttalContent;
     private String rebuttalAuthor;
+    @JsonIgnore
+    private Long rebuttalAuthorId;
     private LocalDateTime rebuttalAt; // 반박 등록 시각
 
     // ✅ 투표 관련
@@ -42,12 +56,18 @@ public class Debate {
     private int rebuttalVotes = 0;
 
     // ✅ 투표자 목록 (별도 테이블로 자동 생성됨)
+    // - (debate_id, voter) 유니크 → 중복 투표는 DB 가 거절
+    // - 응답에는 포함하지 않음 (투표자 수만큼 커지므로)
     @ElementCollection
     @CollectionTable(
             name = "debate_voters",                      // 🔥 테이블 이름
-            joinColumns = @JoinColumn(name = "debate_id") // FK 이름
+            joinColumns = @JoinColumn(name = "debate_id"), // FK 이름
+            uniqueConstraints = @UniqueConstraint(
+                    name = "uk_debate_voters_debate_voter",
+                    columnNames = {"debate_id", "voter"})
     )
     @Column(name = "voter") // 컬럼 이름
+    @JsonIgnore
     private List<String> voters = new ArrayList<>();
 
     // ✅ 상태 관련
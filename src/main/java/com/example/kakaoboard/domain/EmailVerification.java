@@ -0,0 +1,39 @@
+package com.example.kakaoboard.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 이메일 인증 상태 (jdbc 저장소용)
+ * - code/expiresAt: 발급된 인증번호, failedAttempts: 확인 시도 횟수 (맞히면 행이 지워지므로 사실상 틀린 횟수, 잠금 판단)
+ * - verifiedUntil: 인증 완료 후 이 시각까지 회원가입/수정 가능
+ * - 둘 다 만료된 행은 주기적으로 삭제
+ */
+@Entity
+@Table(name = "email_verification", indexes = {
+        @Index(name = "idx_email_verification_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_email_verification_verified_until", columnList = "verified_until")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailVerification {
+
+    @Id
+    private String email;
+
+    @Column(length = 10)
+    private String code;
+
+    private LocalDateTime issuedAt;
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private int failedAttempts;
+
+    private LocalDateTime verifiedUntil;
+}
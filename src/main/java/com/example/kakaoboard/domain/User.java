@@ -1,5 +1,6 @@
 package com.example.kakaoboard.domain;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,7 +9,7 @@ import lombok.Setter;
  * 회원 엔티티
  * - username: 아이디 (unique)
  * - email: 이메일 (unique)
- * - password: 암호화된 비밀번호
+ * - password: 암호화된 비밀번호 (요청으로 받기만 하고 응답 JSON 에는 절대 포함 안 함)
  * - code: 이메일 인증번호 (transient → DB에 저장되지 않음)
  */
 @Entity
@@ -24,6 +25,7 @@ public class User {
     @Column(nullable = false, unique = true)
     private String username;
 
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Column(nullable = false)
     private String password;
 
@@ -0,0 +1,51 @@
+package com.example.kakaoboard.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ✅ 회원별 활동 집계 (마이페이지/통계 화면은 이 행 하나만 읽음)
+ * - userId: 로그인해서 쓴 토론/댓글/반박의 작성자 id, 투표자 id (익명 작성자 이름은 집계하지 않음)
+ *   → 아무 이름이나 넣어 남의 통계/경험치를 올릴 수 없고, 닉네임을 바꿔도 그대로
+ * - 예전 user_stats (이름 키) 는 쓰지 않음: 기동 시 비어 있으면 원본 테이블에서 다시 채움
+ * - StatsService 가 이벤트로 증가분을 모아 반영하고, 주기적으로 원본 테이블과 대조해 다시 계산
+ */
+@Entity
+@Table(name = "member_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStats {
+
+    // ✅ 경험치 = 토론 10 + 승리 30 + 댓글 2 + 투표 1, 100 마다 레벨 +1
+    public static final int EXP_DEBATE = 10;
+    public static final int EXP_WIN = 30;
+    public static final int EXP_COMMENT = 2;
+    public static final int EXP_VOTE = 1;
+    public static final int EXP_PER_LEVEL = 100;
+
+    @Id
+    private Long userId;
+
+    private long debates;
+    private long wins;
+    private long comments;
+    private long votesCast;
+
+    public long getExp() {
+        return Math.max(0, exp(debates, wins, comments, votesCast));
+    }
+
+    public long getLevel() {
+        return level(getExp());
+    }
+
+    public static long exp(long debates, long wins, long comments, long votesCast) {
+        return debates * EXP_DEBATE + wins * EXP_WIN + comments * EXP_COMMENT + votesCast * EXP_VOTE;
+    }
+
+    public static long level(long exp) {
+        return 1 + exp / EXP_PER_LEVEL;
+    }
+}
@@ -20,4 +20,5 @@ public class ChatMessage {
     private String sender;   // 닉네임
     private String message;  // 채팅 내용
     private String ip;       // 서버에서 채워줄 IP
+    private Long offset;     // 채팅 기록 순번 (CHAT 만, 재접속 시 이 다음부터 다시 받기)
 }
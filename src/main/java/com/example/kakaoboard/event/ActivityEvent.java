@@ -0,0 +1,25 @@
+package com.example.kakaoboard.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ✅ 사용자/카테고리 활동 이벤트 (DebateService 에서 발행, 통계 집계용)
+ * - DebateEvent 는 토론 id 만 들고 있어서, 누가/어느 카테고리에서 했는지는 여기에 담음
+ * - userId: 로그인해서 한 활동의 사용자 id, null 이면 (익명) 카테고리만 집계 → 이름만으로는 사용자 통계/경험치 없음
+ * - category 가 null 이면 사용자만 집계
+ * - delta: 작성 +1, 삭제 -n
+ */
+@Getter
+@AllArgsConstructor
+public class ActivityEvent {
+
+    public enum Kind {
+        DEBATE, COMMENT, VOTE, WIN
+    }
+
+    private final Kind kind;
+    private final Long userId;
+    private final String category;
+    private final int delta;
+}
@@ -0,0 +1,40 @@
+package com.example.kakaoboard.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * ✅ 토론 변경 이벤트 (DebateService 에서 발행)
+ * - 캐시 무효화 등 후속 처리는 @EventListener 로 구독
+ * - debateId 가 null 이면 여러 토론이 한 번에 바뀐 경우 (예: 일괄 자동 마감)
+ * - commentIds: COMMENTED / COMMENT_DELETED 에서 추가/삭제된 댓글 id (대댓글 포함, 없으면 빈 목록)
+ * - count: LIKED / DISLIKED 에 묶인 클릭 수 (write-behind flush 는 여러 클릭을 이벤트 하나로 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class DebateEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, CLOSED, REBUTTED,
+        VOTED, LIKED, DISLIKED, COMMENTED, COMMENT_DELETED
+    }
+
+    private final Type type;
+    private final Long debateId;
+    private final List<Long> commentIds;
+    private final int count;
+
+    public DebateEvent(Type type, Long debateId) {
+        this(type, debateId, List.of(), 1);
+    }
+
+    public DebateEvent(Type type, Long debateId, List<Long> commentIds) {
+        this(type, debateId, commentIds, 1);
+    }
+
+    public DebateEvent(Type type, Long debateId, int count) {
+        this(type, debateId, List.of(), count);
+    }
+}
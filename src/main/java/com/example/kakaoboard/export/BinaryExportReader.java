@@ -0,0 +1,101 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.controller.dto.DebateDetail;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * ✅ 바이너리 내보내기 파일 읽기 (형식은 BinaryExportWriter)
+ * - debate() 한 번 → nextComment() 를 null 이 나올 때까지 → total() 로 댓글 수 확인
+ * - 쓸 때와 같이 한 건씩 읽으므로 파일 크기와 무관하게 메모리 일정
+ */
+public class BinaryExportReader implements ExportReader {
+
+    private final DataInputStream in;
+    private Long total;
+
+    public BinaryExportReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in, 64 * 1024));
+        byte[] magic = new byte[BinaryExportWriter.MAGIC.length];
+        this.in.readFully(magic);
+        if (!Arrays.equals(magic, BinaryExportWriter.MAGIC)) {
+            throw new IOException("토론 내보내기 파일이 아닙니다.");
+        }
+        int version = this.in.readUnsignedByte();
+        if (version != BinaryExportWriter.VERSION) {
+            throw new IOException("지원하지 않는 버전입니다: " + version);
+        }
+    }
+
+    @Override
+    public DebateDetail debate() throws IOException {
+        expect(BinaryExportWriter.DEBATE);
+        return new DebateDetail(readVarLong(), readString(), readString(), readString(), readString(), readString(),
+                readString(), readString(), readString(), readTime(),
+                (int) readVarLong(), (int) readVarLong(), (int) readVarLong(), (int) readVarLong(),
+                in.readBoolean(), readTime(), readTime());
+    }
+
+    @Override
+    public ExportedComment nextComment() throws IOException {
+        if (total != null) return null;
+        int tag = in.readUnsignedByte();
+        if (tag == BinaryExportWriter.END) {
+            total = readVarLong();
+            return null;
+        }
+        if (tag != BinaryExportWriter.COMMENT) {
+            throw new IOException("잘못된 레코드: " + tag);
+        }
+        long id = readVarLong();
+        long parent = readVarLong();
+        return new ExportedComment(id, parent == 0 ? null : parent - 1,
+                readString(), readString(), readString(), readTime());
+    }
+
+    @Override
+    public Long total() {
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void expect(int tag) throws IOException {
+        int read = in.readUnsignedByte();
+        if (read != tag) throw new IOException("잘못된 레코드: " + read);
+    }
+
+    private String readString() throws IOException {
+        long length = readVarLong();
+        if (length == 0) return null;
+        byte[] bytes = new byte[(int) (length - 1)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private LocalDateTime readTime() throws IOException {
+        long v = readVarLong();
+        return v == 0 ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(v - 1), ZoneOffset.UTC);
+    }
+
+    private long readVarLong() throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
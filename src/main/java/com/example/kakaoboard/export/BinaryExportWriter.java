@@ -0,0 +1,103 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.controller.dto.DebateDetail;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * ✅ 바이너리 내보내기 (.kbx)
+ * - 파일 = "KBEX" + 버전(1바이트) + 레코드...
+ * - 레코드 = 태그(1바이트) + 본문
+ *   'D' 토론: id, title, content, author, category, winner, rebuttalTitle, rebuttalContent, rebuttalAuthor,
+ *            rebuttalAt, authorVotes, rebuttalVotes, likes, dislikes, closed(1바이트), createdAt, closedAt
+ *   'C' 댓글: id, parentId, author, text, ipAddress, createdAt
+ *   'E' 끝: 댓글 수
+ * - 숫자 = varint (7비트씩, 작을수록 짧음), parentId 는 +1 (0 = 루트)
+ * - 문자열 = varint(UTF-8 바이트 길이 + 1, 0 = null) + 바이트
+ * - 시각 = varint(LocalDateTime 을 UTC 로 본 epoch ms + 1, 0 = null)
+ * - 읽기는 BinaryExportReader
+ */
+final class BinaryExportWriter implements ExportWriter {
+
+    static final byte[] MAGIC = {'K', 'B', 'E', 'X'};
+    static final int VERSION = 1;
+    static final int DEBATE = 'D';
+    static final int COMMENT = 'C';
+    static final int END = 'E';
+
+    private final DataOutputStream out;
+
+    BinaryExportWriter(OutputStream out) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        this.out.write(MAGIC);
+        this.out.writeByte(VERSION);
+    }
+
+    @Override
+    public void debate(DebateDetail d) throws IOException {
+        out.writeByte(DEBATE);
+        writeVarLong(d.getId());
+        writeString(d.getTitle());
+        writeString(d.getContent());
+        writeString(d.getAuthor());
+        writeString(d.getCategory());
+        writeString(d.getWinner());
+        writeString(d.getRebuttalTitle());
+        writeString(d.getRebuttalContent());
+        writeString(d.getRebuttalAuthor());
+        writeTime(d.getRebuttalAt());
+        writeVarLong(d.getAuthorVotes());
+        writeVarLong(d.getRebuttalVotes());
+        writeVarLong(d.getLikes());
+        writeVarLong(d.getDislikes());
+        out.writeBoolean(d.isClosed());
+        writeTime(d.getCreatedAt());
+        writeTime(d.getClosedAt());
+    }
+
+    @Override
+    public void comment(ExportedComment c) throws IOException {
+        out.writeByte(COMMENT);
+        writeVarLong(c.getId());
+        writeVarLong(c.getParentId() == null ? 0 : c.getParentId() + 1);
+        writeString(c.getAuthor());
+        writeString(c.getText());
+        writeString(c.getIpAddress());
+        writeTime(c.getCreatedAt());
+    }
+
+    @Override
+    public void end(long comments) throws IOException {
+        out.writeByte(END);
+        writeVarLong(comments);
+        out.flush();
+    }
+
+    private void writeString(String s) throws IOException {
+        if (s == null) {
+            writeVarLong(0);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        out.write(bytes);
+    }
+
+    private void writeTime(LocalDateTime t) throws IOException {
+        writeVarLong(t == null ? 0 : t.toInstant(ZoneOffset.UTC).toEpochMilli() + 1);
+    }
+
+    private void writeVarLong(long v) throws IOException {
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+}
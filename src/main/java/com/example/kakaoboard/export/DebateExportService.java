@@ -0,0 +1,84 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.controller.dto.DebateDetail;
+import com.example.kakaoboard.repository.CommentRepository;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * ✅ 토론 통째 내보내기 (관리/보관용)
+ * - 댓글을 트리로 모으지 않고 id 순 커서로 한 건씩 읽어 바로 응답에 씀 → 댓글이 몇 만 개여도 메모리 일정
+ * - parentId 가 있으므로 받는 쪽에서 트리 복원 가능
+ *   (댓글 id 는 서버마다 미리 받아 둔 구간에서 배정 → 여러 서버면 대댓글 id 가 부모보다 작을 수 있음, DebateImportService 는 부모를 기다렸다 저장)
+ * - 쓰기는 응답 스레드가 아닌 비동기 스레드에서 → 거기서 읽기 전용 트랜잭션을 열고 스트림을 끝까지 소비
+ */
+@Slf4j
+@Component
+public class DebateExportService {
+
+    private final DebateRepository debateRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnly;
+
+    public DebateExportService(DebateRepository debateRepository,
+                               CommentRepository commentRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.debateRepository = debateRepository;
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    /**
+     * ✅ 토론 정보 (없으면 empty → 404)
+     */
+    public Optional<DebateDetail> find(Long debateId) {
+        return debateRepository.findById(debateId).map(DebateDetail::of);
+    }
+
+    /**
+     * ✅ 토론 1건 + 댓글 전체를 out 에 씀
+     * @return 쓴 댓글 수
+     */
+    public long write(DebateDetail debate, ExportFormat format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        ExportWriter writer = format == ExportFormat.BINARY
+                ? new BinaryExportWriter(out)
+                : new NdjsonExportWriter(objectMapper, out);
+
+        writer.debate(debate);
+        Long count = readOnly.execute(status -> {
+            long n = 0;
+            try (Stream<ExportedComment> rows = commentRepository.streamForExport(debate.getId())) {
+                Iterator<ExportedComment> it = rows.iterator();
+                while (it.hasNext()) {
+                    writer.comment(it.next());
+                    n++;
+                }
+            } catch (IOException e) {
+                // 받는 쪽이 끊음 → 커서를 닫고 중단
+                throw new UncheckedIOException(e);
+            }
+            return n;
+        });
+        writer.end(count);
+
+        log.info("토론 내보내기: debateId={} format={} comments={} ({}ms)",
+                debate.getId(), format, count, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.controller.dto.DebateDetail;
+import com.example.kakaoboard.domain.Comment;
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.event.DebateEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 내보낸 토론 가져오기 (보관 파일 → 새 토론으로 복원)
+ * - 댓글은 한 건씩 읽어 persist, batchSize 개마다 flush + clear → JDBC 배치 INSERT 한 번, 영속성 컨텍스트도 일정 크기
+ * - 댓글 id 는 시퀀스에서 미리 받아 두므로 (Comment.ID_ALLOCATION) persist 할 때 DB 왕복 없음
+ * - 옛 id → 새 id 를 기억해 두고 부모를 새 id 로 연결 → 트리 그대로 복원
+ *   (여러 서버에서 쓴 댓글은 대댓글이 부모보다 먼저 나올 수 있음 → 부모가 나올 때까지만 메모리에 보관)
+ * - 한 트랜잭션: 파일이 잘렸거나 형식이 틀리면 전부 롤백
+ * - 활동 통계(ActivityEvent) 는 올리지 않음: 복원한 글은 새 활동이 아님 (원본 테이블 기준 대조에서만 반영)
+ */
+@Slf4j
+@Component
+public class DebateImportService {
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final int defaultBatchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public DebateImportService(ObjectMapper objectMapper,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int defaultBatchSize) {
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.defaultBatchSize = Math.max(1, defaultBatchSize);
+    }
+
+    public DebateDetail importDebate(InputStream in, ExportFormat format) throws IOException {
+        return importDebate(in, format, defaultBatchSize);
+    }
+
+    /**
+     * @return 새로 만든 토론
+     * @throws IOException 내보내기 파일이 아니거나 중간에 잘린 경우 (아무것도 저장 안 됨)
+     */
+    public DebateDetail importDebate(InputStream in, ExportFormat format, int batchSize) throws IOException {
+        long start = System.nanoTime();
+        try (ExportReader reader = format == ExportFormat.BINARY
+                ? new BinaryExportReader(in)
+                : new NdjsonExportReader(objectMapper, in)) {
+            DebateDetail source = reader.debate();
+
+            Debate saved = transaction.execute(status -> {
+                try {
+                    return save(source, reader, Math.max(1, batchSize));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            eventPublisher.publishEvent(new DebateEvent(DebateEvent.Type.CREATED, saved.getId()));
+
+            log.info("토론 가져오기: {} → debateId={} format={} comments={} batch={} ({}ms)",
+                    source.getId(), saved.getId(), format, reader.total(), batchSize,
+                    (System.nanoTime() - start) / 1_000_000);
+            return DebateDetail.of(saved);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Debate save(DebateDetail source, ExportReader reader, int batchSize) throws IOException {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        Debate debate = toEntity(source);
+        entityManager.persist(debate);
+        Long debateId = debate.getId();
+
+        // 옛 댓글 id → 새 댓글 id
+        Map<Long, Long> ids = new HashMap<>();
+        // 아직 안 나온 부모의 옛 id → 기다리는 댓글
+        Map<Long, List<ExportedComment>> waiting = new HashMap<>();
+        Deque<ExportedComment> ready = new ArrayDeque<>();
+        long read = 0;
+        long saved = 0;
+        for (ExportedComment next = reader.nextComment(); next != null; next = reader.nextComment()) {
+            read++;
+            if (next.getParentId() != null && !ids.containsKey(next.getParentId())) {
+                waiting.computeIfAbsent(next.getParentId(), k -> new ArrayList<>()).add(next);
+                continue;
+            }
+            ready.add(next);
+            while (!ready.isEmpty()) {
+                ExportedComment c = ready.poll();
+                Comment comment = new Comment();
+                comment.setAuthor(c.getAuthor());
+                comment.setText(c.getText());
+                comment.setIpAddress(c.getIpAddress());
+                comment.setCreatedAt(c.getCreatedAt());
+                comment.setDebate(entityManager.getReference(Debate.class, debateId));
+                if (c.getParentId() != null) {
+                    comment.setParent(entityManager.getReference(Comment.class, ids.get(c.getParentId())));
+                }
+                entityManager.persist(comment);
+                ids.put(c.getId(), comment.getId());
+                List<ExportedComment> children = waiting.remove(c.getId());
+                if (children != null) {
+                    ready.addAll(children);
+                }
+
+                if (++saved % batchSize == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        if (reader.total() == null || reader.total() != read) {
+            throw new IOException("댓글 수가 맞지 않습니다: 끝 레코드 " + reader.total() + ", 읽은 댓글 " + read);
+        }
+        if (!waiting.isEmpty()) {
+            throw new IOException("부모 댓글이 없는 댓글: 부모 id " + waiting.keySet().iterator().next()
+                    + " 등 " + (read - saved) + "개");
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return debate;
+    }
+
+    // 투표자 목록은 내보내지 않으므로 득표수만 복원
+    private static Debate toEntity(DebateDetail d) {
+        Debate debate = new Debate();
+        debate.setTitle(d.getTitle());
+        debate.setContent(d.getContent());
+        debate.setAuthor(d.getAuthor());
+        debate.setCategory(d.getCategory());
+        debate.setWinner(d.getWinner());
+        debate.setRebuttalTitle(d.getRebuttalTitle());
+        debate.setRebuttalContent(d.getRebuttalContent());
+        debate.setRebuttalAuthor(d.getRebuttalAuthor());
+        debate.setRebuttalAt(d.getRebuttalAt());
+        debate.setAuthorVotes(d.getAuthorVotes());
+        debate.setRebuttalVotes(d.getRebuttalVotes());
+        debate.setLikes(d.getLikes());
+        debate.setDislikes(d.getDislikes());
+        debate.setClosed(d.isClosed());
+        debate.setClosedAt(d.getClosedAt());
+        return debate;
+    }
+}
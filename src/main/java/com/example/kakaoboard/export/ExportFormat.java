@@ -0,0 +1,36 @@
+package com.example.kakaoboard.export;
+
+import java.util.Optional;
+
+/**
+ * ✅ 토론 내보내기 형식
+ * - NDJSON: 한 줄에 JSON 하나 (debate → comment... → end), 사람이 보거나 jq 로 처리
+ * - BINARY: 길이 접두 바이너리 (BinaryExportWriter 참고), 보관용으로 더 작고 빠름
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    BINARY("application/octet-stream", "kbx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static Optional<ExportFormat> of(String name) {
+        for (ExportFormat f : values()) {
+            if (f.name().equalsIgnoreCase(name) || f.extension.equalsIgnoreCase(name)) return Optional.of(f);
+        }
+        return Optional.empty();
+    }
+}
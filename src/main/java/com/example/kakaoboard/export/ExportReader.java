@@ -0,0 +1,25 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.controller.dto.DebateDetail;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * ✅ 내보내기 레코드 읽기 (ExportWriter 의 반대)
+ * - debate() 한 번 → nextComment() 를 null 이 나올 때까지 → total() 로 댓글 수 확인
+ */
+interface ExportReader extends Closeable {
+
+    DebateDetail debate() throws IOException;
+
+    /**
+     * @return 다음 댓글, 끝이면 null
+     */
+    ExportedComment nextComment() throws IOException;
+
+    /**
+     * ✅ 끝 레코드에 적힌 댓글 수 (끝까지 읽기 전에는 null)
+     */
+    Long total();
+}
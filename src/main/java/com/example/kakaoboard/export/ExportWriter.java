@@ -0,0 +1,18 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.controller.dto.DebateDetail;
+
+import java.io.IOException;
+
+/**
+ * ✅ 내보내기 레코드 쓰기 (토론 1개 → 댓글 n개 → 끝 표시)
+ * - 한 건씩 바로 출력 스트림에 씀 → 댓글 수와 무관하게 메모리 일정
+ */
+interface ExportWriter {
+
+    void debate(DebateDetail debate) throws IOException;
+
+    void comment(ExportedComment comment) throws IOException;
+
+    void end(long comments) throws IOException;
+}
@@ -0,0 +1,20 @@
+package com.example.kakaoboard.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 내보내기 댓글 한 건 (CommentRepository.streamForExport 결과 / BinaryExportReader 가 읽은 값)
+ */
+@Getter
+@AllArgsConstructor
+public class ExportedComment {
+    private Long id;
+    private Long parentId;
+    private String author;
+    private String text;
+    private String ipAddress;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,89 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.controller.dto.DebateDetail;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * ✅ NDJSON 내보내기 파일 읽기 (형식은 NdjsonExportWriter)
+ * - 한 줄씩 읽으므로 파일 크기와 무관하게 메모리 일정
+ */
+final class NdjsonExportReader implements ExportReader {
+
+    private final ObjectMapper objectMapper;
+    private final BufferedReader in;
+    private Long total;
+
+    NdjsonExportReader(ObjectMapper objectMapper, InputStream in) {
+        this.objectMapper = objectMapper;
+        this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    @Override
+    public DebateDetail debate() throws IOException {
+        JsonNode line = next();
+        if (!"debate".equals(line.path("type").asText())) {
+            throw new IOException("잘못된 레코드: " + line.path("type").asText());
+        }
+        JsonNode d = line.path("debate");
+        return new DebateDetail(d.path("id").asLong(), text(d, "title"), text(d, "content"), text(d, "author"),
+                text(d, "category"), text(d, "winner"), text(d, "rebuttalTitle"), text(d, "rebuttalContent"),
+                text(d, "rebuttalAuthor"), time(d, "rebuttalAt"),
+                d.path("authorVotes").asInt(), d.path("rebuttalVotes").asInt(),
+                d.path("likes").asInt(), d.path("dislikes").asInt(),
+                d.path("isClosed").asBoolean(), time(d, "createdAt"), time(d, "closedAt"));
+    }
+
+    @Override
+    public ExportedComment nextComment() throws IOException {
+        if (total != null) return null;
+        JsonNode line = next();
+        String type = line.path("type").asText();
+        if ("end".equals(type)) {
+            total = line.path("comments").asLong();
+            return null;
+        }
+        if (!"comment".equals(type)) {
+            throw new IOException("잘못된 레코드: " + type);
+        }
+        return new ExportedComment(line.path("id").asLong(),
+                line.hasNonNull("parentId") ? line.get("parentId").asLong() : null,
+                text(line, "author"), text(line, "text"), text(line, "ipAddress"), time(line, "createdAt"));
+    }
+
+    @Override
+    public Long total() {
+        return total;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private JsonNode next() throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            if (line == null) throw new EOFException("끝 레코드 없이 파일이 끝났습니다.");
+        } while (line.isBlank());
+        return objectMapper.readTree(line);
+    }
+
+    private static String text(JsonNode node, String field) {
+        return node.hasNonNull(field) ? node.get(field).asText() : null;
+    }
+
+    // 문자열(ISO) / 배열(타임스탬프) 둘 다 ObjectMapper 설정대로 읽음
+    private LocalDateTime time(JsonNode node, String field) throws IOException {
+        return node.hasNonNull(field) ? objectMapper.treeToValue(node.get(field), LocalDateTime.class) : null;
+    }
+}
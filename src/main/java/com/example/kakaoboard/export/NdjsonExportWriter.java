@@ -0,0 +1,65 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.controller.dto.DebateDetail;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * ✅ NDJSON 내보내기
+ * {"type":"debate","debate":{...DebateDetail}}
+ * {"type":"comment","id":..,"parentId":..,"author":..,"text":..,"ipAddress":..,"createdAt":..}
+ * {"type":"end","comments":n}
+ * - 댓글은 모양이 고정이라 리플렉션 없이 JsonGenerator 로 필드를 직접 씀
+ */
+final class NdjsonExportWriter implements ExportWriter {
+
+    private final JsonGenerator json;
+
+    NdjsonExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.json = objectMapper.getFactory().createGenerator(out);
+        // 스트림은 호출자가 닫음
+        this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void debate(DebateDetail debate) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", "debate");
+        json.writeObjectField("debate", debate);
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    @Override
+    public void comment(ExportedComment c) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", "comment");
+        json.writeNumberField("id", c.getId());
+        if (c.getParentId() != null) {
+            json.writeNumberField("parentId", c.getParentId());
+        } else {
+            json.writeNullField("parentId");
+        }
+        json.writeStringField("author", c.getAuthor());
+        json.writeStringField("text", c.getText());
+        json.writeStringField("ipAddress", c.getIpAddress());
+        json.writeStringField("createdAt",
+                c.getCreatedAt() == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(c.getCreatedAt()));
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    @Override
+    public void end(long comments) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", "end");
+        json.writeNumberField("comments", comments);
+        json.writeEndObject();
+        json.writeRaw('\n');
+        json.flush();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.kakaoboard.ratelimit;
+
+import com.example.kakaoboard.auth.AuthUser;
+import com.example.kakaoboard.config.ClientIp;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ✅ HTTP 요청 제한 (SecurityConfig 에서 CORS 다음에 등록)
+ * - 걸린 규칙 중 하나라도 초과하면 컨트롤러(DB, 메일)까지 가지 않고 429 + Retry-After
+ * - CORS 다음이라 브라우저에서도 429 응답을 읽을 수 있음
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        List<RateLimitProperties.Route> routes = rateLimiter.matchHttp(request.getMethod(), path);
+
+        for (RateLimitProperties.Route route : routes) {
+            long wait = rateLimiter.tryAcquire(route, clientKey(route, request));
+            if (wait > 0) {
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RateLimiter.retryAfterSeconds(wait)));
+                response.setContentType("text/plain;charset=UTF-8");
+                response.getWriter().write("⏳ 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String clientKey(RateLimitProperties.Route route, HttpServletRequest request) {
+        String key = route.getKey();
+        if (key != null && key.startsWith("param:")) {
+            String value = request.getParameter(key.substring("param:".length()));
+            if (value != null && !value.isBlank()) {
+                return value.trim().toLowerCase();
+            }
+        }
+        // TokenAuthenticationFilter 가 먼저 실행됨 → 로그인 사용자는 IP 가 바뀌어도 같은 버킷
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser user) {
+            return "user:" + user.getId();
+        }
+        return RateLimiter.ipKey(ClientIp.of(request));
+    }
+}
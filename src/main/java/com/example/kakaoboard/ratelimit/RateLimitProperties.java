@@ -0,0 +1,52 @@
+package com.example.kakaoboard.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ 요청 제한 설정 (kakaoboard.rate-limit)
+ * - routes: 경로별 규칙, 한 요청에 여러 규칙이 걸리면 모두 통과해야 함
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "kakaoboard.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // ✅ 이 시간 동안 요청 없는 클라이언트 버킷은 메모리에서 제거
+    private long idleEvictSeconds = 600;
+
+    // ✅ 버킷 최대 개수 (넘으면 가장 오래 안 쓴 버킷부터 제거 → 주소를 바꿔 가며 몰려와도 메모리 일정)
+    private int maxBuckets = 100_000;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        // ✅ 지표/로그용 이름 (버킷 키에도 사용)
+        private String name;
+
+        // ✅ HTTP: 메서드(비우면 전체) + 경로 패턴 (Ant 스타일)
+        private String method;
+        private List<String> paths = new ArrayList<>();
+
+        // ✅ STOMP: SEND 목적지 패턴 (예: /app/rooms/*/chat.sendMessage)
+        private List<String> destinations = new ArrayList<>();
+
+        // ✅ 클라이언트 구분: ip(로그인 사용자면 사용자명) | param:{이름} (예: param:email)
+        private String key = "ip";
+
+        // ✅ 연속 허용 개수 + 분당 충전 개수
+        private int burst = 10;
+        private double perMinute = 60;
+    }
+}
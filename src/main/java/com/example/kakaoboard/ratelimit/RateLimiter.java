@@ -0,0 +1,154 @@
+package com.example.kakaoboard.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 요청 제한 (경로 + 클라이언트별 토큰 버킷)
+ * - 버킷은 Caffeine 캐시 (개수 상한 max-buckets + idle-evict-seconds 동안 안 쓰면 제거), 버킷 자체는 CAS
+ *   → 상한이 차면 가장 오래 안 쓴 버킷부터 밀려남: 주소를 바꿔 가며 몰려와도 공격자 버킷끼리 밀어내고
+ *     다른 클라이언트가 공용 버킷에 묶여 같이 막히지 않음
+ * - IPv6 는 /64 단위로 한 버킷 (한 회선에 주어지는 대역 안에서 주소만 바꿔 새 버킷을 받지 못하도록)
+ * - 거절 수: ratelimit.rejected{route=...} / 상한 때문에 밀려난 버킷 수: ratelimit.evicted
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    private final Ticker ticker;
+
+    // route|client -> 버킷
+    private final Cache<String, TokenBucket> buckets;
+
+    private final Map<String, Counter> rejected = new ConcurrentHashMap<>();
+
+    private final Counter evicted;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.ticker = ticker;
+        this.evicted = Counter.builder("ratelimit.evicted")
+                .description("버킷 수 상한에 걸려 밀려난 버킷 수")
+                .register(meterRegistry);
+        // 버킷은 burst 만큼 쉬면 새 버킷과 같아지므로 idle-evict-seconds 는 가장 긴 burst 구간보다 길게 둘 것
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofSeconds(properties.getIdleEvictSeconds()))
+                .ticker(ticker)
+                .evictionListener((String key, TokenBucket bucket, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) evicted.increment();
+                })
+                .build();
+    }
+
+    /**
+     * ✅ HTTP 요청에 걸리는 규칙들
+     */
+    public List<RateLimitProperties.Route> matchHttp(String method, String path) {
+        if (!properties.isEnabled()) return List.of();
+        return properties.getRoutes().stream()
+                .filter(r -> r.getMethod() == null || r.getMethod().equalsIgnoreCase(method))
+                .filter(r -> r.getPaths().stream().anyMatch(p -> matcher.match(p, path)))
+                .toList();
+    }
+
+    /**
+     * ✅ STOMP SEND 목적지에 걸리는 규칙들
+     */
+    public List<RateLimitProperties.Route> matchDestination(String destination) {
+        if (!properties.isEnabled() || destination == null) return List.of();
+        return properties.getRoutes().stream()
+                .filter(r -> r.getDestinations().stream().anyMatch(p -> matcher.match(p, destination)))
+                .toList();
+    }
+
+    /**
+     * ✅ 토큰 1개 사용
+     * @return 0 이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryAcquire(RateLimitProperties.Route route, String client) {
+        long now = ticker.read();
+        long intervalNanos = (long) (TimeUnit.MINUTES.toNanos(1) / route.getPerMinute());
+
+        TokenBucket bucket = buckets.get(route.getName() + "|" + client, k -> new TokenBucket(now));
+        long wait = bucket.tryAcquire(now, intervalNanos, route.getBurst());
+        if (wait > 0) {
+            rejected.computeIfAbsent(route.getName(), name -> Counter.builder("ratelimit.rejected")
+                    .tag("route", name)
+                    .description("요청 제한으로 거절된 요청 수")
+                    .register(meterRegistry)).increment();
+        }
+        return wait;
+    }
+
+    public int size() {
+        return (int) buckets.estimatedSize();
+    }
+
+    // 만료된 버킷은 읽고 쓸 때도 정리되지만, 요청이 뜸할 때도 메모리를 돌려주도록 주기적으로 한 번
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long before = buckets.estimatedSize();
+        buckets.cleanUp();
+        if (before != buckets.estimatedSize()) {
+            log.debug("요청 제한 버킷 정리: {} → {}", before, buckets.estimatedSize());
+        }
+    }
+
+    /**
+     * ✅ IP 주소 → 버킷 키
+     * - IPv4 (IPv4-mapped IPv6 포함): 주소 그대로
+     * - IPv6: 앞 64비트 (/64) → 한 회선이 받는 대역 전체가 버킷 하나
+     */
+    public static String ipKey(String ip) {
+        if (ip == null || ip.indexOf(':') < 0) return ip;
+        try {
+            // ':' 가 있으면 IPv6 리터럴로만 해석 (DNS 조회 없음)
+            InetAddress address = InetAddress.getByName(ip);
+            if (!(address instanceof Inet6Address)) return address.getHostAddress();
+            byte[] b = address.getAddress();
+            StringBuilder prefix = new StringBuilder();
+            for (int i = 0; i < 8; i += 2) {
+                prefix.append(Integer.toHexString(((b[i] & 0xff) << 8) | (b[i + 1] & 0xff))).append(':');
+            }
+            return prefix.append(":/64").toString();
+        } catch (UnknownHostException e) {
+            return ip;
+        }
+    }
+
+    /**
+     * ✅ Retry-After 헤더 값 (초, 올림)
+     */
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.kakaoboard.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ STOMP SEND 요청 제한 (clientInboundChannel)
+ * - 초과한 메시지는 버리고(null) 보낸 세션에만 /user/queue/errors 로 알림 (HTTP 429 대신)
+ * - 연결은 끊지 않음 (STOMP ERROR 프레임은 연결 종료로 이어짐)
+ */
+@Slf4j
+@Component
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    public static final String ERROR_QUEUE = "/queue/errors";
+
+    private final RateLimiter rateLimiter;
+
+    // ✅ 브로커 설정과 순환참조가 생기지 않게 실제 사용할 때 꺼냄
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+
+    public StompRateLimitInterceptor(RateLimiter rateLimiter,
+                                     ObjectProvider<SimpMessagingTemplate> messagingTemplate) {
+        this.rateLimiter = rateLimiter;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (!StompCommand.SEND.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        List<RateLimitProperties.Route> routes = rateLimiter.matchDestination(accessor.getDestination());
+        for (RateLimitProperties.Route route : routes) {
+            long wait = rateLimiter.tryAcquire(route, clientKey(accessor));
+            if (wait > 0) {
+                log.debug("STOMP 요청 제한: route={} session={}", route.getName(), accessor.getSessionId());
+                notifyRejected(accessor.getSessionId(), RateLimiter.retryAfterSeconds(wait));
+                return null;
+            }
+        }
+        return message;
+    }
+
+    private void notifyRejected(String sessionId, long retryAfterSeconds) {
+        SimpMessagingTemplate template = messagingTemplate.getIfAvailable();
+        if (template == null || sessionId == null) return;
+
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        template.convertAndSendToUser(sessionId, ERROR_QUEUE,
+                Map.of("type", "RATE_LIMITED", "retryAfterSeconds", retryAfterSeconds),
+                headers.getMessageHeaders());
+    }
+
+    private static String clientKey(StompHeaderAccessor accessor) {
+        if (accessor.getUser() != null) {
+            return "user:" + accessor.getUser().getName();
+        }
+        Map<String, Object> attrs = accessor.getSessionAttributes();
+        if (attrs != null && attrs.get("ip") instanceof String ip) {
+            return RateLimiter.ipKey(ip);
+        }
+        return "session:" + accessor.getSessionId();
+    }
+}
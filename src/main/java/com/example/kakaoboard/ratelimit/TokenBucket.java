@@ -0,0 +1,35 @@
+package com.example.kakaoboard.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 락 없는 토큰 버킷 (값 1개 = "버킷이 다시 가득 차는 시각")
+ * - 요청 1건 = 토큰 1개 = interval 나노초
+ * - 가득 찬 시각이 now + interval*burst 를 넘으면 거절, 넘지 않으면 CAS 로 interval 만큼 미룸
+ * - 토큰 수와 마지막 충전 시각을 따로 두지 않아서 AtomicLong 하나로 CAS 가능
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * @return 0 이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    long tryAcquire(long now, long intervalNanos, int burst) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long allowedAt = next - intervalNanos * burst;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
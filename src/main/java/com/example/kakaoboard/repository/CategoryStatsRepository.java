@@ -0,0 +1,48 @@
+package com.example.kakaoboard.repository;
+
+import com.example.kakaoboard.domain.CategoryStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CategoryStatsRepository extends JpaRepository<CategoryStats, String> {
+
+    // ✅ 증가분 반영 (행이 없으면 0 → 호출자가 새 행 저장)
+    @Transactional
+    @Modifying
+    @Query("""
+            update CategoryStats s
+               set s.debates = s.debates + :debates,
+                   s.comments = s.comments + :comments,
+                   s.votes = s.votes + :votes
+             where s.category = :category
+            """)
+    int add(@Param("category") String category,
+            @Param("debates") long debates,
+            @Param("comments") long comments,
+            @Param("votes") long votes);
+
+    // ===== 대조(reconcile)용 원본 집계 =====
+
+    @Query("select d.category as name, count(d) as total from Debate d where d.category is not null group by d.category")
+    List<NameCount> countDebatesByCategory();
+
+    @Query("""
+            select d.category as name, count(c) as total
+              from Comment c join c.debate d
+             where d.category is not null
+             group by d.category
+            """)
+    List<NameCount> countCommentsByCategory();
+
+    @Query("""
+            select d.category as name, sum(d.authorVotes + d.rebuttalVotes) as total from Debate d
+             where d.category is not null
+             group by d.category
+            """)
+    List<NameCount> countVotesByCategory();
+}
@@ -0,0 +1,43 @@
+package com.example.kakaoboard.repository;
+
+import com.example.kakaoboard.domain.ChatPresence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatPresenceRepository extends JpaRepository<ChatPresence, String> {
+
+    // ✅ 방의 살아있는 접속자만
+    List<ChatPresence> findByRoomIdAndLastSeenAfter(String roomId, LocalDateTime cutoff);
+
+    // ✅ 세션이 들어가 있는 방들
+    @Query("select p.roomId from ChatPresence p where p.sessionId = :sessionId")
+    List<String> findRoomIdsBySessionId(@Param("sessionId") String sessionId);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ChatPresence p where p.roomId = :roomId and p.sender = :sender")
+    int deleteByRoomIdAndSender(@Param("roomId") String roomId, @Param("sender") String sender);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ChatPresence p where p.id = :id")
+    int deletePresence(@Param("id") String id);
+
+    // ✅ 이 서버가 가진 세션들 생존 신호
+    @Transactional
+    @Modifying
+    @Query("update ChatPresence p set p.lastSeen = :now where p.nodeId = :nodeId")
+    int touchNode(@Param("nodeId") String nodeId, @Param("now") LocalDateTime now);
+
+    // ✅ 죽은 서버의 세션 정리
+    @Transactional
+    @Modifying
+    @Query("delete from ChatPresence p where p.lastSeen < :cutoff")
+    int deleteStale(@Param("cutoff") LocalDateTime cutoff);
+}
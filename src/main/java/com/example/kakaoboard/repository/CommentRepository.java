@@ -1,19 +1,114 @@
 package com.example.kakaoboard.repository;
 
 import com.example.kakaoboard.domain.Comment;
+import com.example.kakaoboard.export.ExportedComment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Optional; // ★ 추가
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     // ✅ 특정 토론에 속한 모든 댓글 가져오기
     List<Comment> findByDebateId(Long debateId);
 
+    // ✅ 댓글 트리용: 한 번의 쿼리로 토론의 댓글 전체를 시간순으로
+    List<Comment> findByDebateIdOrderByCreatedAtAscIdAsc(Long debateId);
+
     List<Comment> findByDebateIdAndParentIsNull(Long debateId);
 
     List<Comment> findByParentId(Long id);
 
     // ✅ 특정 토론 안에 속한 '단일 댓글' 찾기 (삭제용)
     Optional<Comment> findByIdAndDebateId(Long id, Long debateId);  // ★ 추가
+
+    // ✅ 검색 색인용 (토론 엔티티를 읽지 않고 debate_id 만)
+    interface CommentText {
+        Long getId();
+        Long getDebateId();
+        String getText();
+    }
+
+    @Query("select c.id as id, c.debate.id as debateId, c.text as text from Comment c "
+            + "where c.id > :afterId order by c.id")
+    List<CommentText> findTextsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select c.id as id, c.debate.id as debateId, c.text as text from Comment c "
+            + "where c.debate.id = :debateId")
+    List<CommentText> findTextsByDebateId(@Param("debateId") Long debateId);
+
+    // ✅ 검색 색인: 새 댓글만 (토론 제목은 조인으로 같이)
+    interface CommentDocument extends CommentText {
+        String getDebateTitle();
+    }
+
+    @Query("select c.id as id, c.debate.id as debateId, c.debate.title as debateTitle, c.text as text "
+            + "from Comment c where c.id in :ids")
+    List<CommentDocument> findDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ✅ 검색 색인: 스냅샷 이후 댓글이 달린 토론
+    @Query("select distinct c.debate.id from Comment c where c.createdAt > :since")
+    List<Long> findDebateIdsCommentedSince(@Param("since") LocalDateTime since);
+
+    // ✅ 댓글 삭제: 대댓글까지 하위 트리 전체 (id, 작성자, 깊이) 를 재귀 쿼리 한 번으로 (대댓글마다 SELECT 하지 않음)
+    // - 해당 토론의 댓글이 아니면 빈 목록
+    interface SubtreeRow {
+        Long getId();
+        Long getAuthorId();
+        Integer getDepth();
+    }
+
+    @Query(nativeQuery = true, value = """
+            with recursive subtree (id, author_id, depth) as (
+                select c.id, c.author_id, 0 from comment c where c.id = :commentId and c.debate_id = :debateId
+                union all
+                select c.id, c.author_id, s.depth + 1 from comment c join subtree s on c.parent_id = s.id
+            )
+            select id, author_id as authorId, depth from subtree
+            """)
+    List<SubtreeRow> findSubtree(@Param("debateId") Long debateId, @Param("commentId") Long commentId);
+
+    // ✅ 하위 트리 삭제: 깊은 단계부터 단계마다 DELETE 1번 (parent_id FK 때문에 자식 먼저), 한 트랜잭션
+    @Transactional
+    default void deleteSubtree(List<SubtreeRow> subtree) {
+        Map<Integer, List<Long>> byDepth = new TreeMap<>(Comparator.reverseOrder());
+        for (SubtreeRow row : subtree) {
+            byDepth.computeIfAbsent(row.getDepth(), d -> new ArrayList<>()).add(row.getId());
+        }
+        byDepth.values().forEach(this::deleteAllByIdInBatch);
+    }
+
+    // ✅ 통계: 토론 삭제 전 작성자(회원)별 댓글 수
+    @Query("select c.authorId as id, count(c) as total from Comment c "
+            + "where c.debate.id = :debateId and c.authorId is not null group by c.authorId")
+    List<IdCount> countByAuthorIdForDebate(@Param("debateId") Long debateId);
+
+    // ✅ 내보내기: id 순 전진 전용 커서 (fetch size 만큼씩 받아 옴, 읽기 전용 트랜잭션 안에서 닫을 때까지 소비)
+    // - 엔티티가 아닌 생성자 결과라 영속성 컨텍스트에 쌓이지 않음
+    // - MySQL 은 URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 서버 커서를 씀
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("""
+            select new com.example.kakaoboard.export.ExportedComment(
+                       c.id, p.id, c.author, c.text, c.ipAddress, c.createdAt)
+              from Comment c left join c.parent p
+             where c.debate.id = :debateId
+             order by c.id
+            """)
+    Stream<ExportedComment> streamForExport(@Param("debateId") Long debateId);
+
+    int EXPORT_FETCH_SIZE = 500;
 }
@@ -1,6 +1,162 @@
 package com.example.kakaoboard.repository;
 
+import com.example.kakaoboard.controller.dto.DebateDetail;
+import com.example.kakaoboard.controller.dto.DebateSummary;
 import com.example.kakaoboard.domain.Debate;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface DebateRepository extends JpaRepository<Debate, Long> {}
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface DebateRepository extends JpaRepository<Debate, Long> {
+
+    String SUMMARY_SELECT = """
+            select new com.example.kakaoboard.controller.dto.DebateSummary(
+                d.id, d.title, d.category, d.author, d.rebuttalAuthor,
+                d.authorVotes, d.rebuttalVotes, d.likes, d.dislikes,
+                d.isClosed, d.winner, d.createdAt,
+                (select count(c) from Comment c where c.debate = d))
+            from Debate d
+            """;
+
+    // ✅ 전체 목록 (응답 모델로 바로 → 엔티티/컬렉션 로딩 없음)
+    @Query("""
+            select new com.example.kakaoboard.controller.dto.DebateDetail(
+                d.id, d.title, d.content, d.author, d.category, d.winner,
+                d.rebuttalTitle, d.rebuttalContent, d.rebuttalAuthor, d.rebuttalAt,
+                d.authorVotes, d.rebuttalVotes, d.likes, d.dislikes,
+                d.isClosed, d.createdAt, d.closedAt)
+            from Debate d
+            """)
+    List<DebateDetail> findAllDetails();
+
+    // ✅ 요약 단건
+    @Query(SUMMARY_SELECT + "where d.id = :id")
+    Optional<DebateSummary> findSummaryById(@Param("id") Long id);
+
+    // ✅ 커서 이후 최신순 요약 (idx_debate_created_id 사용)
+    @Query(SUMMARY_SELECT + """
+            where d.createdAt < :cursorCreatedAt
+               or (d.createdAt = :cursorCreatedAt and d.id < :cursorId)
+            order by d.createdAt desc, d.id desc
+            """)
+    List<DebateSummary> findSummariesBefore(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+
+    // ✅ 카테고리별 커서 이후 최신순 요약 (idx_debate_category_created_id 사용)
+    @Query(SUMMARY_SELECT + """
+            where d.category = :category
+              and (d.createdAt < :cursorCreatedAt
+                   or (d.createdAt = :cursorCreatedAt and d.id < :cursorId))
+            order by d.createdAt desc, d.id desc
+            """)
+    List<DebateSummary> findSummariesByCategoryBefore(@Param("category") String category,
+                                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
+
+    // ✅ 만료된 토론 일괄 마감 + 승자 계산
+    // - 미리 읽어 둔 id 중 아직 열린 것만 (그 사이 새로 만료된 토론은 다음 주기에, 승리 집계와 어긋나지 않게)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Debate d
+               set d.isClosed = true,
+                   d.closedAt = :now,
+                   d.winner = case
+                       when d.authorVotes > d.rebuttalVotes then 'author'
+                       when d.authorVotes < d.rebuttalVotes then 'rebuttal'
+                       else 'draw' end
+             where d.id in :ids
+               and d.isClosed = false
+            """)
+    int closeExpired(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // ✅ 좋아요/싫어요 원자적 증가 (엔티티 로드 없이 한 컬럼만 갱신)
+    @Transactional
+    @Modifying
+    @Query("update Debate d set d.likes = d.likes + :delta where d.id = :id")
+    int incrementLikes(@Param("id") Long id, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying
+    @Query("update Debate d set d.dislikes = d.dislikes + :delta where d.id = :id")
+    int incrementDislikes(@Param("id") Long id, @Param("delta") int delta);
+
+    // ✅ 투표자 등록 (debate_id, voter 유니크 제약 → 중복이면 예외)
+    @Modifying
+    @Query(value = "insert into debate_voters (debate_id, voter) values (:debateId, :voter)", nativeQuery = true)
+    int insertVoter(@Param("debateId") Long debateId, @Param("voter") String voter);
+
+    // ✅ 득표수 원자적 증가
+    @Modifying
+    @Query("update Debate d set d.authorVotes = d.authorVotes + 1 where d.id = :id")
+    int incrementAuthorVotes(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Debate d set d.rebuttalVotes = d.rebuttalVotes + 1 where d.id = :id")
+    int incrementRebuttalVotes(@Param("id") Long id);
+
+    // ✅ 반박 후 12시간 이내에 마감 상태인 토론 재개
+    @Transactional
+    @Modifying
+    @Query("update Debate d set d.isClosed = false where d.id = :id")
+    int reopen(@Param("id") Long id);
+
+    // ✅ 투표 결과만 조회
+    Optional<VoteCounts> findVoteCountsById(Long id);
+
+    interface VoteCounts {
+        int getAuthorVotes();
+        int getRebuttalVotes();
+    }
+
+    // ✅ 좋아요/싫어요 수만 조회
+    Optional<ReactionCounts> findReactionCountsById(Long id);
+
+    interface ReactionCounts {
+        int getLikes();
+        int getDislikes();
+    }
+
+    // ✅ 인기 순위 초기값: 최근 작성된 토론 요약
+    @Query(SUMMARY_SELECT + "where d.createdAt > :since")
+    List<DebateSummary> findSummariesCreatedAfter(@Param("since") LocalDateTime since);
+
+    // ✅ 검색 색인: id 순 페이지 (전체 재색인용)
+    List<Debate> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // ✅ 검색 색인: 스냅샷 이후 작성/반박된 토론 (재시작 후 따라잡기용)
+    @Query("select d.id from Debate d where d.createdAt > :since or d.rebuttalAt > :since")
+    List<Long> findIdsWrittenSince(@Param("since") LocalDateTime since);
+
+    @Query("select d.id from Debate d")
+    List<Long> findAllIds();
+
+    @Query("select d.category from Debate d where d.id = :id")
+    Optional<String> findCategoryById(@Param("id") Long id);
+
+    // ✅ 통계: 자동 마감 대상 id (idx_debate_closed_rebuttal 로 만료분만 스캔, 마감 후 결과만 다시 조회)
+    @Query("select d.id from Debate d where d.isClosed = false and d.rebuttalAt < :cutoff")
+    List<Long> findExpiredIds(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("""
+            select d.authorId as authorId, d.rebuttalAuthorId as rebuttalAuthorId, d.winner as winner from Debate d
+             where d.id in :ids and d.isClosed = true and d.closedAt = :closedAt and d.winner is not null
+            """)
+    List<ClosedResult> findClosedResults(@Param("ids") Collection<Long> ids, @Param("closedAt") LocalDateTime closedAt);
+
+    interface ClosedResult {
+        Long getAuthorId();
+        Long getRebuttalAuthorId();
+        String getWinner();
+    }
+}
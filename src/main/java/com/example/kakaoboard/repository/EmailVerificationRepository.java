@@ -0,0 +1,33 @@
+package com.example.kakaoboard.repository;
+
+import com.example.kakaoboard.domain.EmailVerification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface EmailVerificationRepository extends JpaRepository<EmailVerification, String> {
+
+    // ✅ 시도 횟수 +1 (동시 요청도 DB 에서 원자적으로, 만료되지 않은 번호만)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailVerification v set v.failedAttempts = v.failedAttempts + 1 "
+            + "where v.email = :email and v.code is not null and v.expiresAt > :now")
+    int incrementAttempts(@Param("email") String email, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from EmailVerification v where v.email = :email")
+    int deleteByEmail(@Param("email") String email);
+
+    // ✅ 인증번호도, 인증 완료 상태도 만료된 행 삭제
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from EmailVerification v "
+            + "where (v.expiresAt is null or v.expiresAt < :now) "
+            + "and (v.verifiedUntil is null or v.verifiedUntil < :now)")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,9 @@
+package com.example.kakaoboard.repository;
+
+/**
+ * ✅ group by 집계 결과 (사용자 id → 개수)
+ */
+public interface IdCount {
+    Long getId();
+    Long getTotal();
+}
@@ -0,0 +1,9 @@
+package com.example.kakaoboard.repository;
+
+/**
+ * ✅ group by 집계 결과 (이름 → 개수)
+ */
+public interface NameCount {
+    String getName();
+    Long getTotal();
+}
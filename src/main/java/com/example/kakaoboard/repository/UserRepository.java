@@ -1,7 +1,12 @@
 package com.example.kakaoboard.repository;
 
 import com.example.kakaoboard.domain.User;
+import com.example.kakaoboard.domain.UserStats;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,4 +15,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByUsernameAndEmail(String username, String email);
-}
\ No newline at end of file
+
+    // ✅ 로그인 시 재해시: 읽었던 해시 그대로일 때만 교체 (그 사이 비밀번호가 바뀌었으면 건드리지 않음)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :oldHash")
+    int replacePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    // ✅ member_stats 한 행의 경험치 (UserStats.exp 와 같은 식)
+    String STATS_EXP = "select s.debates * " + UserStats.EXP_DEBATE
+            + " + s.wins * " + UserStats.EXP_WIN
+            + " + s.comments * " + UserStats.EXP_COMMENT
+            + " + s.votesCast * " + UserStats.EXP_VOTE
+            + " from UserStats s where s.userId = u.id";
+
+    // ✅ 활동 경험치 반영 (level 을 먼저: MySQL 은 SET 을 왼쪽부터 계산하므로 이전 exp 기준으로 맞춤)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.level = 1 + (u.exp + :delta) / " + UserStats.EXP_PER_LEVEL + ", u.exp = u.exp + :delta"
+            + " where u.id = :id")
+    int addExp(@Param("id") Long id, @Param("delta") int delta);
+
+    // ✅ 대조: 모든 회원의 exp/level 을 member_stats 기준으로 다시 계산
+    @Transactional
+    @Modifying
+    @Query("update User u set u.level = 1 + coalesce((" + STATS_EXP + "), 0) / " + UserStats.EXP_PER_LEVEL
+            + ", u.exp = coalesce((" + STATS_EXP + "), 0)")
+    int syncExpWithStats();
+}
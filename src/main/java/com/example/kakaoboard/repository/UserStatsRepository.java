@@ -0,0 +1,60 @@
+package com.example.kakaoboard.repository;
+
+import com.example.kakaoboard.domain.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    // ✅ 증가분 반영 (행이 없으면 0 → 호출자가 새 행 저장)
+    @Transactional
+    @Modifying
+    @Query("""
+            update UserStats s
+               set s.debates = s.debates + :debates,
+                   s.wins = s.wins + :wins,
+                   s.comments = s.comments + :comments,
+                   s.votesCast = s.votesCast + :votesCast
+             where s.userId = :userId
+            """)
+    int add(@Param("userId") Long userId,
+            @Param("debates") long debates,
+            @Param("wins") long wins,
+            @Param("comments") long comments,
+            @Param("votesCast") long votesCast);
+
+    // ===== 대조(reconcile)용 원본 집계 =====
+
+    @Query("select d.authorId as id, count(d) as total from Debate d where d.authorId is not null group by d.authorId")
+    List<IdCount> countDebatesByAuthor();
+
+    @Query("""
+            select d.authorId as id, count(d) as total from Debate d
+             where d.winner = 'author' and d.authorId is not null
+             group by d.authorId
+            """)
+    List<IdCount> countAuthorWins();
+
+    @Query("""
+            select d.rebuttalAuthorId as id, count(d) as total from Debate d
+             where d.winner = 'rebuttal' and d.rebuttalAuthorId is not null
+             group by d.rebuttalAuthorId
+            """)
+    List<IdCount> countRebuttalWins();
+
+    @Query("select c.authorId as id, count(c) as total from Comment c where c.authorId is not null group by c.authorId")
+    List<IdCount> countCommentsByAuthor();
+
+    // 투표자 = 사용자 id 문자열 (예전 닉네임 값은 VoterKeyMigration 이 변환, 맞는 회원이 없던 행만 빠짐)
+    @Query(value = """
+            select u.id as id, count(*) as total
+              from debate_voters v join users u on v.voter = concat(u.id, '')
+             group by u.id
+            """, nativeQuery = true)
+    List<IdCount> countVotesByUser();
+}
@@ -0,0 +1,74 @@
+package com.example.kakaoboard.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 색인 문서 1개 (토론 1개 또는 댓글 1개)
+ * - terms: 토큰 → 출현 횟수 (제목 토큰은 2배로 셈)
+ * - title/snippet: 검색 결과에 바로 보여줄 값 (DB 다시 조회 안 함)
+ */
+@Getter
+@AllArgsConstructor
+public class SearchDocument {
+
+    public enum Type {
+        DEBATE, COMMENT
+    }
+
+    static final int TITLE_WEIGHT = 2;
+    static final int SNIPPET_LENGTH = 120;
+
+    private final Type type;
+    private final long id;
+    private final long debateId;
+    private final String title;
+    private final String snippet;
+    private final Map<String, Integer> terms;
+    private final int length;
+
+    String key() {
+        return key(type, id);
+    }
+
+    static String key(Type type, long id) {
+        return type.name() + ":" + id;
+    }
+
+    static SearchDocument debate(long id, String title, String content, String rebuttalTitle, String rebuttalContent) {
+        Map<String, Integer> terms = new HashMap<>();
+        int length = count(terms, title, TITLE_WEIGHT)
+                + count(terms, content, 1)
+                + count(terms, rebuttalTitle, TITLE_WEIGHT)
+                + count(terms, rebuttalContent, 1);
+        return new SearchDocument(Type.DEBATE, id, id, nullToEmpty(title), snippet(content), terms, length);
+    }
+
+    static SearchDocument comment(long id, long debateId, String debateTitle, String text) {
+        Map<String, Integer> terms = new HashMap<>();
+        int length = count(terms, text, 1);
+        return new SearchDocument(Type.COMMENT, id, debateId, nullToEmpty(debateTitle), snippet(text), terms, length);
+    }
+
+    private static int count(Map<String, Integer> terms, String text, int weight) {
+        List<String> tokens = Tokenizer.tokens(text);
+        for (String token : tokens) {
+            terms.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private static String snippet(String text) {
+        if (text == null) return "";
+        String flat = text.replaceAll("\\s+", " ").trim();
+        return flat.length() <= SNIPPET_LENGTH ? flat : flat.substring(0, SNIPPET_LENGTH) + "…";
+    }
+
+    private static String nullToEmpty(String s) {
+        return s == null ? "" : s;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.kakaoboard.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ✅ 검색 결과 1건 (/api/search 응답 항목)
+ * - type=DEBATE: id = debateId / type=COMMENT: id = 댓글 id, title = 댓글이 달린 토론 제목
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+    private SearchDocument.Type type;
+    private long id;
+    private long debateId;
+    private String title;
+    private String snippet;
+    private double score;
+}
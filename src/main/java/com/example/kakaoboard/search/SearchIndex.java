@@ -0,0 +1,247 @@
+package com.example.kakaoboard.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ✅ 메모리 역색인 + BM25 순위
+ * - 문서마다 slot 번호, 토큰마다 (slot, 출현 횟수) 목록 → 검색은 검색어 토큰의 목록만 훑음 (전체 스캔 없음)
+ * - 수정 = 옛 slot 삭제 표시 + 새 slot 추가, 삭제 표시가 절반을 넘으면 slot 을 다시 매겨 목록 압축
+ * - 읽기 여러 개 동시, 쓰기는 1개씩 (ReadWriteLock)
+ */
+class SearchIndex {
+
+    // BM25 기본값
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int COMPACT_MIN_DEAD = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // slot → 문서 (삭제되면 null)
+    private final List<SearchDocument> slots = new ArrayList<>();
+    private final Map<String, Integer> slotByKey = new HashMap<>();
+    // 토론 id → 그 토론 + 댓글 문서 key (토론 삭제 시 한 번에 지움)
+    private final Map<Long, Set<String>> keysByDebate = new HashMap<>();
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    private long totalLength;
+    private int dead;
+
+    void put(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.key());
+            addLocked(document);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void putAll(Collection<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            for (SearchDocument document : documents) {
+                removeLocked(document.key());
+                addLocked(document);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeAll(Collection<String> keys) {
+        lock.writeLock().lock();
+        try {
+            for (String key : keys) removeLocked(key);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * ✅ 토론 + 댓글 문서를 통째로 교체 (documents 가 비어 있으면 삭제)
+     */
+    void replaceDebate(long debateId, Collection<SearchDocument> documents) {
+        lock.writeLock().lock();
+        try {
+            Set<String> keys = keysByDebate.remove(debateId);
+            if (keys != null) {
+                for (String key : keys) removeLocked(key);
+            }
+            for (SearchDocument document : documents) addLocked(document);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<SearchHit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokens(query));
+        if (terms.isEmpty() || limit <= 0) return List.of();
+
+        lock.readLock().lock();
+        try {
+            int live = slots.size() - dead;
+            if (live == 0) return List.of();
+            double avgLength = Math.max(1.0, (double) totalLength / live);
+
+            Map<Integer, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null || list.live == 0) continue;
+                double idf = Math.log(1 + (live - list.live + 0.5) / (list.live + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    SearchDocument document = slots.get(list.slots[i]);
+                    if (document == null) continue;
+                    int tf = list.freqs[i];
+                    double norm = K1 * (1 - B + B * document.getLength() / avgLength);
+                    scores.merge(list.slots[i], idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+
+            // 상위 limit 개만 (최소 힙)
+            PriorityQueue<Map.Entry<Integer, Double>> top =
+                    new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+            for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                top.add(entry);
+                if (top.size() > limit) top.poll();
+            }
+
+            List<SearchHit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Map.Entry<Integer, Double> entry = top.poll();
+                SearchDocument d = slots.get(entry.getKey());
+                hits.add(new SearchHit(d.getType(), d.getId(), d.getDebateId(), d.getTitle(), d.getSnippet(),
+                        entry.getValue()));
+            }
+            Collections.reverse(hits);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ✅ 스냅샷용 현재 문서 전체
+     */
+    List<SearchDocument> documents() {
+        lock.readLock().lock();
+        try {
+            List<SearchDocument> documents = new ArrayList<>(slots.size() - dead);
+            for (SearchDocument document : slots) {
+                if (document != null) documents.add(document);
+            }
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Set<Long> debateIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(keysByDebate.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size() - dead;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addLocked(SearchDocument document) {
+        int slot = slots.size();
+        slots.add(document);
+        slotByKey.put(document.key(), slot);
+        keysByDebate.computeIfAbsent(document.getDebateId(), id -> new LinkedHashSet<>()).add(document.key());
+        totalLength += document.getLength();
+        for (Map.Entry<String, Integer> term : document.getTerms().entrySet()) {
+            postings.computeIfAbsent(term.getKey(), t -> new Postings()).add(slot, term.getValue());
+        }
+    }
+
+    private void removeLocked(String key) {
+        Integer slot = slotByKey.remove(key);
+        if (slot == null) return;
+        SearchDocument document = slots.set(slot, null);
+        dead++;
+        totalLength -= document.getLength();
+        Set<String> keys = keysByDebate.get(document.getDebateId());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) keysByDebate.remove(document.getDebateId());
+        }
+        for (String term : document.getTerms().keySet()) {
+            Postings list = postings.get(term);
+            if (list != null && --list.live == 0) postings.remove(term);
+        }
+    }
+
+    // 삭제 표시된 slot 이 많아지면 살아 있는 문서만으로 다시 만듦
+    private void compactIfNeeded() {
+        if (dead < COMPACT_MIN_DEAD || dead * 2 < slots.size()) return;
+        List<SearchDocument> live = new ArrayList<>(slots.size() - dead);
+        for (SearchDocument document : slots) {
+            if (document != null) live.add(document);
+        }
+        slots.clear();
+        slotByKey.clear();
+        keysByDebate.clear();
+        postings.clear();
+        totalLength = 0;
+        dead = 0;
+        for (SearchDocument document : live) addLocked(document);
+    }
+
+    /**
+     * ✅ 토큰 1개의 (slot, 출현 횟수) 목록 (slot 오름차순으로 추가만 됨)
+     * - live: 삭제 안 된 문서 수 (BM25 의 df)
+     */
+    private static final class Postings {
+        int[] slots = new int[4];
+        int[] freqs = new int[4];
+        int size;
+        int live;
+
+        void add(int slot, int freq) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            slots[size] = slot;
+            freqs[size] = freq;
+            size++;
+            live++;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.kakaoboard.search;
+
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.event.DebateEvent;
+import com.example.kakaoboard.repository.CommentRepository;
+import com.example.kakaoboard.repository.DebateRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ✅ 토론/댓글 검색
+ * - 기동: 스냅샷 파일이 있으면 읽고 그 이후 바뀐 토론만 DB 에서 다시 색인, 없으면 DB 에서 전체 색인
+ * - 글이 바뀌면 DebateEvent 로 토론 id 만 모아 두었다가 index-interval-ms 마다 그 토론(+댓글)만 다시 색인
+ * - 댓글 추가/삭제는 그 댓글 문서만 넣고 뺌 (토론의 다른 댓글은 다시 읽지 않음)
+ *   (투표/좋아요 등 글 내용과 무관한 이벤트는 무시)
+ * - 바뀐 게 있으면 snapshot-interval-ms 마다, 그리고 종료 시 스냅샷 저장
+ * - 지표: search.index.documents / search.index.terms
+ */
+@Slf4j
+@Component
+public class SearchService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 50;
+
+    private static final int REBUILD_PAGE = 500;
+    private static final Set<DebateEvent.Type> TEXT_EVENTS = EnumSet.of(
+            DebateEvent.Type.CREATED, DebateEvent.Type.UPDATED, DebateEvent.Type.REBUTTED,
+            DebateEvent.Type.DELETED, DebateEvent.Type.COMMENTED, DebateEvent.Type.COMMENT_DELETED);
+
+    private final DebateRepository debateRepository;
+    private final CommentRepository commentRepository;
+    private final Path snapshotPath;
+
+    private final SearchIndex index = new SearchIndex();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<Long> addedComments = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removedComments = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean changedSinceSnapshot = new AtomicBoolean();
+    private volatile boolean ready;
+
+    public SearchService(DebateRepository debateRepository,
+                         CommentRepository commentRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${kakaoboard.search.snapshot-path:./data/search/index.snapshot}") String snapshotPath) {
+        this.debateRepository = debateRepository;
+        this.commentRepository = commentRepository;
+        this.snapshotPath = Path.of(snapshotPath);
+
+        Gauge.builder("search.index.documents", index, SearchIndex::size).register(meterRegistry);
+        Gauge.builder("search.index.terms", index, SearchIndex::termCount).register(meterRegistry);
+    }
+
+    /**
+     * ✅ 검색 (점수 높은 순)
+     */
+    public List<SearchHit> search(String query, Integer limit) {
+        int size = Math.min(limit == null ? DEFAULT_LIMIT : Math.max(1, limit), MAX_LIMIT);
+        return index.search(query, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        Optional<SearchSnapshot> snapshot = readSnapshot();
+        if (snapshot.isPresent()) {
+            index.putAll(snapshot.get().documents);
+            catchUp(LocalDateTime.ofInstant(snapshot.get().takenAt, ZoneId.systemDefault()));
+        } else {
+            rebuild();
+        }
+        ready = true;
+        log.info("검색 색인 준비: documents={} terms={} ({}ms, snapshot={})",
+                index.size(), index.termCount(), System.currentTimeMillis() - start, snapshot.isPresent());
+    }
+
+    @EventListener
+    public void onDebateEvent(DebateEvent event) {
+        if (event.getDebateId() == null || !TEXT_EVENTS.contains(event.getType())) return;
+        if (event.getType() == DebateEvent.Type.COMMENTED && !event.getCommentIds().isEmpty()) {
+            addedComments.addAll(event.getCommentIds());
+        } else if (event.getType() == DebateEvent.Type.COMMENT_DELETED && !event.getCommentIds().isEmpty()) {
+            removedComments.addAll(event.getCommentIds());
+        } else {
+            dirty.add(event.getDebateId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kakaoboard.search.index-interval-ms:1000}")
+    public void indexDirty() {
+        if (!ready) return;
+        for (Long debateId : dirty) {
+            dirty.remove(debateId);
+            reindex(debateId);
+        }
+        indexComments();
+    }
+
+    @Scheduled(fixedDelayString = "${kakaoboard.search.snapshot-interval-ms:300000}",
+            initialDelayString = "${kakaoboard.search.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (!ready || !changedSinceSnapshot.getAndSet(false)) return;
+        // 스냅샷 시각은 문서를 모으기 전 → 그 사이 바뀐 건 다음 기동 때 다시 따라잡음
+        Instant takenAt = Instant.now();
+        try {
+            SearchSnapshot.write(snapshotPath, takenAt, index.documents());
+        } catch (IOException e) {
+            changedSinceSnapshot.set(true);
+            log.warn("검색 스냅샷 저장 실패: {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexDirty();
+        snapshot();
+    }
+
+    /**
+     * ✅ 토론 1개 + 댓글 다시 색인 (없어졌으면 색인에서 제거)
+     */
+    void reindex(Long debateId) {
+        Optional<Debate> debate = debateRepository.findById(debateId);
+        List<SearchDocument> documents = new ArrayList<>();
+        debate.ifPresent(d -> {
+            documents.add(toDocument(d));
+            for (CommentRepository.CommentText c : commentRepository.findTextsByDebateId(debateId)) {
+                documents.add(SearchDocument.comment(c.getId(), debateId, d.getTitle(), c.getText()));
+            }
+        });
+        index.replaceDebate(debateId, documents);
+        changedSinceSnapshot.set(true);
+    }
+
+    /**
+     * ✅ 추가된 댓글은 id 로 읽어 넣고, 삭제된 댓글은 색인에서만 뺌
+     * - 추가 후 곧 삭제된 댓글은 DB 에 없어 읽히지 않음 → 넣었다 빼는 일 없음
+     */
+    void indexComments() {
+        List<String> removed = new ArrayList<>();
+        for (Long commentId : removedComments) {
+            removedComments.remove(commentId);
+            removed.add(SearchDocument.key(SearchDocument.Type.COMMENT, commentId));
+        }
+        List<Long> added = new ArrayList<>();
+        for (Long commentId : addedComments) {
+            addedComments.remove(commentId);
+            added.add(commentId);
+        }
+        if (removed.isEmpty() && added.isEmpty()) return;
+
+        index.removeAll(removed);
+        for (int from = 0; from < added.size(); from += REBUILD_PAGE) {
+            List<SearchDocument> documents = new ArrayList<>();
+            for (CommentRepository.CommentDocument c : commentRepository.findDocumentsByIdIn(
+                    added.subList(from, Math.min(from + REBUILD_PAGE, added.size())))) {
+                documents.add(SearchDocument.comment(c.getId(), c.getDebateId(), c.getDebateTitle(), c.getText()));
+            }
+            index.putAll(documents);
+        }
+        changedSinceSnapshot.set(true);
+    }
+
+    // 스냅샷 이후 작성/반박/댓글이 생긴 토론 다시 색인, DB 에서 지워진 토론은 제거
+    // (제목/본문 수정은 수정 시각 컬럼이 없어 종료 시 스냅샷에 의존)
+    private void catchUp(LocalDateTime since) {
+        Set<Long> changed = new HashSet<>(debateRepository.findIdsWrittenSince(since));
+        changed.addAll(commentRepository.findDebateIdsCommentedSince(since));
+
+        Set<Long> existing = new HashSet<>(debateRepository.findAllIds());
+        for (Long indexed : index.debateIds()) {
+            if (!existing.contains(indexed)) changed.add(indexed);
+        }
+        changed.forEach(this::reindex);
+        log.info("검색 색인 따라잡기: since={} debates={}", since, changed.size());
+    }
+
+    private void rebuild() {
+        Map<Long, String> titles = new HashMap<>();
+        long lastId = 0;
+        List<Debate> page;
+        do {
+            page = debateRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_PAGE));
+            List<SearchDocument> documents = new ArrayList<>(page.size());
+            for (Debate d : page) {
+                documents.add(toDocument(d));
+                titles.put(d.getId(), d.getTitle());
+                lastId = d.getId();
+            }
+            index.putAll(documents);
+        } while (page.size() == REBUILD_PAGE);
+
+        lastId = 0;
+        List<CommentRepository.CommentText> comments;
+        do {
+            comments = commentRepository.findTextsAfter(lastId, PageRequest.of(0, REBUILD_PAGE));
+            List<SearchDocument> documents = new ArrayList<>(comments.size());
+            for (CommentRepository.CommentText c : comments) {
+                if (c.getDebateId() != null) {
+                    documents.add(SearchDocument.comment(c.getId(), c.getDebateId(),
+                            titles.get(c.getDebateId()), c.getText()));
+                }
+                lastId = c.getId();
+            }
+            index.putAll(documents);
+        } while (comments.size() == REBUILD_PAGE);
+        changedSinceSnapshot.set(true);
+    }
+
+    private Optional<SearchSnapshot> readSnapshot() {
+        if (!Files.exists(snapshotPath)) return Optional.empty();
+        try {
+            return Optional.of(SearchSnapshot.read(snapshotPath));
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 스냅샷을 읽을 수 없어 DB 에서 다시 색인합니다: {}", snapshotPath, e);
+            return Optional.empty();
+        }
+    }
+
+    private static SearchDocument toDocument(Debate d) {
+        return SearchDocument.debate(d.getId(), d.getTitle(), d.getContent(),
+                d.getRebuttalTitle(), d.getRebuttalContent());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.kakaoboard.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * ✅ 색인 스냅샷 파일 (기동 시 MySQL 에서 다시 만들지 않고 파일에서 복구)
+ * - 문서(토큰별 출현 횟수 포함)만 저장, 역색인은 읽으면서 다시 만듦
+ * - [magic][version][takenAt][문서 수][문서...][crc32]
+ * - 임시 파일에 쓴 뒤 이름 바꾸기 → 쓰다가 죽어도 이전 스냅샷은 그대로
+ */
+final class SearchSnapshot {
+
+    private static final int MAGIC = 0x4B425358; // "KBSX"
+    private static final int VERSION = 1;
+
+    final Instant takenAt;
+    final List<SearchDocument> documents;
+
+    private SearchSnapshot(Instant takenAt, List<SearchDocument> documents) {
+        this.takenAt = takenAt;
+        this.documents = documents;
+    }
+
+    static void write(Path file, Instant takenAt, List<SearchDocument> documents) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        CRC32 crc = new CRC32();
+        try (OutputStream raw = new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16)) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(raw, crc));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(takenAt.toEpochMilli());
+            out.writeInt(documents.size());
+            for (SearchDocument d : documents) {
+                out.writeByte(d.getType().ordinal());
+                out.writeLong(d.getId());
+                out.writeLong(d.getDebateId());
+                out.writeUTF(d.getTitle());
+                out.writeUTF(d.getSnippet());
+                out.writeInt(d.getLength());
+                out.writeInt(d.getTerms().size());
+                for (Map.Entry<String, Integer> term : d.getTerms().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+            out.flush();
+            new DataOutputStream(raw).writeLong(crc.getValue());
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @throws IOException 파일이 없거나, 형식/체크섬이 맞지 않는 경우
+     */
+    static SearchSnapshot read(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(raw, crc));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("검색 스냅샷 형식이 다릅니다: " + file);
+            }
+            Instant takenAt = Instant.ofEpochMilli(in.readLong());
+            int count = in.readInt();
+            SearchDocument.Type[] types = SearchDocument.Type.values();
+            List<SearchDocument> documents = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                SearchDocument.Type type = types[in.readByte()];
+                long id = in.readLong();
+                long debateId = in.readLong();
+                String title = in.readUTF();
+                String snippet = in.readUTF();
+                int length = in.readInt();
+                int termCount = in.readInt();
+                Map<String, Integer> terms = new HashMap<>(termCount * 2);
+                for (int t = 0; t < termCount; t++) {
+                    terms.put(in.readUTF(), in.readInt());
+                }
+                documents.add(new SearchDocument(type, id, debateId, title, snippet, terms, length));
+            }
+            long expected = new DataInputStream(raw).readLong();
+            if (expected != crc.getValue()) {
+                throw new IOException("검색 스냅샷 체크섬 불일치: " + file);
+            }
+            return new SearchSnapshot(takenAt, documents);
+        }
+    }
+}
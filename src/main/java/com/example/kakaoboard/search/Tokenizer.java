@@ -0,0 +1,58 @@
+package com.example.kakaoboard.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * ✅ 검색어/본문 토큰 분리
+ * - NFKC 정규화 + 소문자 (전각/반각, 대소문자 차이 제거)
+ * - 한글/한자/일본어 구간: 2글자씩 겹쳐 자름 (bigram) → "토론은" = [토론, 론은], 조사가 붙어도 "토론" 으로 찾힘
+ *   (1글자 구간은 그대로 1개)
+ * - 그 외(영문, 숫자): 단어 그대로
+ */
+final class Tokenizer {
+
+    private Tokenizer() {
+    }
+
+    static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) return tokens;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] cps = normalized.codePoints().toArray();
+
+        int i = 0;
+        while (i < cps.length) {
+            if (!Character.isLetterOrDigit(cps[i])) {
+                i++;
+                continue;
+            }
+            boolean cjk = isCjk(cps[i]);
+            int start = i;
+            while (i < cps.length && Character.isLetterOrDigit(cps[i]) && isCjk(cps[i]) == cjk) {
+                i++;
+            }
+            if (!cjk) {
+                tokens.add(new String(cps, start, i - start));
+            } else if (i - start == 1) {
+                tokens.add(new String(cps, start, 1));
+            } else {
+                for (int j = start; j + 1 < i; j++) {
+                    tokens.add(new String(cps, j, 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
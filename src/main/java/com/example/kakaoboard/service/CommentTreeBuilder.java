@@ -0,0 +1,46 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.domain.Comment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 댓글 트리 조립기
+ * - 한 토론의 댓글 전체(작성시간 오름차순)를 받아 메모리에서 부모/자식을 연결
+ * - 쿼리 없이 O(n) 으로 동작 (부모 id 는 프록시 초기화 없이 읽음)
+ */
+public final class CommentTreeBuilder {
+
+    private CommentTreeBuilder() {
+    }
+
+    /**
+     * @param comments 같은 토론의 모든 댓글 (createdAt, id 오름차순 정렬 상태)
+     * @return 루트 댓글 목록 (각 댓글의 replies 가 채워진 상태)
+     */
+    public static List<Comment> build(List<Comment> comments) {
+        Map<Long, Comment> byId = new HashMap<>(comments.size() * 2);
+        for (Comment c : comments) {
+            c.setReplies(new ArrayList<>());
+            byId.put(c.getId(), c);
+        }
+
+        List<Comment> roots = new ArrayList<>();
+        for (Comment c : comments) {
+            Comment parent = c.getParent();
+            if (parent == null) {
+                roots.add(c);
+                continue;
+            }
+            // 입력이 정렬돼 있으므로 append 만으로 형제 순서가 유지됨
+            Comment linked = byId.get(parent.getId());
+            if (linked != null) {
+                linked.getReplies().add(c);
+            }
+        }
+        return roots;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.event.DebateEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ 토론 캐시 무효화
+ * - DebateService 가 발행한 DebateEvent 를 받아 관련 캐시 항목 제거
+ * - 이벤트가 빠지는 경우(write-behind 좋아요 등)도 spring.cache.caffeine.spec 의
+ *   expireAfterWrite 가 최대 지연 시간을 보장
+ */
+@Component
+@RequiredArgsConstructor
+public class DebateCacheInvalidator {
+
+    public static final String COMMENT_TREE = "commentTree";
+    public static final String DEBATE_SUMMARY = "debateSummary";
+    public static final String DEBATE_LIST = "debateList";
+
+    private final CacheManager cacheManager;
+
+    @EventListener
+    public void onDebateEvent(DebateEvent event) {
+        Long debateId = event.getDebateId();
+
+        // 목록 첫 페이지들은 글이 생기거나 바뀌면 통째로 비움 (카테고리 수만큼만 존재)
+        // - 좋아요/싫어요/투표는 숫자만 바뀌고 순서(작성 시각)는 그대로 → 비우지 않고 expireAfterWrite 에 맡김
+        //   (인기 토론 클릭마다 목록을 다시 만들지 않도록, 보는 중인 토론은 /topic/debates 알림으로 갱신)
+        if (!isCounterOnly(event.getType())) {
+            clear(DEBATE_LIST);
+        }
+
+        if (debateId == null) {
+            clear(DEBATE_SUMMARY);
+            clear(COMMENT_TREE);
+            return;
+        }
+
+        evict(DEBATE_SUMMARY, debateId);
+        switch (event.getType()) {
+            case COMMENTED, COMMENT_DELETED, DELETED -> evict(COMMENT_TREE, debateId);
+            default -> {
+            }
+        }
+    }
+
+    private static boolean isCounterOnly(DebateEvent.Type type) {
+        return switch (type) {
+            case LIKED, DISLIKED, VOTED -> true;
+            default -> false;
+        };
+    }
+
+    private void evict(String name, Object key) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) cache.evict(key);
+    }
+
+    private void clear(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache != null) cache.clear();
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.event.DebateEvent;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 좋아요/싫어요 카운터
+ * - 기본: 클릭마다 UPDATE likes = likes + 1 (행 전체 재저장/유실 없음)
+ * - write-behind 모드: 토론별 LongAdder 에 모았다가 flush-interval-ms 마다 한 번에 반영
+ *   (인기 토론에 클릭이 몰려도 행 잠금 대기열이 생기지 않음)
+ *   응답 카운트 = 잠깐 기억해 둔 DB 값 + 대기 중 증가분 → 클릭마다 SELECT 하지 않음
+ * - LIKED/DISLIKED 이벤트는 DB 에 반영된 뒤 발행 (write-behind 는 flush 한 토론마다 클릭 수를 묶어 1개)
+ *   → 캐시 무효화/실시간 전송이 반영 전 카운트를 다시 읽어 가지 않음
+ */
+@Slf4j
+@Component
+public class DebateReactionCounter {
+
+    private final DebateRepository debateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean writeBehind;
+
+    // 토론 id → 아직 DB 에 반영 안 된 증가분
+    private final Map<Long, LongAdder> pendingLikes = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> pendingDislikes = new ConcurrentHashMap<>();
+
+    // 토론 id → DB 에 반영된 카운트 (write-behind 전용, 이 토론을 flush 하면 버리고 다시 읽음)
+    // - 없는 토론은 기억하지 않음 → 없는 id 로 대기 맵이 커지지 않음
+    // - 다른 서버가 반영한 증가분은 최대 PERSISTED_TTL 늦게 보임
+    private static final Duration PERSISTED_TTL = Duration.ofSeconds(1);
+    private final Cache<Long, DebateRepository.ReactionCounts> persisted = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(PERSISTED_TTL)
+            .build();
+
+    public DebateReactionCounter(DebateRepository debateRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${kakaoboard.reactions.write-behind:false}") boolean writeBehind) {
+        this.debateRepository = debateRepository;
+        this.eventPublisher = eventPublisher;
+        this.writeBehind = writeBehind;
+    }
+
+    /**
+     * ✅ 좋아요 +1
+     * @return 반영 후 (대기 중 증가분 포함) 카운트, 토론이 없으면 empty
+     */
+    public Optional<Map<String, Integer>> like(Long id) {
+        return increment(id, pendingLikes, true);
+    }
+
+    /**
+     * ✅ 싫어요 +1
+     */
+    public Optional<Map<String, Integer>> dislike(Long id) {
+        return increment(id, pendingDislikes, false);
+    }
+
+    /**
+     * ✅ 현재 카운트 (DB 값 + 아직 flush 안 된 증가분)
+     */
+    public Optional<Map<String, Integer>> counts(Long id) {
+        return debateRepository.findReactionCountsById(id)
+                .map(c -> Map.of(
+                        "likes", c.getLikes() + pending(pendingLikes, id),
+                        "dislikes", c.getDislikes() + pending(pendingDislikes, id)
+                ));
+    }
+
+    private Optional<Map<String, Integer>> increment(Long id, Map<Long, LongAdder> pending, boolean like) {
+        if (!writeBehind) {
+            int updated = like
+                    ? debateRepository.incrementLikes(id, 1)
+                    : debateRepository.incrementDislikes(id, 1);
+            if (updated == 0) return Optional.empty();
+            publish(id, like, 1);
+            return counts(id);
+        }
+
+        // 존재하는 토론만 누적 (없는 id 로 맵이 커지지 않도록), DB 값은 기억해 둔 것
+        DebateRepository.ReactionCounts base = persisted.get(id,
+                k -> debateRepository.findReactionCountsById(k).orElse(null));
+        if (base == null) return Optional.empty();
+
+        add(pending, id, 1);
+        return Optional.of(Map.of(
+                "likes", base.getLikes() + pending(pendingLikes, id),
+                "dislikes", base.getDislikes() + pending(pendingDislikes, id)
+        ));
+    }
+
+    // compute 안에서 더해야 flush 의 빈 키 제거(computeIfPresent)와 겹쳐도 증가분이 사라지지 않음
+    private static void add(Map<Long, LongAdder> pending, Long id, long delta) {
+        pending.compute(id, (k, adder) -> {
+            if (adder == null) adder = new LongAdder();
+            adder.add(delta);
+            return adder;
+        });
+    }
+
+    // 반영이 끝나 0 이 된 토론은 맵에서 뺌 (클릭된 적 있는 토론마다 키가 남지 않도록)
+    private static void removeIfEmpty(Map<Long, LongAdder> pending, Long id) {
+        pending.computeIfPresent(id, (k, adder) -> adder.sum() == 0 ? null : adder);
+    }
+
+    private static int pending(Map<Long, LongAdder> pending, Long id) {
+        LongAdder adder = pending.get(id);
+        return adder != null ? adder.intValue() : 0;
+    }
+
+    /**
+     * ✅ 누적된 증가분을 DB 에 반영
+     * - sumThenReset 은 셀 단위 getAndSet 이라 flush 중 들어온 클릭도 유실되지 않음
+     *   (이번 합계 또는 다음 flush 중 한 곳에 반드시 포함)
+     * - 반영 후 0 이 된 키는 제거 (증가는 compute 안에서만 하므로 제거와 겹쳐도 유실 없음)
+     */
+    @Scheduled(fixedDelayString = "${kakaoboard.reactions.flush-interval-ms:200}")
+    public void flush() {
+        if (!writeBehind) return;
+        flush(pendingLikes, true);
+        flush(pendingDislikes, false);
+    }
+
+    private void flush(Map<Long, LongAdder> pending, boolean like) {
+        for (Map.Entry<Long, LongAdder> e : pending.entrySet()) {
+            long delta = e.getValue().sumThenReset();
+            if (delta == 0) {
+                removeIfEmpty(pending, e.getKey());
+                continue;
+            }
+            int updated;
+            try {
+                updated = like
+                        ? debateRepository.incrementLikes(e.getKey(), (int) delta)
+                        : debateRepository.incrementDislikes(e.getKey(), (int) delta);
+                persisted.invalidate(e.getKey());
+                removeIfEmpty(pending, e.getKey());
+            } catch (RuntimeException ex) {
+                // DB 반영 실패 시 증가분을 되돌려 다음 flush 에서 재시도
+                add(pending, e.getKey(), delta);
+                log.warn("좋아요/싫어요 flush 실패, 다음 주기에 재시도: debateId={}", e.getKey(), ex);
+                continue;
+            }
+            // 그새 삭제된 토론이면 알릴 것이 없음
+            if (updated > 0) publish(e.getKey(), like, (int) delta);
+        }
+    }
+
+    private void publish(Long id, boolean like, int count) {
+        eventPublisher.publishEvent(new DebateEvent(
+                like ? DebateEvent.Type.LIKED : DebateEvent.Type.DISLIKED, id, count));
+    }
+
+    // 테스트용: 아직 맵에 남아 있는 토론 수
+    int pendingKeys() {
+        return pendingLikes.size() + pendingDislikes.size();
+    }
+
+    /** ✅ 종료 시 남은 증가분 반영 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
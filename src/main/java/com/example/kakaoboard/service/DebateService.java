@@ -1,19 +1,35 @@
 package com.example.kakaoboard.service;
 
+import com.example.kakaoboard.auth.AuthUser;
+import com.example.kakaoboard.config.ClientIp;
+import com.example.kakaoboard.controller.dto.CommentNode;
+import com.example.kakaoboard.controller.dto.DebateDetail;
+import com.example.kakaoboard.controller.dto.DebatePageResponse;
+import com.example.kakaoboard.controller.dto.DebateSummary;
 import com.example.kakaoboard.domain.Comment;
 import com.example.kakaoboard.domain.Debate;
 import com.example.kakaoboard.domain.Reply;
+import com.example.kakaoboard.event.ActivityEvent;
+import com.example.kakaoboard.event.DebateEvent;
 import com.example.kakaoboard.repository.CommentRepository;
 import com.example.kakaoboard.repository.DebateRepository;
+import com.example.kakaoboard.repository.IdCount;
 import com.example.kakaoboard.repository.ReplyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 import java.util.*;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import jakarta.servlet.http.HttpServletRequest;
 
 @Service
@@ -23,47 +39,188 @@ public class DebateService {
     private final DebateRepository debateRepository;
     private final CommentRepository commentRepository;
     private final ReplyRepository replyRepository;
+    private final DebateReactionCounter reactionCounter;
+    private final DebateVoteRecorder voteRecorder;
+    private final VoteDeduplicator voteDeduplicator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ✅ 반박 후 자동 마감까지 시간
+    public static final long CLOSE_AFTER_HOURS = 12;
+
+    // ✅ 목록 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // ✅ 변경 이벤트 발행 (캐시 무효화 등)
+    private void publish(DebateEvent.Type type, Long debateId) {
+        eventPublisher.publishEvent(new DebateEvent(type, debateId));
+    }
+
+    private void publish(DebateEvent.Type type, Long debateId, List<Long> commentIds) {
+        eventPublisher.publishEvent(new DebateEvent(type, debateId, commentIds));
+    }
+
+    // ✅ 활동 통계 이벤트 (작성자/카테고리별 집계)
+    private void activity(ActivityEvent.Kind kind, Long userId, String category, int delta) {
+        eventPublisher.publishEvent(new ActivityEvent(kind, userId, category, delta));
+    }
 
     // ✅ 공통 IP 추출 유틸 (여기로 옮기기)
     private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty()) ip = request.getRemoteAddr();
-        if (ip.contains(",")) ip = ip.split(",")[0].trim();
-        if ("0:0:0:0:0:0:0:1".equals(ip)) ip = "127.0.0.1";
-        return ip;
+        return ClientIp.of(request);
     }
     /**
-     * ✅ 모든 토론 조회
+     * ✅ 모든 토론 조회 (읽기 전용, 마감 처리는 closeExpiredDebates 가 담당)
+     */
+    @Transactional(readOnly = true)
+    public List<DebateDetail> findAll() {
+        return debateRepository.findAllDetails();
+    }
+
+    /**
+     * ✅ 토론 목록 (커서 페이징 + 요약)
+     * - cursor 가 없으면 첫 페이지
+     * - size+1 개를 읽어 다음 페이지 존재 여부 판단
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = DebateCacheInvalidator.DEBATE_LIST,
+            key = "(#category ?: '') + ':' + #size",
+            condition = "#cursorCreatedAt == null && #cursorId == null")
+    public DebatePageResponse findSummaries(String category, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        LocalDateTime createdAt = cursorCreatedAt != null ? cursorCreatedAt : LocalDateTime.of(9999, 12, 31, 0, 0);
+        Long id = cursorId != null ? cursorId : Long.MAX_VALUE;
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<DebateSummary> rows = (category == null || category.isBlank())
+                ? debateRepository.findSummariesBefore(createdAt, id, limit)
+                : debateRepository.findSummariesByCategoryBefore(category, createdAt, id, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<DebateSummary> items = hasNext ? rows.subList(0, pageSize) : rows;
+        DebateSummary last = items.isEmpty() ? null : items.get(items.size() - 1);
+
+        return new DebatePageResponse(
+                items,
+                hasNext,
+                hasNext ? last.getCreatedAt() : null,
+                hasNext ? last.getId() : null
+        );
+    }
+
+    /**
+     * ✅ 토론 요약 단건 (캐시)
      */
-    public List<Debate> findAll() {
-        return debateRepository.findAll();
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = DebateCacheInvalidator.DEBATE_SUMMARY, key = "#id")
+    public Optional<DebateSummary> findSummary(Long id) {
+        return debateRepository.findSummaryById(id);
     }
 
     /**
      * ✅ 새 토론 생성
      */
     public Debate createDebate(Debate debate) {
-        return debateRepository.save(debate);
+        Debate saved = debateRepository.save(debate);
+        publish(DebateEvent.Type.CREATED, saved.getId());
+        activity(ActivityEvent.Kind.DEBATE, saved.getAuthorId(), saved.getCategory(), 1);
+        return saved;
+    }
+
+    /**
+     * ✅ 수동 마감
+     */
+    public ResponseEntity<?> close(Long id) {
+        Debate debate = debateRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("해당 토론을 찾을 수 없습니다."));
+
+        if (debate.isClosed()) {
+            return ResponseEntity.badRequest().body("이미 마감된 토론입니다.");
+        }
+
+        debate.setClosed(true);
+        debate.setClosedAt(LocalDateTime.now());
+        debateRepository.save(debate);
+        voteDeduplicator.forget(id);
+        publish(DebateEvent.Type.CLOSED, id);
+
+        return ResponseEntity.ok("✅ 토론이 수동으로 마감되었습니다.");
+    }
+
+    /**
+     * ✅ 반박 등록 (user 가 있으면 반박자는 로그인 사용자, body 의 author 는 무시)
+     */
+    public ResponseEntity<?> addRebuttal(Long id, Map<String, String> body, AuthUser user) {
+        Optional<Debate> opt = debateRepository.findById(id);
+        if (opt.isEmpty()) return ResponseEntity.notFound().build();
+
+        Debate debate = opt.get();
+        if (debate.getRebuttalTitle() != null)
+            return ResponseEntity.badRequest().body("이미 반박이 등록된 토론입니다.");
+
+        debate.setRebuttalTitle(body.get("title"));
+        debate.setRebuttalContent(body.get("content"));
+        debate.setRebuttalAuthor(user != null ? user.getUsername() : body.get("author"));
+        debate.setRebuttalAuthorId(user != null ? user.getId() : null);
+        debate.setRebuttalAt(LocalDateTime.now());
+        debate.setClosed(false);
+        debate.setClosedAt(null);
+
+        debateRepository.save(debate);
+        publish(DebateEvent.Type.REBUTTED, id);
+        return ResponseEntity.ok(DebateDetail.of(debate));
+    }
+
+    /**
+     * ✅ 토론 수정 (마이페이지)
+     * - 반박중이거나 마감된 토론은 수정 불가
+     */
+    public ResponseEntity<?> updateDebate(Long id, Map<String, String> body) {
+        Optional<Debate> opt = debateRepository.findById(id);
+        if (opt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        Debate debate = opt.get();
+
+        // 🔒 반박중 / 마감된 토론은 수정 금지
+        if (debate.isClosed() || debate.getRebuttalTitle() != null) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("반박중이거나 마감된 토론은 수정할 수 없습니다.");
+        }
+
+        String title = body.get("title");
+        String content = body.get("content");
+
+        if (title == null || title.trim().isEmpty()
+                || content == null || content.trim().isEmpty()) {
+            return ResponseEntity
+                    .badRequest()
+                    .body("제목과 내용을 모두 입력해주세요.");
+        }
+
+        // ✏️ 실제 수정
+        debate.setTitle(title.trim());
+        debate.setContent(content.trim());
+        debateRepository.save(debate);
+        publish(DebateEvent.Type.UPDATED, id);
+
+        return ResponseEntity.ok(DebateDetail.of(debate));
     }
 
     /**
-     * ✅ 좋아요
+     * ✅ 좋아요 (원자적 증가, 엔티티 로드/재저장 없음)
+     * - LIKED 이벤트는 DB 에 반영된 뒤 DebateReactionCounter 가 발행
      */
-    public Debate like(Long id) {
-        return debateRepository.findById(id).map(d -> {
-            d.setLikes(d.getLikes() + 1);
-            return debateRepository.save(d);
-        }).orElse(null);
+    public Optional<Map<String, Integer>> like(Long id) {
+        return reactionCounter.like(id);
     }
 
     /**
      * ✅ 싫어요
      */
-    public Debate dislike(Long id) {
-        return debateRepository.findById(id).map(d -> {
-            d.setDislikes(d.getDislikes() + 1);
-            return debateRepository.save(d);
-        }).orElse(null);
+    public Optional<Map<String, Integer>> dislike(Long id) {
+        return reactionCounter.dislike(id);
     }
 
     /**
@@ -81,7 +238,10 @@ public class DebateService {
 
 
 
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        publish(DebateEvent.Type.COMMENTED, debateId, List.of(saved.getId()));
+        activity(ActivityEvent.Kind.COMMENT, saved.getAuthorId(), debate.getCategory(), 1);
+        return saved;
     }
 
     /** ✅ 대댓글 추가 (이제 Comment 기반으로 처리) */
@@ -103,14 +263,32 @@ public class DebateService {
         reply.setIpAddress(getClientIp(request));
 
 
-        return commentRepository.save(reply);
+        Comment saved = commentRepository.save(reply);
+        publish(DebateEvent.Type.COMMENTED, debateId, List.of(saved.getId()));
+        activity(ActivityEvent.Kind.COMMENT, saved.getAuthorId(), debate.getCategory(), 1);
+        return saved;
     }
 
     /**
      * ✅ 토론 삭제
      */
     public void deleteById(Long id) {
+        Optional<Debate> deleted = debateRepository.findById(id);
+        List<IdCount> commenters = deleted.isPresent()
+                ? commentRepository.countByAuthorIdForDebate(id) : List.of();
+
         debateRepository.deleteById(id);
+        voteDeduplicator.forget(id);
+        publish(DebateEvent.Type.DELETED, id);
+
+        // 투표한 사람들의 투표 수/승리 수는 대조(StatsReconciler) 에서 맞춤
+        deleted.ifPresent(d -> {
+            activity(ActivityEvent.Kind.DEBATE, d.getAuthorId(), d.getCategory(), -1);
+            activity(ActivityEvent.Kind.VOTE, null, d.getCategory(), -(d.getAuthorVotes() + d.getRebuttalVotes()));
+            for (IdCount c : commenters) {
+                activity(ActivityEvent.Kind.COMMENT, c.getId(), d.getCategory(), -c.getTotal().intValue());
+            }
+        });
     }
 
     /**
@@ -129,19 +307,29 @@ public class DebateService {
 
     /**
      * ✅ 자동 마감 기능 (1분마다 검사)
+     * - 반박 후 12시간 지난 미마감 토론을 UPDATE 한 번으로 마감 + 승자 계산
+     * - 전체 조회 없이 만료된 행만 건드림
+     * - 읽어 둔 id 만 마감하고, 이번 closedAt 으로 마감된 결과만 승리 집계 (다른 인스턴스가 먼저 마감한 토론은 제외)
      */
     @Scheduled(fixedRate = 60000)
     public void closeExpiredDebates() {
-        List<Debate> debates = debateRepository.findAll();
-        LocalDateTime now = LocalDateTime.now();
-
-        for (Debate d : debates) {
-            if (d.getRebuttalAt() != null && !d.isClosed()) {
-                if (d.getRebuttalAt().plusHours(12).isBefore(now)) {
-                    d.setClosed(true);
-                    d.setClosedAt(now);
-                    debateRepository.save(d);
-                    System.out.println("✅ 자동 마감된 토론: " + d.getTitle());
+        // DATETIME 컬럼에 그대로 비교되도록 초 단위
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime cutoff = now.minusHours(CLOSE_AFTER_HOURS);
+        List<Long> expired = debateRepository.findExpiredIds(cutoff);
+        if (expired.isEmpty()) return;
+
+        int closed = debateRepository.closeExpired(expired, now);
+        if (closed > 0) {
+            System.out.println("✅ 자동 마감된 토론 수: " + closed);
+            expired.forEach(voteDeduplicator::forget);
+            publish(DebateEvent.Type.CLOSED, null);
+            // ✅ 승리 집계: 이번에 마감된 토론의 결과만 (무승부는 집계 안 함)
+            for (DebateRepository.ClosedResult r : debateRepository.findClosedResults(expired, now)) {
+                if ("author".equals(r.getWinner())) {
+                    activity(ActivityEvent.Kind.WIN, r.getAuthorId(), null, 1);
+                } else if ("rebuttal".equals(r.getWinner())) {
+                    activity(ActivityEvent.Kind.WIN, r.getRebuttalAuthorId(), null, 1);
                 }
             }
         }
@@ -149,37 +337,73 @@ public class DebateService {
 
     /**
      * ✅ 제3자 투표 기능
+     * - 투표자 목록을 읽지 않고 (debate_id, voter) 유니크 INSERT 로 중복 판별
+     * - 득표수는 UPDATE ... + 1 로 원자적 증가 (동시 투표도 이중 집계 없음)
+     * - 투표자 = 토큰에서 꺼낸 사용자 id (닉네임을 바꾸거나 body 를 조작해도 한 번만)
      */
-    public ResponseEntity<?> vote(Long id, Map<String, String> body) {
-        String type = body.get("type");
-        String voter = body.get("voter");
+    public ResponseEntity<?> vote(Long id, Map<String, Object> body, AuthUser user) {
+        String type = (String) body.get("type");
 
-        Debate debate = debateRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("토론을 찾을 수 없습니다."));
+        Optional<Debate> opt = debateRepository.findById(id);
+        if (opt.isEmpty()) return ResponseEntity.notFound().build();
 
-        if (voter.equals(debate.getAuthor()) || voter.equals(debate.getRebuttalAuthor())) {
-            return ResponseEntity.badRequest().body("본인은 투표할 수 없습니다!");
-        }
+        Debate debate = opt.get();
 
-        if (debate.getVoters() == null) {
-            debate.setVoters(new ArrayList<>());
-        }
-        if (debate.getVoters().contains(voter)) {
-            return ResponseEntity.badRequest().body("이미 이 토론에 투표하셨습니다!");
-        }
+        if (debate.getRebuttalTitle() == null)
+            return ResponseEntity.badRequest().body("아직 반박이 등록되지 않았습니다.");
 
-        switch (type) {
-            case "author" -> debate.setAuthorVotes(debate.getAuthorVotes() + 1);
-            case "rebuttal" -> debate.setRebuttalVotes(debate.getRebuttalVotes() + 1);
-            default -> {
-                return ResponseEntity.badRequest().body("잘못된 투표 유형입니다.");
+        if (debate.isClosed()) {
+            LocalDateTime now = LocalDateTime.now();
+            if (debate.getRebuttalAt() != null &&
+                    Duration.between(debate.getRebuttalAt(), now).toHours() < CLOSE_AFTER_HOURS) {
+                debateRepository.reopen(id);
+            } else {
+                return ResponseEntity.badRequest().body("이미 마감된 토론입니다.");
             }
         }
 
-        debate.getVoters().add(voter);
-        debateRepository.save(debate);
+        if (user == null)
+            return ResponseEntity.badRequest().body("로그인 후 투표할 수 있습니다.");
+        String voter = String.valueOf(user.getId());
+
+        if (isParticipant(user, debate.getAuthorId(), debate.getAuthor())
+                || isParticipant(user, debate.getRebuttalAuthorId(), debate.getRebuttalAuthor()))
+            return ResponseEntity.badRequest().body("작성자 또는 반박자는 투표할 수 없습니다.");
+
+        boolean forAuthor;
+        if ("author".equals(type))
+            forAuthor = true;
+        else if ("rebuttal".equals(type))
+            forAuthor = false;
+        else
+            return ResponseEntity.badRequest().body("잘못된 투표 타입입니다.");
+
+        if (voteDeduplicator.alreadyVoted(id, voter))
+            return ResponseEntity.badRequest().body("이미 투표하셨습니다.");
+
+        try {
+            voteRecorder.record(id, voter, forAuthor);
+        } catch (DataIntegrityViolationException e) {
+            // ✅ 유니크 제약 위반 = 이미 투표함 (동시 요청도 여기서 하나만 통과)
+            voteDeduplicator.remember(id, voter);
+            return ResponseEntity.badRequest().body("이미 투표하셨습니다.");
+        }
+        voteDeduplicator.remember(id, voter);
+        publish(DebateEvent.Type.VOTED, id);
+        activity(ActivityEvent.Kind.VOTE, user.getId(), debate.getCategory(), 1);
+
+        DebateRepository.VoteCounts counts = debateRepository.findVoteCountsById(id).orElseThrow();
+        return ResponseEntity.ok(Map.of(
+                "message", "✅ 투표 성공",
+                "authorVotes", counts.getAuthorVotes(),
+                "rebuttalVotes", counts.getRebuttalVotes()
+        ));
+    }
 
-        return ResponseEntity.ok("✅ 투표 완료!");
+    // 로그인해서 쓴 글은 id 로 비교 (이름은 익명 작성 때 아무 값이나 넣을 수 있음), id 가 없는 글(예전 글/익명 글)만 이름으로
+    private static boolean isParticipant(AuthUser user, Long authorId, String authorName) {
+        if (authorId != null) return authorId.equals(user.getId());
+        return user.getUsername().equals(authorName);
     }
 
     // DebateService.java 안에 추가
@@ -193,33 +417,44 @@ public class DebateService {
         reply.setParent(parent);
         reply.setCreatedAt(LocalDateTime.now());
         parent.addReply(reply); // ✅ 부모 댓글에 직접 추가
-        return commentRepository.save(reply);
+        Comment saved = commentRepository.save(reply);
+        publish(DebateEvent.Type.COMMENTED, debateId, List.of(saved.getId()));
+        activity(ActivityEvent.Kind.COMMENT, saved.getAuthorId(), debate.getCategory(), 1);
+        return saved;
     }
 
-    /** ✅ 댓글 트리 (중복 없는 무한 대댓글 완전 지원) */
-    public List<Comment> getCommentTree(Long debateId) {
-        // 1️⃣ 부모 댓글만 가져옴
-        List<Comment> roots = commentRepository.findByDebateIdAndParentIsNull(debateId);
-
-        // 2️⃣ 각각의 부모 댓글에 하위 댓글 재귀적으로 채우기
-        for (Comment root : roots) {
-            fillRepliesRecursively(root);
+    /**
+     * ✅ 댓글 삭제 (해당 토론에 속한 댓글만)
+     * @return 삭제했으면 true, 없는 댓글이면 false
+     */
+    public boolean deleteComment(Long debateId, Long commentId) {
+        // 대댓글까지 같이 지워지므로 하위 트리를 한 번에 읽어 작성자별로 미리 셈
+        List<CommentRepository.SubtreeRow> subtree = commentRepository.findSubtree(debateId, commentId);
+        if (subtree.isEmpty()) return false;
+
+        Map<Long, Integer> authors = new HashMap<>();
+        for (CommentRepository.SubtreeRow row : subtree) {
+            if (row.getAuthorId() != null) authors.merge(row.getAuthorId(), 1, Integer::sum);
         }
+        String category = debateRepository.findCategoryById(debateId).orElse(null);
 
-        // 3️⃣ 시간 순 정렬
-        roots.sort(Comparator.comparing(Comment::getCreatedAt));
-        return roots;
+        commentRepository.deleteSubtree(subtree);
+        publish(DebateEvent.Type.COMMENT_DELETED, debateId,
+                subtree.stream().map(CommentRepository.SubtreeRow::getId).toList());
+        authors.forEach((author, n) -> activity(ActivityEvent.Kind.COMMENT, author, category, -n));
+        return true;
     }
 
-    /** ✅ 재귀적으로 모든 하위 댓글 로딩 */
-    private void fillRepliesRecursively(Comment comment) {
-        List<Comment> replies = commentRepository.findByParentId(comment.getId());
-        replies.sort(Comparator.comparing(Comment::getCreatedAt));
-        comment.setReplies(replies);
-
-        for (Comment reply : replies) {
-            fillRepliesRecursively(reply);
-        }
+    /** ✅ 댓글 트리 (중복 없는 무한 대댓글 완전 지원)
+     *  - 토론의 댓글을 한 번에 읽고 메모리에서 트리 조립 (댓글 수만큼 쿼리하던 N+1 제거)
+     *  - readOnly: replies 교체가 flush 되지 않도록
+     *  - 트랜잭션 안에서 CommentNode 로 바꿔 캐시에는 엔티티 대신 응답 모델을 둠
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = DebateCacheInvalidator.COMMENT_TREE, key = "#debateId")
+    public List<CommentNode> getCommentTree(Long debateId) {
+        List<Comment> all = commentRepository.findByDebateIdOrderByCreatedAtAscIdAsc(debateId);
+        return CommentNode.tree(CommentTreeBuilder.build(all));
     }
 
 }
@@ -0,0 +1,81 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.controller.dto.DebateSummary;
+import com.example.kakaoboard.controller.dto.DebateUpdateMessage;
+import com.example.kakaoboard.event.DebateEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ✅ 토론 변경 실시간 브로드캐스트
+ * - DebateEvent 를 토론별로 모아 두었다가 coalesce-ms(기본 250ms)마다 한 번만 전송
+ *   → 투표가 몰려도 토론당 주기마다 최대 1개 메시지
+ * - /topic/debates/{id} : 해당 토론 상세 화면
+ * - /topic/debates      : 목록 화면
+ */
+@Component
+@RequiredArgsConstructor
+public class DebateUpdateBroadcaster {
+
+    public static final String LIST_TOPIC = "/topic/debates";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final DebateService debateService;
+
+    // 토론 id → 아직 전송 안 된 변경 종류
+    private final Map<Long, Set<DebateEvent.Type>> pending = new ConcurrentHashMap<>();
+
+    // 여러 토론이 한 번에 바뀜 (일괄 자동 마감 등)
+    private final AtomicBoolean refreshAll = new AtomicBoolean();
+
+    @EventListener
+    public void onDebateEvent(DebateEvent event) {
+        if (event.getDebateId() == null) {
+            refreshAll.set(true);
+            return;
+        }
+        // merge 는 키 단위로 원자적이라 flush 의 remove 와 겹쳐도 이벤트가 사라지지 않음
+        pending.merge(event.getDebateId(), EnumSet.of(event.getType()), (a, b) -> {
+            Set<DebateEvent.Type> merged = EnumSet.copyOf(a);
+            merged.addAll(b);
+            return merged;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${kakaoboard.live.coalesce-ms:250}")
+    public void flush() {
+        for (Long debateId : pending.keySet()) {
+            Set<DebateEvent.Type> events = pending.remove(debateId);
+            if (events == null) continue;
+
+            DebateUpdateMessage message = toMessage(debateId, events);
+            messagingTemplate.convertAndSend(LIST_TOPIC + "/" + debateId, message);
+            messagingTemplate.convertAndSend(LIST_TOPIC, message);
+        }
+
+        if (refreshAll.getAndSet(false)) {
+            messagingTemplate.convertAndSend(LIST_TOPIC,
+                    new DebateUpdateMessage(DebateUpdateMessage.Type.REFRESH, null, null, null));
+        }
+    }
+
+    private DebateUpdateMessage toMessage(Long debateId, Set<DebateEvent.Type> events) {
+        Optional<DebateSummary> summary = events.contains(DebateEvent.Type.DELETED)
+                ? Optional.empty()
+                : debateService.findSummary(debateId);
+
+        return summary
+                .map(s -> new DebateUpdateMessage(DebateUpdateMessage.Type.UPDATED, debateId, events, s))
+                .orElseGet(() -> new DebateUpdateMessage(DebateUpdateMessage.Type.DELETED, debateId, events, null));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.repository.DebateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ✅ 투표 기록 (투표자 INSERT + 득표수 증가를 한 트랜잭션으로)
+ * - (debate_id, voter) 유니크 제약에 걸리면 DataIntegrityViolationException → 전체 롤백
+ * - 투표자 목록을 읽거나 엔티티를 재저장하지 않으므로 투표자 수와 무관하게 비용 일정
+ */
+@Component
+@RequiredArgsConstructor
+public class DebateVoteRecorder {
+
+    private final DebateRepository debateRepository;
+
+    @Transactional
+    public void record(Long debateId, String voter, boolean forAuthor) {
+        debateRepository.insertVoter(debateId, voter);
+        if (forAuthor) {
+            debateRepository.incrementAuthorVotes(debateId);
+        } else {
+            debateRepository.incrementRebuttalVotes(debateId);
+        }
+    }
+}
@@ -1,65 +1,55 @@
 package com.example.kakaoboard.service;
 
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService {
 
-    private final JavaMailSender mailSender;
+    private static final String SUBJECT = "[Kakaoboard] 이메일 인증번호 안내";
+    private static final String CODE_PLACEHOLDER = "{{code}}";
+
+    private final MailDispatcher mailDispatcher;
+
+    // ✅ HTML 템플릿은 시작할 때 한 번 읽어서 코드 앞/뒤로 나눠 둠 → 발송마다 문자열 3개 이어붙이기만
+    private final String templatePrefix;
+    private final String templateSuffix;
+
+    public EmailService(MailDispatcher mailDispatcher) {
+        this.mailDispatcher = mailDispatcher;
+        String template = loadTemplate("mail/verification-code.html");
+        int at = template.indexOf(CODE_PLACEHOLDER);
+        this.templatePrefix = template.substring(0, at);
+        this.templateSuffix = template.substring(at + CODE_PLACEHOLDER.length());
+    }
 
     /**
      * ✅ 인증번호 이메일 발송 (EmailVerificationService에서 호출)
+     * - 발송 대기열에 넣고 바로 반환 (실제 SMTP 발송/재시도는 MailDispatcher 워커가 처리)
      * @param to 수신자 이메일
      * @param code 인증번호 (6자리)
+     * @throws IllegalStateException 발송 대기열이 가득 찬 경우
      */
-    public void sendVerificationMail(String to, String code) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-        helper.setTo(to);
-        helper.setFrom("mz7701@naver.com"); // ✅ 반드시 SMTP 계정과 동일해야 함
-        helper.setSubject("[Kakaoboard] 이메일 인증번호 안내");
-
-        // ✅ HTML 이메일 디자인
-        String htmlContent = """
-        <div style="width:100%%; background-color:#f5f7fa; padding:40px 0; font-family:'Pretendard','Noto Sans KR',Arial,sans-serif;">
-          <div style="max-width:500px; margin:0 auto; background:#ffffff; border-radius:12px; box-shadow:0 4px 20px rgba(0,0,0,0.08); overflow:hidden;">
-            <div style="background:linear-gradient(90deg,#6366f1,#8b5cf6,#ec4899); padding:20px 0; text-align:center; color:#fff;">
-              <h1 style="margin:0; font-size:26px; font-weight:700;">Kakaoboard</h1>
-              <p style="margin:0; font-size:14px; opacity:0.9;">이메일 인증 안내</p>
-            </div>
-            <div style="padding:30px;">
-              <p style="font-size:16px; color:#333;">안녕하세요 👋</p>
-              <p style="font-size:15px; color:#555; margin-bottom:20px;">
-                요청하신 <b>이메일 인증번호</b>는 아래와 같습니다.<br>
-                해당 코드를 입력하여 인증을 완료해주세요.
-              </p>
-              <div style="text-align:center; margin:30px 0;">
-                <div style="display:inline-block; background:#f4f6ff; border:2px dashed #8b5cf6; border-radius:10px; padding:15px 25px;">
-                  <span style="font-size:30px; font-weight:700; letter-spacing:4px; color:#4f46e5;">%s</span>
-                </div>
-              </div>
-              <p style="color:#777; font-size:14px;">⏰ 유효시간은 <b>30분</b>입니다.</p>
-              <p style="color:#999; font-size:13px;">이 요청을 본인이 하지 않았다면 이 메일을 무시해주세요.</p>
-            </div>
-            <div style="background:#fafafa; padding:15px; text-align:center; border-top:1px solid #eee;">
-              <p style="font-size:12px; color:#aaa; margin:0;">
-                © 2025 Kakaoboard | 본 메일은 자동 발송되었습니다.
-              </p>
-            </div>
-          </div>
-        </div>
-        """.formatted(code);
+    public void sendVerificationMail(String to, String code) {
+        MailDispatcher.Result result = mailDispatcher.enqueue(to, SUBJECT, render(code));
+        log.info("📨 인증 메일 {} → {}", result == MailDispatcher.Result.QUEUED ? "발송 예약" : "이미 발송 중", to);
+    }
 
-        helper.setText(htmlContent, true);
-        mailSender.send(message);
+    String render(String code) {
+        return templatePrefix + code + templateSuffix;
+    }
 
-        System.out.println("✅ 이메일 인증코드 전송 완료 → " + to + " / 코드: " + code);
+    private static String loadTemplate(String path) {
+        try {
+            return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿을 읽을 수 없습니다: " + path, e);
+        }
     }
 }
@@ -1,75 +1,115 @@
 package com.example.kakaoboard.service;
 
-import jakarta.mail.MessagingException;
-import lombok.RequiredArgsConstructor;
+import com.example.kakaoboard.verification.VerificationCode;
+import com.example.kakaoboard.verification.VerificationCodeStore;
+import com.example.kakaoboard.verification.VerificationLockedException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
-@RequiredArgsConstructor
 public class EmailVerificationService {
 
     private final EmailService emailService;
 
-    // ✅ 이메일별 인증정보 저장 (email → 인증번호, 만료시간)
-    private final Map<String, VerificationInfo> verificationMap = new ConcurrentHashMap<>();
+    // ✅ 인증번호 / 인증 완료 상태 저장소 (memory 또는 jdbc, 만료 항목은 저장소가 주기적으로 정리)
+    private final VerificationCodeStore store;
 
-    // ✅ 인증 성공한 이메일 목록
-    private final Set<String> verifiedEmails = ConcurrentHashMap.newKeySet();
+    private static final Random RANDOM = new SecureRandom();
 
-    // ✅ 유효시간 (30분)
-    private static final long EXPIRE_MINUTES = 30;
+    // ✅ 이 시간 안에 다시 요청하면 새 번호 대신 같은 번호 재발송 → 같은 메일은 발송 대기열에서 중복 제거
+    private static final long RESEND_REUSE_SECONDS = 60;
+
+    // ✅ 인증번호 유효시간
+    private final long codeTtlMinutes;
+
+    // ✅ 인증 성공 후 회원가입/수정을 마쳐야 하는 시간
+    private final long verifiedTtlMinutes;
+
+    // ✅ 이 횟수만큼 틀리면 번호가 만료될 때까지 잠금 (6자리 무차별 대입 방지)
+    private final int maxAttempts;
+
+    public EmailVerificationService(EmailService emailService,
+                                    VerificationCodeStore store,
+                                    @Value("${kakaoboard.verification.code-ttl-minutes:30}") long codeTtlMinutes,
+                                    @Value("${kakaoboard.verification.verified-ttl-minutes:30}") long verifiedTtlMinutes,
+                                    @Value("${kakaoboard.verification.max-attempts:5}") int maxAttempts) {
+        this.emailService = emailService;
+        this.store = store;
+        this.codeTtlMinutes = codeTtlMinutes;
+        this.verifiedTtlMinutes = verifiedTtlMinutes;
+        this.maxAttempts = maxAttempts;
+    }
 
     /**
      * ✅ 인증번호 생성 + 전송
      * Controller에서 createVerificationCode(email) 호출하면
      * 이 메서드가 실행됩니다.
+     * - 메일은 발송 대기열에 넣기만 하고 바로 반환
+     * @throws VerificationLockedException 인증번호를 너무 많이 틀려 잠긴 경우
+     * @throws IllegalStateException 발송 대기열이 가득 찬 경우
      */
-    public String createVerificationCode(String email) throws MessagingException {
-        // 6자리 난수 생성
-        String code = String.format("%06d", new Random().nextInt(1000000));
+    public String createVerificationCode(String email) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<VerificationCode> previous = store.find(email, now);
 
-        // 만료시간 설정
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(EXPIRE_MINUTES);
+        // 잠긴 번호는 새 번호로 덮어써서 풀 수 없음 (만료될 때까지 대기)
+        if (previous.isPresent() && previous.get().getFailedAttempts() >= maxAttempts) {
+            throw new VerificationLockedException("인증번호를 " + maxAttempts + "회 틀렸습니다. 잠시 후 다시 시도해주세요.");
+        }
 
-        // 저장
-        verificationMap.put(email, new VerificationInfo(code, expiresAt));
+        // 방금 보낸 번호가 있으면 그대로 재사용 (연속 클릭 시 메일 1통)
+        VerificationCode info = previous
+                .filter(p -> p.getIssuedAt().plusSeconds(RESEND_REUSE_SECONDS).isAfter(now))
+                .orElse(null);
+        if (info == null) {
+            // 6자리 난수 생성 + 만료시간 설정 (틀린 횟수는 이어서 셈)
+            info = new VerificationCode(email, String.format("%06d", RANDOM.nextInt(1000000)), now,
+                    now.plusMinutes(codeTtlMinutes), previous.map(VerificationCode::getFailedAttempts).orElse(0));
+            store.save(info);
+        }
 
         // 이메일 발송
-        emailService.sendVerificationMail(email, code);
-
-        System.out.println("📨 인증번호 전송 완료 → " + email + " / 코드: " + code);
-        return code;
+        emailService.sendVerificationMail(email, info.getCode());
+        return info.getCode();
     }
 
     /**
      * ✅ 인증번호 확인
+     * - maxAttempts 회 틀리면 맞는 번호를 넣어도 실패
+     * - 비교 전에 시도 1회를 먼저 차지 → 동시에 N개를 보내도 비교는 maxAttempts 번까지만
      */
     public boolean verifyCode(String email, String code) {
-        VerificationInfo info = verificationMap.get(email);
-
-        if (info == null) {
-            System.out.println("❌ 인증 정보 없음: " + email);
+        LocalDateTime now = LocalDateTime.now();
+        int attempt = store.reserveAttempt(email, now);
+        if (attempt > maxAttempts) {
+            System.out.println("⛔ 인증 시도 횟수 초과: " + email);
             return false;
         }
 
-        if (info.expiresAt.isBefore(LocalDateTime.now())) {
-            verificationMap.remove(email);
-            System.out.println("❌ 인증번호 만료됨: " + email);
+        Optional<VerificationCode> found = attempt == 0 ? Optional.empty() : store.find(email, now);
+        if (found.isEmpty()) {
+            System.out.println("❌ 인증 정보 없음 또는 만료됨: " + email);
             return false;
         }
 
-        boolean match = info.code.equals(code);
+        VerificationCode info = found.get();
+
+        // 비교 시간으로 자릿수를 추측할 수 없게 상수 시간 비교
+        boolean match = code != null && MessageDigest.isEqual(
+                info.getCode().getBytes(StandardCharsets.UTF_8), code.getBytes(StandardCharsets.UTF_8));
         if (match) {
-            verifiedEmails.add(email); // ✅ 인증 성공 시 목록에 추가
+            store.clear(email);
+            store.markVerified(email, now.plusMinutes(verifiedTtlMinutes)); // ✅ 인증 성공 상태 저장
             System.out.println("✅ 인증 성공: " + email);
         } else {
-            System.out.println("❌ 인증번호 불일치: " + email);
+            System.out.println("❌ 인증번호 불일치: " + email + " (" + attempt + "/" + maxAttempts + ")");
         }
 
         return match;
@@ -79,26 +119,14 @@ public class EmailVerificationService {
      * ✅ 이미 인증된 이메일인지 확인
      */
     public boolean isVerified(String email) {
-        return verifiedEmails.contains(email);
+        return store.isVerified(email, LocalDateTime.now());
     }
 
     /**
      * ✅ 회원가입 완료 후 인증상태 초기화
      */
     public void clearVerification(String email) {
-        verifiedEmails.remove(email);
-        verificationMap.remove(email);
+        store.clear(email);
         System.out.println("🧹 인증 상태 초기화 완료 → " + email);
     }
-
-    // ✅ 내부 클래스: 코드 + 만료시간
-    private static class VerificationInfo {
-        String code;
-        LocalDateTime expiresAt;
-
-        VerificationInfo(String code, LocalDateTime expiresAt) {
-            this.code = code;
-            this.expiresAt = expiresAt;
-        }
-    }
 }
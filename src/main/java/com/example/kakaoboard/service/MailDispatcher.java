@@ -0,0 +1,254 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.config.VirtualThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 메일 발송 대기열
+ * - 요청 스레드는 대기열에 넣고 바로 반환 (SMTP 왕복 X)
+ * - 워커 N 개가 각자 SMTP 연결을 열어 두고 재사용 (끊겼으면 다시 연결)
+ * - 실패하면 지수 백오프(+지터)로 재시도, 받는 주소가 잘못된 경우는 바로 포기
+ * - 같은 받는 사람 + 같은 내용이 대기/발송 중이면 다시 넣지 않음
+ * - 지표: mail.queue.size / mail.sent / mail.retried / mail.failed / mail.deduped
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    public enum Result {
+        QUEUED, DUPLICATE
+    }
+
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    private final BlockingQueue<MailJob> queue;
+    private final ExecutorService workers;
+    private final ScheduledExecutorService retryTimer;
+
+    // 중복 판별 키 → 대기/발송 중인 메일
+    private final Map<String, MailJob> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter deduped;
+
+    private volatile boolean running = true;
+
+    public MailDispatcher(JavaMailSender mailSender,
+                          MeterRegistry meterRegistry,
+                          @Value("${kakaoboard.mail.from:${spring.mail.username:}}") String from,
+                          @Value("${kakaoboard.mail.workers:2}") int workerCount,
+                          @Value("${kakaoboard.mail.queue-capacity:1000}") int queueCapacity,
+                          @Value("${kakaoboard.mail.max-attempts:5}") int maxAttempts,
+                          @Value("${kakaoboard.mail.initial-backoff-ms:1000}") long initialBackoffMs,
+                          @Value("${kakaoboard.mail.max-backoff-ms:60000}") long maxBackoffMs,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.mailSender = mailSender;
+        this.from = from;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        // ✅ 가상 스레드 모드면 워커도 가상 스레드 (SMTP 응답 대기 중 OS 스레드를 잡지 않음)
+        // - 워커 수는 그대로: SMTPTransport.sendMessage 가 synchronized 라 발송 중에는 캐리어 스레드에 고정(pinning)됨
+        this.workers = Executors.newFixedThreadPool(workerCount, VirtualThreads.factory(virtualThreads, "mail-"));
+        this.retryTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "mail-retry");
+            t.setDaemon(true);
+            return t;
+        });
+
+        Gauge.builder("mail.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        this.sent = meterRegistry.counter("mail.sent");
+        this.retried = meterRegistry.counter("mail.retried");
+        this.failed = meterRegistry.counter("mail.failed");
+        this.deduped = meterRegistry.counter("mail.deduped");
+
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::workLoop);
+        }
+    }
+
+    /**
+     * ✅ 발송 예약
+     * @throws IllegalStateException 대기열이 가득 찬 경우
+     */
+    public Result enqueue(String to, String subject, String html) {
+        String key = to + "\n" + subject + "\n" + html.hashCode();
+        MailJob job = new MailJob(key, to, subject, html);
+        if (inFlight.putIfAbsent(key, job) != null) {
+            deduped.increment();
+            return Result.DUPLICATE;
+        }
+        if (!queue.offer(job)) {
+            inFlight.remove(key, job);
+            throw new IllegalStateException("메일 발송 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return Result.QUEUED;
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        retryTimer.shutdownNow();
+        workers.shutdownNow();
+        if (!queue.isEmpty()) {
+            log.warn("종료 시 발송하지 못한 메일 {}건", queue.size());
+        }
+    }
+
+    private void workLoop() {
+        SmtpConnection connection = new SmtpConnection();
+        try {
+            while (running) {
+                MailJob job = queue.poll(1, TimeUnit.SECONDS);
+                if (job == null) {
+                    // 한가할 때는 연결을 닫아 서버 쪽 유휴 타임아웃을 기다리지 않음
+                    connection.close();
+                    continue;
+                }
+                deliver(connection, job);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            connection.close();
+        }
+    }
+
+    private void deliver(SmtpConnection connection, MailJob job) {
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setTo(job.to);
+            helper.setFrom(from);
+            helper.setSubject(job.subject);
+            helper.setText(job.html, true);
+
+            connection.send(message);
+            sent.increment();
+            inFlight.remove(job.key, job);
+            log.info("✅ 메일 발송 완료 → {} (시도 {}회)", job.to, job.attempt + 1);
+        } catch (MessagingException | RuntimeException e) {
+            connection.close();
+            job.attempt++;
+            if (isPermanent(e) || job.attempt >= maxAttempts) {
+                failed.increment();
+                inFlight.remove(job.key, job);
+                log.warn("❌ 메일 발송 포기 → {} (시도 {}회): {}", job.to, job.attempt, e.getMessage());
+                return;
+            }
+            long delay = backoffMs(job.attempt);
+            retried.increment();
+            log.info("메일 재시도 예약 → {} ({}ms 후, {}번째 실패): {}", job.to, delay, job.attempt, e.getMessage());
+            retryTimer.schedule(() -> {
+                if (!queue.offer(job)) {
+                    failed.increment();
+                    inFlight.remove(job.key, job);
+                    log.warn("❌ 대기열이 가득 차서 재시도 포기 → {}", job.to);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // ✅ 1초, 2초, 4초 ... (최대 max-backoff-ms), ±20% 지터로 동시 재시도 분산
+    long backoffMs(int attempt) {
+        long base = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 30));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (base * jitter);
+    }
+
+    // ✅ 받는 주소 자체가 잘못된 경우는 재시도해도 같음
+    private static boolean isPermanent(Exception e) {
+        return e instanceof SendFailedException sfe
+                && sfe.getInvalidAddresses() != null
+                && sfe.getInvalidAddresses().length > 0;
+    }
+
+    /**
+     * ✅ 워커별 SMTP 연결 (JavaMailSenderImpl 이면 연결 재사용, 아니면 매번 send)
+     */
+    private final class SmtpConnection {
+
+        private Transport transport;
+
+        void send(MimeMessage message) throws MessagingException {
+            if (!(mailSender instanceof JavaMailSenderImpl impl)) {
+                mailSender.send(message);
+                return;
+            }
+            if (transport == null || !transport.isConnected()) {
+                close();
+                String protocol = impl.getProtocol() != null ? impl.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+                transport = impl.getSession().getTransport(protocol);
+                transport.connect(impl.getHost(), impl.getPort(), impl.getUsername(), impl.getPassword());
+            }
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.sendMessage(message, message.getAllRecipients());
+        }
+
+        void close() {
+            if (transport == null) return;
+            try {
+                transport.close();
+            } catch (MessagingException ignored) {
+                // 이미 끊긴 연결
+            }
+            transport = null;
+        }
+    }
+
+    private static final class MailJob {
+        final String key;
+        final String to;
+        final String subject;
+        final String html;
+        int attempt;
+
+        MailJob(String key, String to, String subject, String html) {
+            this.key = key;
+            this.to = to;
+            this.subject = subject;
+            this.html = html;
+        }
+    }
+}
@@ -1,19 +1,20 @@
 package com.example.kakaoboard.service;
 
+import com.example.kakaoboard.auth.PasswordHasher;
+import com.example.kakaoboard.auth.PasswordHashingBusyException;
 import com.example.kakaoboard.domain.User;
 import com.example.kakaoboard.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher; // ✅ BCrypt 는 전용 스레드 풀에서만
     private final EmailVerificationService verificationService; // ✅ 이메일 인증 서비스
 
     /**
@@ -46,7 +47,7 @@ public class UserService {
         }
 
         // ✅ 비밀번호 암호화 후 저장
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
+        user.setPassword(passwordHasher.encode(user.getPassword()));
         User saved = userRepository.save(user);
 
         // ✅ 회원가입 후 인증 상태 초기화 (보안상)
@@ -57,24 +58,47 @@ public class UserService {
 
     /**
      * ✅ 로그인
+     * - 비밀번호 확인은 해시 풀에서 → 요청 스레드는 기다리지 않고 반납
+     * - 예전 형식/낮은 cost 해시면 성공한 김에 다시 해시해서 저장 (일괄 마이그레이션 없이 옮겨감)
+     * @throws PasswordHashingBusyException 해시 대기열이 가득 찬 경우
      */
-    public Optional<User> login(String username, String password) {
+    public CompletableFuture<Optional<User>> login(String username, String password) {
         Optional<User> userOpt = userRepository.findByUsername(username);
+        if (userOpt.isEmpty() || password == null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
 
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            if (passwordEncoder.matches(password, user.getPassword())) {
-                return Optional.of(user);
+        User user = userOpt.get();
+        String storedHash = user.getPassword();
+        return passwordHasher.matchesAsync(password, storedHash).thenApply(match -> {
+            if (!match) return Optional.empty();
+            if (passwordHasher.needsRehash(storedHash)) {
+                rehash(user, storedHash, password);
             }
+            return Optional.of(user);
+        });
+    }
+
+    // 재해시는 덤 → 풀이 바쁘면 다음 로그인 때 다시 시도
+    private void rehash(User user, String oldHash, String password) {
+        try {
+            passwordHasher.encodeAsync(password).thenAccept(newHash -> {
+                if (userRepository.replacePasswordHash(user.getId(), oldHash, newHash) > 0) {
+                    System.out.println("🔁 비밀번호 해시 갱신 → " + user.getUsername());
+                }
+            });
+        } catch (PasswordHashingBusyException e) {
+            // 무시
         }
-        return Optional.empty();
     }
 
     /**
      * ✅ 회원정보 수정 (비밀번호 확인 후 닉네임/이메일 변경)
+     * - 새 비밀번호 해시는 DB 를 건드리기 전에 → 해시 풀을 기다리는 동안 커넥션/트랜잭션을 잡지 않음
      */
-    @Transactional
     public User updateUser(Long id, String email, String password, String username, String newEmail) {
+        String newHash = password != null && !password.isBlank() ? passwordHasher.encode(password) : null;
+
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
@@ -91,8 +115,8 @@ public class UserService {
         }
 
         // ✅ 비밀번호 수정 (입력된 경우만 암호화)
-        if (password != null && !password.isBlank()) {
-            user.setPassword(passwordEncoder.encode(password));
+        if (newHash != null) {
+            user.setPassword(newHash);
         }
 
         // ✅ 기존 email이 null이 아닌지 한번 더 체크 (방어 코드)
@@ -128,7 +152,7 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 이메일로 사용자를 찾을 수 없습니다."));
 
         // 새 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(newPassword);
+        String encodedPassword = passwordHasher.encode(newPassword);
         user.setPassword(encodedPassword);
 
         // DB 저장
@@ -142,7 +166,7 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
         // 저장된 비밀번호와 비교
-        if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+        if (!passwordHasher.matches(rawPassword, user.getPassword())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
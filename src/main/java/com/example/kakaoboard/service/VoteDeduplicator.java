@@ -0,0 +1,60 @@
+package com.example.kakaoboard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ✅ 중복 투표 사전 판별 (선택 기능, kakaoboard.votes.remember-voters)
+ * - 투표가 확정된 (토론, 투표자) 를 메모리에 기억 → 같은 사람이 다시 누르면 DB 없이 바로 거절
+ * - 기억에 없으면 그대로 INSERT (유니크 제약이 최종 방어: 재시작 전이나 다른 서버에서 한 투표도 거기서 걸림)
+ * - 정확한 집합이라 오탐 없음, 토론별 투표자 집합으로 전체 max-remembered 명까지 (오래 안 쓴 토론부터 버림)
+ * - 마감/삭제 시 그 토론 집합만 통째로 버림 (전체를 훑지 않음)
+ */
+@Component
+public class VoteDeduplicator {
+
+    private final boolean enabled;
+    // 토론 id → 투표자 (무게 = 투표자 수)
+    private final Cache<Long, Set<String>> remembered;
+
+    public VoteDeduplicator(@Value("${kakaoboard.votes.remember-voters:false}") boolean enabled,
+                            @Value("${kakaoboard.votes.max-remembered:100000}") long maxRemembered) {
+        this.enabled = enabled;
+        this.remembered = Caffeine.newBuilder()
+                .maximumWeight(maxRemembered)
+                .<Long, Set<String>>weigher((debateId, voters) -> Math.max(1, voters.size()))
+                .build();
+    }
+
+    /**
+     * ✅ 이미 투표한 게 확실한지
+     * - 기억에 없으면 false (INSERT 로 진행)
+     */
+    public boolean alreadyVoted(Long debateId, String voter) {
+        if (!enabled) return false;
+        Set<String> voters = remembered.getIfPresent(debateId);
+        return voters != null && voters.contains(voter);
+    }
+
+    /** ✅ 투표 성공(또는 유니크 제약으로 중복 확인) 후 기록 */
+    public void remember(Long debateId, String voter) {
+        if (!enabled) return;
+        // compute 로 다시 넣어야 늘어난 투표자 수로 무게가 다시 계산됨
+        remembered.asMap().compute(debateId, (id, voters) -> {
+            if (voters == null) voters = ConcurrentHashMap.newKeySet();
+            voters.add(voter);
+            return voters;
+        });
+    }
+
+    /** ✅ 마감/삭제된 토론의 투표자 제거 */
+    public void forget(Long debateId) {
+        if (!enabled) return;
+        remembered.invalidate(debateId);
+    }
+}
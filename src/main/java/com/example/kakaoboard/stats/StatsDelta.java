@@ -0,0 +1,67 @@
+package com.example.kakaoboard.stats;
+
+import com.example.kakaoboard.event.ActivityEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 아직 DB 에 반영 안 된 증가분 (사용자 1명 또는 카테고리 1개)
+ * - 이벤트 스레드는 LongAdder 에 더하기만, flush 는 sumThenReset 으로 가져감
+ */
+final class StatsDelta {
+
+    private final LongAdder[] counts = new LongAdder[ActivityEvent.Kind.values().length];
+
+    StatsDelta() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    void add(ActivityEvent.Kind kind, long delta) {
+        counts[kind.ordinal()].add(delta);
+    }
+
+    long get(ActivityEvent.Kind kind) {
+        return counts[kind.ordinal()].sum();
+    }
+
+    /**
+     * ✅ 가져가고 0 으로 (가져가는 중에 들어온 증가분은 다음 drain 에 포함)
+     */
+    long[] drain() {
+        long[] drained = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            drained[i] = counts[i].sumThenReset();
+        }
+        return drained;
+    }
+
+    /**
+     * ✅ 반영 실패 시 되돌려 다음 flush 에서 재시도
+     */
+    void restore(long[] drained) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i].add(drained[i]);
+        }
+    }
+
+    /** ✅ 남은 증가분이 없음 (flush 가 다 가져감) */
+    boolean isEmpty() {
+        for (LongAdder count : counts) {
+            if (count.sum() != 0) return false;
+        }
+        return true;
+    }
+
+    static long of(long[] drained, ActivityEvent.Kind kind) {
+        return drained[kind.ordinal()];
+    }
+
+    static boolean isZero(long[] drained) {
+        for (long d : drained) {
+            if (d != 0) return false;
+        }
+        return true;
+    }
+}
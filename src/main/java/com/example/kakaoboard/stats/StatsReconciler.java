@@ -0,0 +1,96 @@
+package com.example.kakaoboard.stats;
+
+import com.example.kakaoboard.domain.CategoryStats;
+import com.example.kakaoboard.domain.UserStats;
+import com.example.kakaoboard.repository.CategoryStatsRepository;
+import com.example.kakaoboard.repository.IdCount;
+import com.example.kakaoboard.repository.NameCount;
+import com.example.kakaoboard.repository.UserRepository;
+import com.example.kakaoboard.repository.UserStatsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * ✅ 집계 테이블 대조: 원본(토론/댓글/투표자) 에서 group by 로 다시 계산해 통째로 교체
+ * - 이벤트로 못 따라가는 변경 (토론 삭제로 사라진 투표, 대댓글 연쇄 삭제, 놓친 flush 등) 을 여기서 바로잡음
+ * - 한 트랜잭션이라 교체 도중에도 읽는 쪽은 이전 값을 봄
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsReconciler {
+
+    private static final int BATCH = 500;
+
+    private final UserStatsRepository userStatsRepository;
+    private final CategoryStatsRepository categoryStatsRepository;
+    private final UserRepository userRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @return {사용자 수, 카테고리 수}
+     */
+    @Transactional
+    public int[] rebuild() {
+        Map<Long, UserStats> users = new HashMap<>();
+        Function<Long, UserStats> newUser = id -> new UserStats(id, 0, 0, 0, 0);
+        for (IdCount c : userStatsRepository.countDebatesByAuthor()) {
+            users.computeIfAbsent(c.getId(), newUser).setDebates(c.getTotal());
+        }
+        for (IdCount c : userStatsRepository.countAuthorWins()) {
+            UserStats s = users.computeIfAbsent(c.getId(), newUser);
+            s.setWins(s.getWins() + c.getTotal());
+        }
+        for (IdCount c : userStatsRepository.countRebuttalWins()) {
+            UserStats s = users.computeIfAbsent(c.getId(), newUser);
+            s.setWins(s.getWins() + c.getTotal());
+        }
+        for (IdCount c : userStatsRepository.countCommentsByAuthor()) {
+            users.computeIfAbsent(c.getId(), newUser).setComments(c.getTotal());
+        }
+        for (IdCount c : userStatsRepository.countVotesByUser()) {
+            users.computeIfAbsent(c.getId(), newUser).setVotesCast(c.getTotal());
+        }
+
+        Map<String, CategoryStats> categories = new HashMap<>();
+        Function<String, CategoryStats> newCategory = name -> new CategoryStats(name, 0, 0, 0);
+        for (NameCount c : categoryStatsRepository.countDebatesByCategory()) {
+            categories.computeIfAbsent(c.getName(), newCategory).setDebates(c.getTotal());
+        }
+        for (NameCount c : categoryStatsRepository.countCommentsByCategory()) {
+            categories.computeIfAbsent(c.getName(), newCategory).setComments(c.getTotal());
+        }
+        for (NameCount c : categoryStatsRepository.countVotesByCategory()) {
+            categories.computeIfAbsent(c.getName(), newCategory).setVotes(c.getTotal() == null ? 0 : c.getTotal());
+        }
+
+        userStatsRepository.deleteAllInBatch();
+        categoryStatsRepository.deleteAllInBatch();
+        persistAll(List.copyOf(users.values()));
+        persistAll(List.copyOf(categories.values()));
+        userRepository.syncExpWithStats();
+        return new int[]{users.size(), categories.size()};
+    }
+
+    // save() 는 id 가 지정된 엔티티마다 select 후 insert 라서 persist 로 바로 넣음
+    private void persistAll(List<?> rows) {
+        for (int i = 0; i < rows.size(); i++) {
+            entityManager.persist(rows.get(i));
+            if ((i + 1) % BATCH == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
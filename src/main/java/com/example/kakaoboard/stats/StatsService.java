@@ -0,0 +1,240 @@
+package com.example.kakaoboard.stats;
+
+import com.example.kakaoboard.domain.CategoryStats;
+import com.example.kakaoboard.domain.User;
+import com.example.kakaoboard.domain.UserStats;
+import com.example.kakaoboard.event.ActivityEvent;
+import com.example.kakaoboard.repository.CategoryStatsRepository;
+import com.example.kakaoboard.repository.UserRepository;
+import com.example.kakaoboard.repository.UserStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.example.kakaoboard.event.ActivityEvent.Kind.*;
+
+/**
+ * ✅ 사용자별/카테고리별 활동 통계 (토론, 승리, 댓글, 투표, 경험치)
+ * - ActivityEvent 마다 메모리 증가분에 더하고, flush-interval-ms 마다 member_stats / category_stats 에 한 번에 반영
+ *   (사용자 통계와 users.exp/level 은 로그인한 활동만, 사용자 id 로 → 익명 활동은 카테고리에만)
+ * - 조회 = 집계 행 1개 + 아직 반영 안 된 증가분 → count/group by 없음
+ * - reconcile-interval-ms 마다 원본 테이블에서 다시 계산해 어긋난 값을 바로잡음 (StatsReconciler)
+ */
+@Slf4j
+@Component
+public class StatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final CategoryStatsRepository categoryStatsRepository;
+    private final UserRepository userRepository;
+    private final StatsReconciler reconciler;
+    private final Counter flushFailures;
+
+    private final Map<Long, StatsDelta> pendingUsers = new ConcurrentHashMap<>();
+    private final Map<String, StatsDelta> pendingCategories = new ConcurrentHashMap<>();
+
+    // flush 와 대조가 겹치면 대조 결과 위에 이미 포함된 증가분이 한 번 더 더해지므로 하나씩만
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public StatsService(UserStatsRepository userStatsRepository,
+                        CategoryStatsRepository categoryStatsRepository,
+                        UserRepository userRepository,
+                        StatsReconciler reconciler,
+                        MeterRegistry meterRegistry) {
+        this.userStatsRepository = userStatsRepository;
+        this.categoryStatsRepository = categoryStatsRepository;
+        this.userRepository = userRepository;
+        this.reconciler = reconciler;
+        this.flushFailures = Counter.builder("stats.flush.failures")
+                .description("DB 반영에 실패해 다음 주기로 미룬 횟수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onActivity(ActivityEvent event) {
+        if (event.getDelta() == 0) return;
+        if (event.getUserId() != null) {
+            add(pendingUsers, event.getUserId(), event);
+        }
+        if (event.getCategory() != null && !event.getCategory().isBlank() && event.getKind() != WIN) {
+            add(pendingCategories, event.getCategory(), event);
+        }
+    }
+
+    // compute 안에서 더해야 flush 의 빈 키 제거(computeIfPresent)와 겹쳐도 증가분이 사라지지 않음
+    private static <K> void add(Map<K, StatsDelta> pending, K key, ActivityEvent event) {
+        pending.compute(key, (k, delta) -> {
+            if (delta == null) delta = new StatsDelta();
+            delta.add(event.getKind(), event.getDelta());
+            return delta;
+        });
+    }
+
+    // 다 반영된 키는 제거 (한동안 활동이 없는 사용자/카테고리 키가 계속 쌓이지 않게)
+    private static <K> void removeIfEmpty(Map<K, StatsDelta> pending, K key) {
+        pending.computeIfPresent(key, (k, delta) -> delta.isEmpty() ? null : delta);
+    }
+
+    /**
+     * ✅ 사용자 통계 (회원이 아니거나 활동이 없으면 전부 0)
+     */
+    public UserStats user(String username) {
+        Long userId = userRepository.findByUsername(username).map(User::getId).orElse(null);
+        if (userId == null) return new UserStats(null, 0, 0, 0, 0);
+        UserStats row = userStatsRepository.findById(userId)
+                .orElseGet(() -> new UserStats(userId, 0, 0, 0, 0));
+        StatsDelta pending = pendingUsers.get(userId);
+        if (pending == null) return row;
+        return new UserStats(userId,
+                row.getDebates() + pending.get(DEBATE),
+                row.getWins() + pending.get(WIN),
+                row.getComments() + pending.get(COMMENT),
+                row.getVotesCast() + pending.get(VOTE));
+    }
+
+    /**
+     * ✅ 카테고리별 통계 (토론 많은 순)
+     */
+    public List<CategoryStats> categories() {
+        Map<String, CategoryStats> byName = new HashMap<>();
+        for (CategoryStats row : categoryStatsRepository.findAll()) {
+            byName.put(row.getCategory(), row);
+        }
+        pendingCategories.forEach((category, pending) -> {
+            CategoryStats row = byName.getOrDefault(category, new CategoryStats(category, 0, 0, 0));
+            byName.put(category, new CategoryStats(category,
+                    row.getDebates() + pending.get(DEBATE),
+                    row.getComments() + pending.get(COMMENT),
+                    row.getVotes() + pending.get(VOTE)));
+        });
+        List<CategoryStats> result = new ArrayList<>(byName.values());
+        result.sort(Comparator.comparingLong(CategoryStats::getDebates).reversed()
+                .thenComparing(CategoryStats::getCategory));
+        return result;
+    }
+
+    /**
+     * ✅ 누적된 증가분을 DB 에 반영
+     * - 반영이 끝나 0 이 된 키는 제거 (실패해 되돌린 키는 남겨 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelayString = "${kakaoboard.stats.flush-interval-ms:1000}")
+    public void flush() {
+        lock.lock();
+        try {
+            pendingUsers.forEach((userId, delta) -> {
+                flushUser(userId, delta);
+                removeIfEmpty(pendingUsers, userId);
+            });
+            pendingCategories.forEach((category, delta) -> {
+                flushCategory(category, delta);
+                removeIfEmpty(pendingCategories, category);
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * ✅ 대조: 남은 증가분을 먼저 반영한 뒤 원본에서 다시 계산
+     * - 대조 쿼리와 거의 동시에 들어온 이벤트 1~2건이 어긋날 수 있지만 다음 대조에서 다시 맞춰짐
+     */
+    @Scheduled(fixedDelayString = "${kakaoboard.stats.reconcile-interval-ms:3600000}",
+            initialDelayString = "${kakaoboard.stats.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        lock.lock();
+        try {
+            flush();
+            long start = System.nanoTime();
+            int[] rows = reconciler.rebuild();
+            log.info("활동 통계 대조: 사용자 {}명, 카테고리 {}개 ({}ms)",
+                    rows[0], rows[1], (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 처음 배포, 또는 회원 집계 테이블이 새로 생김 (이름 키 user_stats → id 키 member_stats) → 기존 데이터로 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (userStatsRepository.count() == 0 || categoryStatsRepository.count() == 0) {
+            reconcile();
+        }
+    }
+
+    /** ✅ 종료 시 남은 증가분 반영 */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 아직 반영 대기 중인 사용자 + 카테고리 키 수 (테스트용)
+    int pendingKeys() {
+        return pendingUsers.size() + pendingCategories.size();
+    }
+
+    private void flushUser(Long userId, StatsDelta delta) {
+        long[] d = delta.drain();
+        if (StatsDelta.isZero(d)) return;
+        long debates = StatsDelta.of(d, DEBATE);
+        long wins = StatsDelta.of(d, WIN);
+        long comments = StatsDelta.of(d, COMMENT);
+        long votes = StatsDelta.of(d, VOTE);
+        try {
+            if (userStatsRepository.add(userId, debates, wins, comments, votes) == 0) {
+                try {
+                    userStatsRepository.saveAndFlush(new UserStats(userId, debates, wins, comments, votes));
+                } catch (DataIntegrityViolationException e) {
+                    // 다른 서버가 먼저 행을 만듦 → 증가로 다시
+                    userStatsRepository.add(userId, debates, wins, comments, votes);
+                }
+            }
+        } catch (RuntimeException e) {
+            delta.restore(d);
+            flushFailures.increment();
+            log.warn("사용자 통계 반영 실패, 다음 주기에 재시도: userId={}", userId, e);
+            return;
+        }
+        // 경험치는 통계 반영과 따로: 실패해도 통계를 되돌리지 않고 대조에서 맞춤
+        try {
+            long exp = UserStats.exp(debates, wins, comments, votes);
+            if (exp != 0) userRepository.addExp(userId, (int) exp);
+        } catch (RuntimeException e) {
+            log.warn("경험치 반영 실패 (다음 대조에서 맞춤): userId={}", userId, e);
+        }
+    }
+
+    private void flushCategory(String category, StatsDelta delta) {
+        long[] d = delta.drain();
+        if (StatsDelta.isZero(d)) return;
+        long debates = StatsDelta.of(d, DEBATE);
+        long comments = StatsDelta.of(d, COMMENT);
+        long votes = StatsDelta.of(d, VOTE);
+        try {
+            if (categoryStatsRepository.add(category, debates, comments, votes) == 0) {
+                try {
+                    categoryStatsRepository.saveAndFlush(new CategoryStats(category, debates, comments, votes));
+                } catch (DataIntegrityViolationException e) {
+                    categoryStatsRepository.add(category, debates, comments, votes);
+                }
+            }
+        } catch (RuntimeException e) {
+            delta.restore(d);
+            flushFailures.increment();
+            log.warn("카테고리 통계 반영 실패, 다음 주기에 재시도: category={}", category, e);
+        }
+    }
+}
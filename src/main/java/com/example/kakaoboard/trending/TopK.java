@@ -0,0 +1,133 @@
+package com.example.kakaoboard.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 상위 K 개 유지용 최소 힙 + 위치 색인
+ * - 맨 위 = K 개 중 가장 낮은 점수 → 새 점수가 이보다 높을 때만 교체 (O(log K))
+ * - 이미 들어 있는 항목의 점수 변경/삭제도 위치 색인으로 바로 찾아 O(log K)
+ * - 동기화는 호출하는 쪽(TrendingRanking)에서
+ */
+final class TopK {
+
+    private final int capacity;
+    private final long[] ids;
+    private final double[] keys;
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int size;
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+        this.ids = new long[capacity];
+        this.keys = new double[capacity];
+    }
+
+    /**
+     * ✅ 점수 반영 → 상위 K 가 바뀌었으면 true
+     */
+    boolean offer(long id, double key) {
+        Integer pos = positions.get(id);
+        if (pos != null) {
+            double old = keys[pos];
+            keys[pos] = key;
+            if (key > old) siftDown(pos); else siftUp(pos);
+            return true;
+        }
+        if (size < capacity) {
+            ids[size] = id;
+            keys[size] = key;
+            positions.put(id, size);
+            siftUp(size++);
+            return true;
+        }
+        if (key <= keys[0]) return false;
+        positions.remove(ids[0]);
+        ids[0] = id;
+        keys[0] = key;
+        positions.put(id, 0);
+        siftDown(0);
+        return true;
+    }
+
+    boolean remove(long id) {
+        Integer pos = positions.remove(id);
+        if (pos == null) return false;
+        int last = --size;
+        if (pos != last) {
+            move(last, pos);
+            siftDown(pos);
+            siftUp(pos);
+        }
+        return true;
+    }
+
+    boolean contains(long id) {
+        return positions.containsKey(id);
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * ✅ 점수 높은 순 id (K 개만 정렬)
+     */
+    List<Long> sortedIds() {
+        List<Integer> order = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) order.add(i);
+        order.sort(Comparator.comparingDouble((Integer i) -> keys[i]).reversed());
+        List<Long> result = new ArrayList<>(size);
+        for (int i : order) result.add(ids[i]);
+        return result;
+    }
+
+    double keyOf(long id) {
+        Integer pos = positions.get(id);
+        return pos == null ? Double.NEGATIVE_INFINITY : keys[pos];
+    }
+
+    private void siftUp(int pos) {
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (keys[parent] <= keys[pos]) return;
+            swap(pos, parent);
+            pos = parent;
+        }
+    }
+
+    private void siftDown(int pos) {
+        while (true) {
+            int left = pos * 2 + 1;
+            if (left >= size) return;
+            int smallest = left + 1 < size && keys[left + 1] < keys[left] ? left + 1 : left;
+            if (keys[pos] <= keys[smallest]) return;
+            swap(pos, smallest);
+            pos = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long id = ids[a];
+        double key = keys[a];
+        ids[a] = ids[b];
+        keys[a] = keys[b];
+        ids[b] = id;
+        keys[b] = key;
+        positions.put(ids[a], a);
+        positions.put(ids[b], b);
+    }
+
+    private void move(int from, int to) {
+        ids[to] = ids[from];
+        keys[to] = keys[from];
+        positions.put(ids[to], to);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.kakaoboard.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ✅ 인기 토론 1건 (/api/debates/trending 응답 항목, 메모리 값만으로 채움)
+ * - score: 지금 시각 기준으로 감쇠된 점수
+ */
+@Getter
+@AllArgsConstructor
+public class TrendingEntry {
+    private long id;
+    private String title;
+    private String category;
+    private double score;
+}
@@ -0,0 +1,159 @@
+package com.example.kakaoboard.trending;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 시간 감쇠 인기 점수 + 전체/카테고리별 상위 K
+ * - 점수 = Σ 가중치 × 2^(-(지금 - 이벤트 시각) / 반감기)
+ * - 모든 토론이 같은 속도로 감쇠하므로 순서는 시간이 흘러도 그대로 → 기준 시각(epoch) 으로 환산한
+ *   로그 점수 ln Σ w·2^((t - epoch)/반감기) 만 저장하면 이벤트가 올 때만 갱신하면 됨 (주기적 재계산 없음)
+ * - 로그로 저장하므로 오래 켜 두어도 overflow 없음
+ * - 메타데이터(제목/카테고리)를 모르는 토론은 점수만 쌓다가 알게 되면 카테고리 상위 K 에 들어감
+ */
+class TrendingRanking {
+
+    static final String ALL = "";
+
+    private final Clock clock;
+    private final Instant epoch;
+    private final double halfLifeSeconds;
+    private final int size;
+
+    private final Map<Long, Item> items = new HashMap<>();
+    private final Map<String, TopK> tops = new HashMap<>();
+
+    TrendingRanking(Clock clock, Duration halfLife, int size) {
+        this.clock = clock;
+        this.epoch = clock.instant();
+        this.halfLifeSeconds = halfLife.toSeconds();
+        this.size = size;
+    }
+
+    /**
+     * ✅ 이벤트 1건 반영 (at 시각에 weight 만큼)
+     */
+    synchronized void record(long debateId, double weight, Instant at) {
+        Item item = items.computeIfAbsent(debateId, id -> new Item());
+        item.logScore = logAddExp(item.logScore, Math.log(weight) + exponent(at));
+        reposition(debateId, item);
+    }
+
+    synchronized void describe(long debateId, String title, String category) {
+        Item item = items.computeIfAbsent(debateId, id -> new Item());
+        String before = item.category;
+        item.title = title;
+        item.category = category;
+        if (before != null && !before.equals(category)) {
+            TopK old = tops.get(before);
+            if (old != null && old.remove(debateId)) refill(before, old);
+        }
+        reposition(debateId, item);
+    }
+
+    synchronized boolean isDescribed(long debateId) {
+        Item item = items.get(debateId);
+        return item != null && item.category != null;
+    }
+
+    synchronized void remove(long debateId) {
+        Item item = items.remove(debateId);
+        if (item == null) return;
+        TopK all = tops.get(ALL);
+        if (all != null && all.remove(debateId)) refill(ALL, all);
+        if (item.category != null) {
+            TopK top = tops.get(item.category);
+            if (top != null && top.remove(debateId)) refill(item.category, top);
+        }
+    }
+
+    /**
+     * ✅ 상위 K (category 가 null/빈 값이면 전체) — K 개 정렬만, 테이블 조회 없음
+     */
+    synchronized List<TrendingEntry> top(String category) {
+        TopK top = tops.get(category == null ? ALL : category);
+        if (top == null) return List.of();
+        double now = exponent(clock.instant());
+        List<TrendingEntry> result = new ArrayList<>(top.size());
+        for (long id : top.sortedIds()) {
+            Item item = items.get(id);
+            result.add(new TrendingEntry(id, item.title, item.category, Math.exp(item.logScore - now)));
+        }
+        return result;
+    }
+
+    /**
+     * ✅ 점수가 min 아래로 떨어졌고 상위 K 어디에도 없는 토론은 잊음 (메모리 정리)
+     */
+    synchronized int prune(double minScore) {
+        double threshold = Math.log(minScore) + exponent(clock.instant());
+        int removed = 0;
+        for (Iterator<Map.Entry<Long, Item>> it = items.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Item> entry = it.next();
+            if (entry.getValue().logScore < threshold && !inAnyTop(entry.getKey())) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    synchronized int tracked() {
+        return items.size();
+    }
+
+    private void reposition(long debateId, Item item) {
+        if (!item.hasMetadata()) return;
+        tops.computeIfAbsent(ALL, c -> new TopK(size)).offer(debateId, item.logScore);
+        tops.computeIfAbsent(item.category, c -> new TopK(size)).offer(debateId, item.logScore);
+    }
+
+    // 상위 K 에서 빠진 자리 → 나머지 중 최고 점수로 채움 (삭제 시에만, 메모리 안에서만 훑음)
+    private void refill(String category, TopK top) {
+        long bestId = -1;
+        double best = Double.NEGATIVE_INFINITY;
+        for (Map.Entry<Long, Item> entry : items.entrySet()) {
+            Item item = entry.getValue();
+            if (!item.hasMetadata() || top.contains(entry.getKey())) continue;
+            if (!category.equals(ALL) && !category.equals(item.category)) continue;
+            if (item.logScore > best) {
+                best = item.logScore;
+                bestId = entry.getKey();
+            }
+        }
+        if (bestId >= 0) top.offer(bestId, best);
+    }
+
+    private boolean inAnyTop(long debateId) {
+        for (TopK top : tops.values()) {
+            if (top.contains(debateId)) return true;
+        }
+        return false;
+    }
+
+    private double exponent(Instant at) {
+        return Duration.between(epoch, at).toMillis() / 1000.0 / halfLifeSeconds * Math.log(2);
+    }
+
+    private static double logAddExp(double a, double b) {
+        if (a == Double.NEGATIVE_INFINITY) return b;
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+
+    private static final class Item {
+        double logScore = Double.NEGATIVE_INFINITY;
+        String title;
+        String category;
+
+        boolean hasMetadata() {
+            return category != null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.kakaoboard.trending;
+
+import com.example.kakaoboard.controller.dto.DebateSummary;
+import com.example.kakaoboard.event.DebateEvent;
+import com.example.kakaoboard.repository.DebateRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * ✅ 인기(트렌딩) 토론
+ * - 좋아요/투표/댓글/작성 DebateEvent 마다 가중치만큼 점수 추가 (테이블 다시 훑지 않음)
+ * - 기동 시 최근 seed-days 일 토론은 현재 좋아요/투표/댓글 수를 작성 시각에 받은 것으로 보고 채움
+ * - 조회는 메모리의 상위 K 만 → DB 조회 없음
+ */
+@Slf4j
+@Component
+public class TrendingService {
+
+    private final DebateRepository debateRepository;
+    private final TrendingRanking ranking;
+
+    private final double likeWeight;
+    private final double voteWeight;
+    private final double commentWeight;
+    private final double createWeight;
+    private final int seedDays;
+
+    public TrendingService(DebateRepository debateRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${kakaoboard.trending.half-life-hours:6}") long halfLifeHours,
+                           @Value("${kakaoboard.trending.size:50}") int size,
+                           @Value("${kakaoboard.trending.weights.like:1}") double likeWeight,
+                           @Value("${kakaoboard.trending.weights.vote:2}") double voteWeight,
+                           @Value("${kakaoboard.trending.weights.comment:3}") double commentWeight,
+                           @Value("${kakaoboard.trending.weights.create:1}") double createWeight,
+                           @Value("${kakaoboard.trending.seed-days:7}") int seedDays) {
+        this.debateRepository = debateRepository;
+        this.ranking = new TrendingRanking(Clock.systemDefaultZone(), Duration.ofHours(halfLifeHours), size);
+        this.likeWeight = likeWeight;
+        this.voteWeight = voteWeight;
+        this.commentWeight = commentWeight;
+        this.createWeight = createWeight;
+        this.seedDays = seedDays;
+
+        Gauge.builder("trending.tracked", ranking, TrendingRanking::tracked)
+                .description("점수를 들고 있는 토론 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ✅ 인기 토론 (category 없으면 전체)
+     */
+    public List<TrendingEntry> top(String category) {
+        return ranking.top(category == null || category.isBlank() ? TrendingRanking.ALL : category);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        LocalDateTime since = LocalDateTime.now().minusDays(seedDays);
+        List<DebateSummary> recent = debateRepository.findSummariesCreatedAfter(since);
+        for (DebateSummary d : recent) {
+            Instant createdAt = d.getCreatedAt() == null ? Instant.now() : toInstant(d.getCreatedAt());
+            double weight = createWeight
+                    + likeWeight * d.getLikes()
+                    + voteWeight * (d.getAuthorVotes() + d.getRebuttalVotes())
+                    + commentWeight * d.getCommentCount();
+            ranking.record(d.getId(), weight, createdAt);
+            ranking.describe(d.getId(), d.getTitle(), d.getCategory());
+        }
+        log.info("인기 순위 초기화: {}일 이내 토론 {}개", seedDays, recent.size());
+    }
+
+    @EventListener
+    public void onDebateEvent(DebateEvent event) {
+        Long id = event.getDebateId();
+        if (id == null) return;
+
+        switch (event.getType()) {
+            case DELETED -> ranking.remove(id);
+            case CREATED -> {
+                ranking.record(id, createWeight, Instant.now());
+                describe(id);
+            }
+            case UPDATED -> describe(id);
+            case LIKED -> record(id, likeWeight * event.getCount());
+            case VOTED -> record(id, voteWeight);
+            case COMMENTED -> record(id, commentWeight);
+            default -> {
+            }
+        }
+    }
+
+    // 오래되어 점수가 거의 0 이 된 토론은 잊음 (다시 반응이 오면 그때부터 다시 셈)
+    @Scheduled(fixedDelayString = "${kakaoboard.trending.prune-interval-ms:600000}")
+    public void prune() {
+        ranking.prune(0.01);
+    }
+
+    private void record(long id, double weight) {
+        ranking.record(id, weight, Instant.now());
+        // 기동 전에 만들어져 seed 에 없던 토론 → 제목/카테고리 한 번만 조회
+        if (!ranking.isDescribed(id)) describe(id);
+    }
+
+    private void describe(long id) {
+        debateRepository.findSummaryById(id)
+                .ifPresent(s -> ranking.describe(id, s.getTitle(), s.getCategory()));
+    }
+
+    private static Instant toInstant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
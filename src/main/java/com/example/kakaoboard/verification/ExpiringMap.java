@@ -0,0 +1,107 @@
+package com.example.kakaoboard.verification;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * ✅ 용량 제한 + 만료 순서 정리 맵
+ * - 한 맵 안의 항목은 유효시간이 모두 같으므로 넣은 순서 = 만료 순서 → FIFO 큐 머리만 보면 됨 (O(1))
+ * - 정리: 큐 머리부터 만료된 것만 꺼냄 (만료 안 된 항목을 만나면 멈춤)
+ * - 용량 초과: 가장 먼저 만료될 항목부터 제거 → 주소를 무한히 바꿔 요청해도 메모리 일정
+ *   (evictable 이 false 인 항목은 건너뜀, 단 용량만큼 건너뛰어도 못 비우면 그대로 제거 → 메모리 상한 유지)
+ * - 같은 키를 다시 넣으면 큐에 옛 노드가 남는데, 꺼낼 때 맵의 현재 노드와 다르면 그냥 버림
+ */
+final class ExpiringMap<V> {
+
+    private final int capacity;
+    private final Predicate<V> evictable;
+    private final Map<String, Node<V>> map = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Node<V>> byExpiry = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() 는 O(n) 이라 따로 셈
+    private final AtomicInteger queued = new AtomicInteger();
+
+    ExpiringMap(int capacity) {
+        this(capacity, value -> true);
+    }
+
+    ExpiringMap(int capacity, Predicate<V> evictable) {
+        this.capacity = capacity;
+        this.evictable = evictable;
+    }
+
+    void put(String key, V value, long expiresAtMillis) {
+        Node<V> node = new Node<>(key, value, expiresAtMillis);
+        map.put(key, node);
+        byExpiry.add(node);
+        queued.incrementAndGet();
+        evictOverflow();
+    }
+
+    V get(String key, long nowMillis) {
+        Node<V> node = map.get(key);
+        if (node == null) return null;
+        if (node.expiresAtMillis <= nowMillis) {
+            map.remove(key, node);
+            return null;
+        }
+        return node.value;
+    }
+
+    void remove(String key) {
+        map.remove(key);
+    }
+
+    int sweep(long nowMillis) {
+        int removed = 0;
+        Node<V> head;
+        while ((head = byExpiry.peek()) != null) {
+            boolean stale = map.get(head.key) != head;
+            if (!stale && head.expiresAtMillis > nowMillis) break;
+            if (byExpiry.remove(head)) {
+                queued.decrementAndGet();
+                if (!stale && map.remove(head.key, head)) removed++;
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    int queued() {
+        return queued.get();
+    }
+
+    // 맵은 용량까지, 큐(옛 노드 포함)는 용량의 2배까지
+    private void evictOverflow() {
+        int skipped = 0;
+        while (map.size() > capacity || queued.get() > capacity * 2) {
+            Node<V> head = byExpiry.poll();
+            if (head == null) return;
+            if (map.get(head.key) == head && !evictable.test(head.value) && skipped++ < capacity) {
+                // 남겨 둘 항목은 큐 뒤로 (만료 순서가 어긋나도 get 이 만료를 확인하고, 정리는 머리에 올 때)
+                byExpiry.add(head);
+                continue;
+            }
+            queued.decrementAndGet();
+            map.remove(head.key, head);
+        }
+    }
+
+    // equals 는 identity (같은 키를 다시 넣은 노드와 구분)
+    private static final class Node<V> {
+        final String key;
+        final V value;
+        final long expiresAtMillis;
+
+        Node(String key, V value, long expiresAtMillis) {
+            this.key = key;
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
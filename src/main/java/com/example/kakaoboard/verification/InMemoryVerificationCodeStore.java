@@ -0,0 +1,100 @@
+package com.example.kakaoboard.verification;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ 단일 서버용 인증번호 저장소 (JVM 메모리)
+ * - 인증번호 / 인증 완료 각각 capacity 개까지만 보관 (넘치면 곧 만료될 것부터 제거)
+ * - 잠긴 번호(max-attempts 이상 시도)는 용량 초과로 밀어내지 않음 → 다른 주소로 요청을 쏟아부어 잠금을 풀 수 없음
+ * - sweep-interval-ms 마다 만료된 항목 정리
+ */
+@Component
+@ConditionalOnProperty(name = "kakaoboard.verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final ExpiringMap<Entry> codes;
+    private final ExpiringMap<Boolean> verified;
+
+    public InMemoryVerificationCodeStore(@Value("${kakaoboard.verification.capacity:100000}") int capacity,
+                                         @Value("${kakaoboard.verification.max-attempts:5}") int maxAttempts) {
+        this.codes = new ExpiringMap<>(capacity, entry -> entry.failedAttempts.get() < maxAttempts);
+        this.verified = new ExpiringMap<>(capacity);
+    }
+
+    @Override
+    public Optional<VerificationCode> find(String email, LocalDateTime now) {
+        Entry entry = codes.get(email, millis(now));
+        if (entry == null) return Optional.empty();
+        VerificationCode c = entry.code;
+        return Optional.of(new VerificationCode(
+                c.getEmail(), c.getCode(), c.getIssuedAt(), c.getExpiresAt(), entry.failedAttempts.get()));
+    }
+
+    @Override
+    public void save(VerificationCode code) {
+        codes.put(code.getEmail(), new Entry(code), millis(code.getExpiresAt()));
+    }
+
+    @Override
+    public int reserveAttempt(String email, LocalDateTime now) {
+        Entry entry = codes.get(email, millis(now));
+        return entry == null ? 0 : entry.failedAttempts.incrementAndGet();
+    }
+
+    @Override
+    public void markVerified(String email, LocalDateTime until) {
+        verified.put(email, Boolean.TRUE, millis(until));
+    }
+
+    @Override
+    public boolean isVerified(String email, LocalDateTime now) {
+        return verified.get(email, millis(now)) != null;
+    }
+
+    @Override
+    public void clear(String email) {
+        codes.remove(email);
+        verified.remove(email);
+    }
+
+    @Override
+    public int sweep(LocalDateTime now) {
+        long nowMillis = millis(now);
+        return codes.sweep(nowMillis) + verified.sweep(nowMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${kakaoboard.verification.sweep-interval-ms:30000}")
+    public void sweepExpired() {
+        sweep(LocalDateTime.now());
+    }
+
+    int size() {
+        return codes.size() + verified.size();
+    }
+
+    int queued() {
+        return codes.queued() + verified.queued();
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class Entry {
+        final VerificationCode code;
+        final AtomicInteger failedAttempts;
+
+        Entry(VerificationCode code) {
+            this.code = code;
+            this.failedAttempts = new AtomicInteger(code.getFailedAttempts());
+        }
+    }
+}
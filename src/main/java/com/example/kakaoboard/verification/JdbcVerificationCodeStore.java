@@ -0,0 +1,86 @@
+package com.example.kakaoboard.verification;
+
+import com.example.kakaoboard.domain.EmailVerification;
+import com.example.kakaoboard.repository.EmailVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ✅ 여러 서버 공유 인증번호 저장소 (email_verification 테이블)
+ * - 서버 A 에서 받은 번호를 서버 B 에서 확인 가능, 재시작해도 유지
+ * - 힙이 아니라 DB 에 쌓이므로 용량 제한 대신 만료 행 주기 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kakaoboard.verification.store", havingValue = "jdbc")
+public class JdbcVerificationCodeStore implements VerificationCodeStore {
+
+    private final EmailVerificationRepository repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<VerificationCode> find(String email, LocalDateTime now) {
+        return repository.findById(email)
+                .filter(v -> v.getCode() != null && v.getExpiresAt() != null && v.getExpiresAt().isAfter(now))
+                .map(v -> new VerificationCode(
+                        v.getEmail(), v.getCode(), v.getIssuedAt(), v.getExpiresAt(), v.getFailedAttempts()));
+    }
+
+    @Override
+    @Transactional
+    public void save(VerificationCode code) {
+        EmailVerification row = repository.findById(code.getEmail())
+                .orElseGet(() -> EmailVerification.builder().email(code.getEmail()).build());
+        row.setCode(code.getCode());
+        row.setIssuedAt(code.getIssuedAt());
+        row.setExpiresAt(code.getExpiresAt());
+        row.setFailedAttempts(code.getFailedAttempts());
+        repository.save(row);
+    }
+
+    @Override
+    @Transactional
+    public int reserveAttempt(String email, LocalDateTime now) {
+        // 증가한 행은 커밋까지 잠겨 있으므로 바로 읽은 값 = 이 요청의 순번
+        if (repository.incrementAttempts(email, now) == 0) return 0;
+        return repository.findById(email).map(EmailVerification::getFailedAttempts).orElse(0);
+    }
+
+    @Override
+    @Transactional
+    public void markVerified(String email, LocalDateTime until) {
+        EmailVerification row = repository.findById(email)
+                .orElseGet(() -> EmailVerification.builder().email(email).build());
+        row.setVerifiedUntil(until);
+        repository.save(row);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isVerified(String email, LocalDateTime now) {
+        return repository.findById(email)
+                .map(v -> v.getVerifiedUntil() != null && v.getVerifiedUntil().isAfter(now))
+                .orElse(false);
+    }
+
+    @Override
+    public void clear(String email) {
+        repository.deleteByEmail(email);
+    }
+
+    @Override
+    public int sweep(LocalDateTime now) {
+        return repository.deleteExpired(now);
+    }
+
+    @Scheduled(fixedDelayString = "${kakaoboard.verification.sweep-interval-ms:30000}")
+    public void sweepExpired() {
+        sweep(LocalDateTime.now());
+    }
+}
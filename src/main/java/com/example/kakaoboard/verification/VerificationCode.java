@@ -0,0 +1,19 @@
+package com.example.kakaoboard.verification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 발급된 인증번호 (저장소에서 읽은 시점의 값)
+ */
+@Getter
+@AllArgsConstructor
+public class VerificationCode {
+    private final String email;
+    private final String code;
+    private final LocalDateTime issuedAt;
+    private final LocalDateTime expiresAt;
+    private final int failedAttempts;
+}
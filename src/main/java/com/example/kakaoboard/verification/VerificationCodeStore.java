@@ -0,0 +1,47 @@
+package com.example.kakaoboard.verification;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ✅ 인증번호 저장소
+ * - memory: JVM 메모리 (기본값, 용량 제한 + 만료 순서대로 정리)
+ * - jdbc  : email_verification 테이블 (재시작해도 유지, 여러 서버 공유)
+ * - kakaoboard.verification.store 로 선택
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * ✅ 만료되지 않은 인증번호
+     */
+    Optional<VerificationCode> find(String email, LocalDateTime now);
+
+    /**
+     * ✅ 새 인증번호 저장 (이전 번호와 실패 횟수는 덮어씀)
+     */
+    void save(VerificationCode code);
+
+    /**
+     * ✅ 시도 횟수 +1 (번호를 비교하기 전에 원자적으로 → 동시 요청도 각각 1회로 셈, 맞으면 clear 로 없어짐)
+     * @return 증가 후 횟수 (만료되지 않은 인증번호가 없으면 0)
+     */
+    int reserveAttempt(String email, LocalDateTime now);
+
+    /**
+     * ✅ 인증 완료 표시 (until 까지 유효)
+     */
+    void markVerified(String email, LocalDateTime until);
+
+    boolean isVerified(String email, LocalDateTime now);
+
+    /**
+     * ✅ 인증번호 + 인증 완료 상태 모두 삭제
+     */
+    void clear(String email);
+
+    /**
+     * ✅ 만료된 항목 정리
+     * @return 정리한 개수
+     */
+    int sweep(LocalDateTime now);
+}
@@ -0,0 +1,11 @@
+package com.example.kakaoboard.verification;
+
+/**
+ * ✅ 인증번호를 너무 많이 틀려서 잠긴 상태 (잠금이 풀릴 때까지 새 번호도 발급하지 않음)
+ */
+public class VerificationLockedException extends RuntimeException {
+
+    public VerificationLockedException(String message) {
+        super(message);
+    }
+}
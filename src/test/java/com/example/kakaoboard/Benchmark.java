@@ -0,0 +1,23 @@
+package com.example.kakaoboard;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ✅ 처리량/메모리 측정 (숫자를 콘솔에 출력)
+ * - ./gradlew test 에서는 빠지고 ./gradlew benchmark 로만 실행
+ * - 동작 확인(assert)은 같은 클래스의 작은 크기 @Test 에 둠
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag(Benchmark.TAG)
+@Test
+public @interface Benchmark {
+
+    String TAG = "benchmark";
+}
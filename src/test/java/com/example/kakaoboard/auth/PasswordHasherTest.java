@@ -0,0 +1,157 @@
+package com.example.kakaoboard.auth;
+
+import com.example.kakaoboard.Benchmark;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private static final PasswordEncoder LEGACY = new BCryptPasswordEncoder(4);
+
+    private static PasswordEncoder encoder(int strength) {
+        DelegatingPasswordEncoder encoder =
+                new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        encoder.setDefaultPasswordEncoderForMatches(LEGACY);
+        return encoder;
+    }
+
+    @Test
+    void legacyAndWeakerHashesStillMatchButNeedRehash() {
+        PasswordHasher hasher = new PasswordHasher(encoder(5), new SimpleMeterRegistry(), 1, 4);
+
+        String legacy = LEGACY.encode("secret123");
+        assertThat(hasher.matches("secret123", legacy)).isTrue();
+        assertThat(hasher.needsRehash(legacy)).isTrue();
+
+        String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret123");
+        assertThat(hasher.matches("secret123", weaker)).isTrue();
+        assertThat(hasher.needsRehash(weaker)).isTrue();
+
+        String current = hasher.encode("secret123");
+        assertThat(current).startsWith("{bcrypt}$2a$05$");
+        assertThat(hasher.matches("secret123", current)).isTrue();
+        assertThat(hasher.matches("wrong", current)).isFalse();
+        assertThat(hasher.needsRehash(current)).isFalse();
+        hasher.shutdown();
+    }
+
+    @Test
+    void fullQueueIsShedImmediately() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence raw) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return raw.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence raw, String encoded) {
+                return encode(raw).equals(encoded);
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(blocking, registry, 1, 2);
+
+        // 실행 중 1 + 대기 2 까지 받고, 그 다음은 바로 거절
+        List<CompletableFuture<String>> accepted = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            accepted.add(hasher.encodeAsync("p" + i));
+        }
+        assertThatThrownBy(() -> hasher.encodeAsync("overflow")).isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(registry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+        assertThat(registry.get("password.hash.queue.depth").gauge().value()).isEqualTo(2);
+
+        release.countDown();
+        CompletableFuture.allOf(accepted.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        hasher.shutdown();
+    }
+
+    /**
+     * ✅ 로그인 폭주 중 조회 요청 p99
+     * - 요청 스레드 16개(Tomcat 역할), 그중 12개는 계속 로그인, 4개는 조회만 (가벼운 CPU 작업)
+     * - inline: 요청 스레드에서 바로 BCrypt / pooled: 해시 풀(2개)로 넘기고 요청 스레드는 반납
+     */
+    @Benchmark
+    void readLatencyDuringLoginStorm() throws Exception {
+        PasswordEncoder bcrypt = encoder(10);
+        String hash = bcrypt.encode("secret123");
+
+        long inline = readP99DuringStorm(() -> bcrypt.matches("secret123", hash));
+
+        PasswordHasher hasher = new PasswordHasher(bcrypt, new SimpleMeterRegistry(), 2, 16);
+        long pooled = readP99DuringStorm(() -> {
+            try {
+                hasher.matchesAsync("secret123", hash);
+                return true;
+            } catch (PasswordHashingBusyException e) {
+                return false; // 503
+            }
+        });
+        hasher.shutdown();
+
+        System.out.printf("read p99 during login storm: inline=%.2fms pooled=%.2fms%n", inline / 1e6, pooled / 1e6);
+    }
+
+    private static long readP99DuringStorm(BooleanSupplier login) throws Exception {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(16);
+        AtomicBoolean running = new AtomicBoolean(true);
+        for (int i = 0; i < 12; i++) {
+            requestThreads.execute(() -> {
+                while (running.get()) {
+                    if (!login.getAsBoolean()) Thread.onSpinWait();
+                }
+            });
+        }
+
+        List<CompletableFuture<long[]>> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readers.add(CompletableFuture.supplyAsync(() -> {
+                long[] latencies = new long[200];
+                for (int n = 0; n < latencies.length; n++) {
+                    long start = System.nanoTime();
+                    readDebates();
+                    latencies[n] = System.nanoTime() - start;
+                }
+                return latencies;
+            }, requestThreads));
+        }
+
+        long[] all = readers.stream().map(CompletableFuture::join).flatMapToLong(Arrays::stream).sorted().toArray();
+        running.set(false);
+        requestThreads.shutdown();
+        requestThreads.awaitTermination(10, TimeUnit.SECONDS);
+        return all[(int) (all.length * 0.99) - 1];
+    }
+
+    // 토론 목록 직렬화 정도의 CPU 작업
+    private static void readDebates() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            sb.append("{\"id\":").append(i).append(",\"title\":\"t\"}");
+        }
+        if (sb.length() == 0) throw new IllegalStateException();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.kakaoboard.auth;
+
+import com.example.kakaoboard.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void issuedTokenVerifiesToSameUser() {
+        TokenService service = service(SECRET, NOW);
+
+        AuthUser user = service.verify(service.issue(user(7L, "alice")).getToken()).orElseThrow();
+
+        assertThat(user.getId()).isEqualTo(7L);
+        assertThat(user.getUsername()).isEqualTo("alice");
+    }
+
+    @Test
+    void tamperedForeignOrExpiredTokensAreRejected() {
+        TokenService service = service(SECRET, NOW);
+        String token = service.issue(user(7L, "alice")).getToken();
+
+        // 다른 사용자로 payload 바꿔치기
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + service.issue(user(1L, "admin")).getToken().split("\\.")[1] + "." + parts[2];
+        assertThat(service.verify(forged)).isEmpty();
+
+        // 다른 키로 서명
+        TokenService other = service("fedcba9876543210fedcba9876543210", NOW);
+        assertThat(service.verify(other.issue(user(7L, "alice")).getToken())).isEmpty();
+
+        // 만료 (유효시간 1시간)
+        assertThat(service(SECRET, NOW.plus(Duration.ofMinutes(61))).verify(token)).isEmpty();
+
+        assertThat(service.verify("not-a-token")).isEmpty();
+        assertThat(service.verify("a.b.c")).isEmpty();
+    }
+
+    @Test
+    void onlyConfiguredAdminIdsGetAdminRole() throws Exception {
+        TokenService service = service(SECRET, NOW);
+        TokenAuthenticationFilter filter = new TokenAuthenticationFilter(service, Set.of(1L));
+
+        assertThat(authorities(filter, service.issue(user(1L, "root")).getToken()))
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        // 이름이 같아도 id 가 다르면 관리자 아님
+        assertThat(authorities(filter, service.issue(user(7L, "root")).getToken()))
+                .containsExactly("ROLE_USER");
+    }
+
+    private static List<String> authorities(TokenAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/debates/import");
+        request.addHeader("Authorization", "Bearer " + token);
+        List<String> granted = new ArrayList<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                SecurityContextHolder.getContext().getAuthentication().getAuthorities()
+                        .stream().map(GrantedAuthority::getAuthority).forEach(granted::add));
+        return granted;
+    }
+
+    private TokenService service(String secret, Instant now) {
+        return new TokenService(objectMapper, secret, Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.kakaoboard.chat;
+
+import com.example.kakaoboard.Benchmark;
+import com.example.kakaoboard.event.DebateEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatHistoryLogTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static ChatMessage chat(String sender, String text) {
+        return ChatMessage.builder().type(ChatMessage.MessageType.CHAT).sender(sender).message(text).build();
+    }
+
+    /** 세그먼트를 넘나드는 조회 + 재시작 후 offset 이어서 부여 */
+    @Test
+    void rollsSegmentsAndRecoversAfterRestart(@TempDir Path dir) throws Exception {
+        ChatHistoryLog log = new ChatHistoryLog(mapper, dir, 4 * 1024, 100);
+        log.open();
+        for (int i = 0; i < 500; i++) {
+            assertThat(log.append(chat("u" + (i % 7), "msg-" + i))).isEqualTo(i);
+        }
+        log.close();
+
+        try (var files = Files.list(dir)) {
+            assertThat(files.count()).isGreaterThan(1);
+        }
+
+        ChatHistoryLog reopened = new ChatHistoryLog(mapper, dir, 4 * 1024, 100);
+        reopened.open();
+        assertThat(reopened.nextOffset()).isEqualTo(500);
+
+        List<ChatMessage> tail = reopened.tail(3);
+        assertThat(tail).extracting(ChatMessage::getMessage).containsExactly("msg-497", "msg-498", "msg-499");
+        assertThat(tail).extracting(ChatMessage::getOffset).containsExactly(497L, 498L, 499L);
+
+        List<ChatMessage> since = reopened.since(95, 10);
+        assertThat(since).hasSize(10);
+        assertThat(since.get(0).getMessage()).isEqualTo("msg-95");
+        assertThat(since.get(9).getMessage()).isEqualTo("msg-104");
+
+        assertThat(reopened.append(chat("a", "after"))).isEqualTo(500);
+        assertThat(reopened.replay(500L, null)).extracting(ChatMessage::getMessage).containsExactly("after");
+        reopened.close();
+    }
+
+    /** 보관 개수를 넘으면 가장 오래된 세그먼트부터 삭제 */
+    @Test
+    void dropsOldestSegmentsBeyondRetention(@TempDir Path dir) throws Exception {
+        ChatHistoryLog log = new ChatHistoryLog(mapper, dir, 4 * 1024, 2);
+        log.open();
+        for (int i = 0; i < 1000; i++) {
+            log.append(chat("u", "msg-" + i));
+        }
+        try (var files = Files.list(dir)) {
+            assertThat(files.count()).isEqualTo(2);
+        }
+        List<ChatMessage> all = log.since(0, 1000);
+        assertThat(all).isNotEmpty().hasSizeLessThan(1000);
+        assertThat(all.get(all.size() - 1).getOffset()).isEqualTo(999);
+        log.close();
+    }
+
+    /** 열린 방 수 상한: 밀려난 기록은 닫히고, 다시 쓰면 파일에서 복구해 offset 이 이어짐 */
+    @Test
+    void storeClosesEvictedLogsAndReopensOnWrite(@TempDir Path dir) throws Exception {
+        ChatHistoryStore store = new ChatHistoryStore(mapper, dir.toString(), 1, 4, 1, 10);
+        ChatHistoryLog first = store.log("debate-1");
+        assertThat(store.append("debate-1", chat("a", "one"))).isZero();
+        store.append("debate-2", chat("b", "two"));
+        store.evictIdle();
+
+        assertThat(store.openCount()).isEqualTo(1);
+        ChatHistoryLog evicted = first.isClosed() ? first : store.log("debate-2");
+        assertThat(evicted.isClosed()).isTrue();
+        assertThatThrownBy(() -> evicted.append(chat("a", "late"))).isInstanceOf(ChatHistoryLog.ClosedException.class);
+
+        assertThat(store.append("debate-1", chat("a", "again"))).isEqualTo(1);
+        assertThat(store.log("debate-1").tail(2)).extracting(ChatMessage::getMessage).containsExactly("one", "again");
+        store.close();
+    }
+
+    /** 토론 삭제 → 방 기록 닫고 디렉터리 삭제 */
+    @Test
+    void storeDeletesRoomLogWhenDebateIsDeleted(@TempDir Path dir) throws Exception {
+        ChatHistoryStore store = new ChatHistoryStore(mapper, dir.toString(), 1, 4, 16, 10);
+        ChatHistoryLog history = store.log("debate-7");
+        store.append("debate-7", chat("a", "hi"));
+        store.append("public", chat("a", "hi"));
+
+        store.onDebateEvent(new DebateEvent(DebateEvent.Type.DELETED, 7L));
+
+        assertThat(history.isClosed()).isTrue();
+        assertThat(dir.resolve("debate-7")).doesNotExist();
+        assertThat(dir.resolve("public")).isDirectory();
+
+        // 늦게 도착한 쓰기는 새 기록을 만들지 않고 거부됨
+        assertThatThrownBy(() -> store.append("debate-7", chat("a", "late")))
+                .isInstanceOf(ChatHistoryLog.ClosedException.class);
+        assertThat(dir.resolve("debate-7")).doesNotExist();
+        store.close();
+    }
+
+    /** 여러 스레드가 동시에 기록해도 offset 이 빠짐/겹침 없이 이어짐 (디스크 반영은 주기적으로 모아서) */
+    @Test
+    void concurrentAppendsGetEveryOffset(@TempDir Path dir) throws Exception {
+        ChatHistoryLog log = new ChatHistoryLog(mapper, dir, 64 * 1024, 16);
+        log.open();
+
+        appendConcurrently(log, 4, 500);
+
+        assertThat(log.nextOffset()).isEqualTo(2_000);
+        assertThat(log.since(0, 2_000)).extracting(ChatMessage::getOffset)
+                .containsExactlyElementsOf(LongStream.range(0, 2_000).boxed().toList());
+        log.close();
+    }
+
+    /** 처리량: 8스레드 × 25,000건 */
+    @Benchmark
+    void sustainedAppendThroughput(@TempDir Path dir) throws Exception {
+        ChatHistoryLog log = new ChatHistoryLog(mapper, dir, 64 * 1024 * 1024, 16);
+        log.open();
+
+        int threads = 8;
+        int perThread = 25_000;
+        long start = System.nanoTime();
+        appendConcurrently(log, threads, perThread);
+        long elapsedNs = System.nanoTime() - start;
+
+        long total = (long) threads * perThread;
+        System.out.printf("BENCH chat-log appends=%d elapsed=%dms rate=%.0f msg/s%n",
+                total, TimeUnit.NANOSECONDS.toMillis(elapsedNs), total / (elapsedNs / 1e9));
+        log.close();
+    }
+
+    private void appendConcurrently(ChatHistoryLog log, int threads, int perThread) throws Exception {
+        var flusher = Executors.newSingleThreadScheduledExecutor();
+        flusher.scheduleWithFixedDelay(log::flush, 10, 10, TimeUnit.MILLISECONDS);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    log.append(chat("user" + id, "hello world message number " + i));
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        flusher.shutdown();
+        log.flush();
+    }
+}
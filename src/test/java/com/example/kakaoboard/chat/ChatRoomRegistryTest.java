@@ -0,0 +1,41 @@
+package com.example.kakaoboard.chat;
+
+import com.example.kakaoboard.event.DebateEvent;
+import com.example.kakaoboard.repository.DebateRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ChatRoomRegistryTest {
+
+    /** 없는 토론 방을 계속 찾아도 DB 확인은 한 번, 이 서버에서 생성되면 바로 열림 */
+    @Test
+    void unknownDebateRoomIsRememberedUntilCreated() {
+        DebateRepository debates = mock(DebateRepository.class);
+        when(debates.existsById(9L)).thenReturn(false, true);
+        ChatRoomRegistry registry = new ChatRoomRegistry(debates);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(registry.find("debate-9")).isEmpty();
+        }
+        verify(debates, times(1)).existsById(9L);
+
+        registry.onDebateEvent(new DebateEvent(DebateEvent.Type.CREATED, 9L));
+        assertThat(registry.find("debate-9")).isPresent();
+    }
+
+    /** 토론 삭제 → 그 방 presence seq 도 제거 */
+    @Test
+    void deletedDebateDropsPresenceSequence() {
+        PresenceBroadcaster broadcaster = new PresenceBroadcaster(
+                mock(SimpMessagingTemplate.class), new InMemoryPresenceRegistry());
+        broadcaster.joined("debate-3", new ChatUser("kim", "10.0.0.1"));
+        broadcaster.joined(ChatRoom.PUBLIC, new ChatUser("kim", "10.0.0.1"));
+
+        broadcaster.onDebateEvent(new DebateEvent(DebateEvent.Type.DELETED, 3L));
+
+        assertThat(broadcaster.roomCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.kakaoboard.chat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatRoomShardsTest {
+
+    /** 여러 스레드가 보내도 방마다 한 스레드에서 보낸 순서대로 처리 (방 상태는 락 없는 ArrayList) */
+    @Test
+    void keepsPerRoomOrderWithoutLocks() throws Exception {
+        ChatRoomShards shards = new ChatRoomShards(4);
+        int rooms = 16;
+        int perRoom = 10_000;
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        for (int r = 0; r < rooms; r++) {
+            received.put("debate-" + r, new ArrayList<>());
+        }
+
+        ExecutorService producers = Executors.newFixedThreadPool(rooms);
+        for (int r = 0; r < rooms; r++) {
+            String roomId = "debate-" + r;
+            producers.submit(() -> {
+                for (int i = 0; i < perRoom; i++) {
+                    int seq = i;
+                    shards.execute(roomId, () -> received.get(roomId).add(seq));
+                }
+            });
+        }
+        producers.shutdown();
+        assertThat(producers.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // 모든 샤드가 앞선 작업을 끝낼 때까지 대기
+        CountDownLatch drained = new CountDownLatch(rooms);
+        received.keySet().forEach(roomId -> shards.execute(roomId, drained::countDown));
+        assertThat(drained.await(30, TimeUnit.SECONDS)).isTrue();
+
+        received.forEach((roomId, seqs) -> {
+            assertThat(seqs).hasSize(perRoom);
+            for (int i = 0; i < perRoom; i++) {
+                assertThat(seqs.get(i)).isEqualTo(i);
+            }
+        });
+        shards.shutdown();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.kakaoboard.chat;
+
+import com.example.kakaoboard.Benchmark;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryPresenceRegistryTest {
+
+    @Test
+    void sameNicknameReplacesPreviousSession() {
+        InMemoryPresenceRegistry registry = new InMemoryPresenceRegistry();
+
+        registry.join("public", "s1", "alice", "10.0.0.1");
+        registry.join("public", "s2", "alice", "10.0.0.2");
+
+        assertThat(registry.users("public")).containsExactly(new ChatUser("alice", "10.0.0.2"));
+        // 교체된 옛 세션의 퇴장은 무시되고, 새 세션 퇴장만 반영
+        assertThat(registry.leave("public", "s1")).isEmpty();
+        assertThat(registry.leave("public", "s2")).contains(new ChatUser("alice", "10.0.0.2"));
+        assertThat(registry.users("public")).isEmpty();
+    }
+
+    @Test
+    void roomsHaveSeparatePresence() {
+        InMemoryPresenceRegistry registry = new InMemoryPresenceRegistry();
+
+        registry.join("public", "s1", "alice", "10.0.0.1");
+        registry.join("debate-1", "s1", "alice", "10.0.0.1");
+        registry.join("debate-1", "s2", "bob", "10.0.0.2");
+
+        assertThat(registry.users("public")).containsExactly(new ChatUser("alice", "10.0.0.1"));
+        assertThat(registry.users("debate-1")).hasSize(2);
+        assertThat(registry.roomsOf("s1")).containsExactlyInAnyOrder("public", "debate-1");
+
+        assertThat(registry.leave("debate-1", "s1")).isPresent();
+        assertThat(registry.roomsOf("s1")).containsExactly("public");
+        assertThat(registry.users("public")).hasSize(1);
+        assertThat(registry.users("debate-1")).containsExactly(new ChatUser("bob", "10.0.0.2"));
+    }
+
+    /** 입장 1건은 전체 목록 대신 변경분만 보내므로 훨씬 작음 */
+    @Test
+    void joinDeltaIsSmallerThanFullList() throws Exception {
+        int[] bytes = broadcastBytes(1_000);
+
+        assertThat(bytes[1] * 100).isLessThan(bytes[0]);
+    }
+
+    /** 입장 1건당 브로드캐스트 크기: 전체 목록 vs 변경분 */
+    @Benchmark
+    void broadcastBytesPerJoin() throws Exception {
+        for (int size : new int[]{1_000, 5_000, 10_000}) {
+            int[] bytes = broadcastBytes(size);
+            System.out.printf("users=%d fullListBytes=%d deltaBytes=%d%n", size, bytes[0], bytes[1]);
+        }
+    }
+
+    // size 명이 있는 방에 1명 더 들어올 때 {전체 목록, 변경분} JSON 바이트 수
+    private static int[] broadcastBytes(int size) throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        InMemoryPresenceRegistry registry = new InMemoryPresenceRegistry();
+        for (int i = 0; i < size; i++) {
+            registry.join("public", "s" + i, "user" + i, "10.0." + (i / 256) + "." + (i % 256));
+        }
+
+        int fullList = mapper.writeValueAsBytes(registry.users("public")).length;
+        int delta = mapper.writeValueAsBytes(
+                new PresenceDelta(PresenceDelta.Type.JOIN, size, "local", "user" + size, "10.0.0.1")).length;
+        return new int[]{fullList, delta};
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.kakaoboard.chat;
+
+import com.example.kakaoboard.domain.ChatPresence;
+import com.example.kakaoboard.repository.ChatPresenceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ 서버 두 대(A, B)가 같은 DB(내장 H2)를 공유하는 상황
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class JdbcPresenceRegistryTest {
+
+    @Autowired
+    private ChatPresenceRepository repository;
+
+    @Test
+    void usersOnOneNodeAreVisibleFromTheOther() {
+        JdbcPresenceRegistry nodeA = new JdbcPresenceRegistry(repository, "node-a", 30);
+        JdbcPresenceRegistry nodeB = new JdbcPresenceRegistry(repository, "node-b", 30);
+
+        nodeA.join("public", "s1", "alice", "10.0.0.1");
+        nodeB.join("public", "s2", "bob", "10.0.0.2");
+
+        assertThat(senders(nodeA)).containsExactlyInAnyOrder("alice", "bob");
+        assertThat(senders(nodeB)).containsExactlyInAnyOrder("alice", "bob");
+
+        // 같은 닉네임이 다른 서버로 재접속하면 이전 세션은 사라짐
+        nodeB.join("public", "s3", "alice", "10.0.0.3");
+        assertThat(senders(nodeA)).containsExactlyInAnyOrder("alice", "bob");
+        assertThat(nodeA.leave("public", "s1")).isEmpty();
+
+        assertThat(nodeA.leave("public", "s2")).contains(new ChatUser("bob", "10.0.0.2"));
+        assertThat(senders(nodeB)).containsExactly("alice");
+
+        // 다른 방은 따로: 같은 닉네임이 토론 방에 들어가도 전체 채팅 세션은 그대로
+        nodeA.join("debate-1", "s4", "alice", "10.0.0.4");
+        assertThat(senders(nodeB)).containsExactly("alice");
+        assertThat(nodeB.users("debate-1")).containsExactly(new ChatUser("alice", "10.0.0.4"));
+        assertThat(nodeB.roomsOf("s4")).containsExactly("debate-1");
+    }
+
+    @Test
+    void sessionsOfADeadNodeExpire() throws InterruptedException {
+        JdbcPresenceRegistry nodeA = new JdbcPresenceRegistry(repository, "node-a", 1);
+        JdbcPresenceRegistry nodeB = new JdbcPresenceRegistry(repository, "node-b", 1);
+
+        nodeA.join("public", "s1", "alice", "10.0.0.1");
+        nodeB.join("public", "s2", "bob", "10.0.0.2");
+
+        // A 는 죽어서 heartbeat 를 못 보내고, B 만 계속 살아있음
+        Thread.sleep(1_200);
+        nodeB.heartbeat();
+
+        assertThat(senders(nodeB)).containsExactly("bob");
+        assertThat(repository.findAll()).extracting(ChatPresence::getSessionId).containsExactly("s2");
+    }
+
+    private static List<String> senders(PresenceRegistry registry) {
+        return registry.users("public").stream().map(ChatUser::getSender).toList();
+    }
+}
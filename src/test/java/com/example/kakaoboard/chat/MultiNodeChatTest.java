@@ -0,0 +1,146 @@
+package com.example.kakaoboard.chat;
+
+import com.example.kakaoboard.KakaoboardApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ 서버 두 대(A, B)가 외부 STOMP 브로커(relay)와 DB(내장 H2)를 공유하는 상황
+ * - 애플리케이션 컨텍스트 2개를 kakaoboard.chat.broker=relay, presence=jdbc 로 띄움
+ * - B 에 접속한 사용자의 입장/채팅이 브로커를 거쳐 A 의 구독자에게 도착하는지
+ */
+class MultiNodeChatTest {
+
+    private static final String ROOM = ChatRoom.PUBLIC;
+
+    @TempDir
+    static Path dir;
+
+    private static StompBrokerStub broker;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() throws Exception {
+        broker = new StompBrokerStub();
+        nodeA = start("node-a");
+        nodeB = start("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() throws Exception {
+        if (nodeB != null) nodeB.close();
+        if (nodeA != null) nodeA.close();
+        broker.close();
+    }
+
+    // 명령행 인자로 넘겨 application.yml 의 MySQL 설정보다 우선
+    private static ConfigurableApplicationContext start(String node) {
+        return new SpringApplicationBuilder(KakaoboardApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:multinode;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--kakaoboard.chat.broker=relay",
+                "--kakaoboard.chat.relay.port=" + broker.port(),
+                "--kakaoboard.chat.presence=jdbc",
+                "--kakaoboard.chat.node-id=" + node,
+                "--kakaoboard.chat.history.dir=" + dir.resolve(node).resolve("chat-log"),
+                "--kakaoboard.search.snapshot-path=" + dir.resolve(node).resolve("index.snapshot"));
+    }
+
+    @Test
+    void chatAndPresenceFromNodeBReachSubscriberOnNodeA() throws Exception {
+        StompSession alice = connect(nodeA);
+        BlockingQueue<ChatMessage> chat = subscribe(alice, ChatRoom.topic(ROOM), ChatMessage.class);
+        BlockingQueue<PresenceDelta> presence = subscribe(alice, ChatRoom.presenceTopic(ROOM), PresenceDelta.class);
+        awaitBrokerSubscriptions(ChatRoom.topic(ROOM), ChatRoom.presenceTopic(ROOM));
+
+        StompSession bob = connect(nodeB);
+        bob.send("/app/rooms/" + ROOM + "/chat.newUser", Map.of("sender", "bob"));
+
+        PresenceDelta joined = presence.poll(10, TimeUnit.SECONDS);
+        assertThat(joined).isNotNull();
+        assertThat(joined.getType()).isEqualTo(PresenceDelta.Type.JOIN);
+        assertThat(joined.getNode()).isEqualTo("node-b");
+        assertThat(joined.getSender()).isEqualTo("bob");
+        assertThat(chat.poll(10, TimeUnit.SECONDS)).extracting(ChatMessage::getType, ChatMessage::getSender)
+                .containsExactly(ChatMessage.MessageType.JOIN, "bob");
+
+        bob.send("/app/rooms/" + ROOM + "/chat.sendMessage",
+                ChatMessage.builder().sender("bob").message("B 서버에서 안녕").build());
+
+        ChatMessage message = chat.poll(10, TimeUnit.SECONDS);
+        assertThat(message).isNotNull();
+        assertThat(message.getType()).isEqualTo(ChatMessage.MessageType.CHAT);
+        assertThat(message.getMessage()).isEqualTo("B 서버에서 안녕");
+
+        // A 에서 받는 전체 목록에도 B 의 접속자 (chat_presence 공유)
+        BlockingQueue<PresenceSnapshot> snapshot =
+                subscribe(alice, "/app/rooms/" + ROOM + "/chat.users", PresenceSnapshot.class);
+        assertThat(snapshot.poll(10, TimeUnit.SECONDS).getUsers())
+                .extracting(ChatUser::getSender).containsExactly("bob");
+
+        bob.disconnect();
+        alice.disconnect();
+    }
+
+    private static StompSession connect(ConfigurableApplicationContext node) throws Exception {
+        int port = ((WebServerApplicationContext) node).getWebServer().getPort();
+        WebSocketStompClient client = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient()))));
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        return client.connectAsync("http://localhost:" + port + "/ws", new StompSessionHandlerAdapter() { })
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static <T> BlockingQueue<T> subscribe(StompSession session, String destination, Class<T> type) {
+        BlockingQueue<T> received = new LinkedBlockingQueue<>();
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return type;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add(type.cast(payload));
+            }
+        });
+        return received;
+    }
+
+    // relay 는 구독을 비동기로 브로커에 전달 → 전달된 뒤에 B 에서 보내야 함
+    private static void awaitBrokerSubscriptions(String... destinations) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!broker.hasSubscribers(destinations)) {
+            assertThat(System.nanoTime()).as("브로커 구독 대기").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.kakaoboard.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboundSessionTrackerTest {
+
+    // 100바이트 프레임 20개 = 버퍼 한도(1KB)의 약 2배
+    private static final int FRAMES = 20;
+
+    /** 느린 클라이언트: 첫 프레임 전송이 멈춘 동안 나머지는 버퍼 한도 안에서 버려지고, 보내는 쪽은 막히지 않음 */
+    @Test
+    void slowConsumerDropsInsteadOfBlocking() throws Exception {
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        OutboundSessionTracker tracker = new OutboundSessionTracker(meters, "drop", 60_000, 1);
+
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession slow = mock(WebSocketSession.class);
+        when(slow.getId()).thenReturn("slow");
+        when(slow.isOpen()).thenReturn(true);
+        doAnswer(inv -> {
+            release.await();
+            return null;
+        }).when(slow).sendMessage(any());
+
+        WebSocketSession session = tracker.track(slow);
+        TextMessage frame = new TextMessage("x".repeat(100));
+
+        // 첫 프레임은 다른 스레드에서 전송 중 멈춤
+        ExecutorService stuck = Executors.newSingleThreadExecutor();
+        stuck.submit(() -> {
+            session.sendMessage(frame);
+            return null;
+        });
+        Thread.sleep(100);
+
+        // 보내는 쪽이 막히면 시간 초과로 실패
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < FRAMES; i++) {
+                session.sendMessage(frame);
+            }
+        });
+
+        assertThat(meters.get("chat.outbound.queue.depth").gauge().value()).isLessThanOrEqualTo(1024 + 100);
+        assertThat(meters.get("chat.outbound.dropped").functionCounter().count()).isGreaterThan(0);
+
+        release.countDown();
+        stuck.shutdown();
+        stuck.awaitTermination(1, TimeUnit.SECONDS);
+
+        tracker.untrack("slow");
+        assertThat(meters.get("chat.outbound.sessions").gauge().value()).isZero();
+        assertThat(meters.get("chat.outbound.dropped").functionCounter().count()).isGreaterThan(0);
+    }
+
+    /** 실제 STOMP 핸들러를 거쳐도 (Spring 이 세션을 한 번 더 감싸지 않고) 버려지기만 하고 연결은 유지 */
+    @Test
+    void slowConsumerThroughStompHandlerKeepsConnection() throws Exception {
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        OutboundSessionTracker tracker = new OutboundSessionTracker(meters, "drop", 60_000, 1);
+        TrackingSubProtocolWebSocketHandler handler = new TrackingSubProtocolWebSocketHandler(
+                new ExecutorSubscribableChannel(), new ExecutorSubscribableChannel(), tracker);
+        handler.addProtocolHandler(new StompSubProtocolHandler());
+        handler.setSendTimeLimit(60_000);
+        handler.setSendBufferSizeLimit(1024);
+
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession slow = mock(WebSocketSession.class);
+        when(slow.getId()).thenReturn("slow");
+        when(slow.isOpen()).thenReturn(true);
+        doAnswer(inv -> {
+            release.await();
+            return null;
+        }).when(slow).sendMessage(any());
+        handler.afterConnectionEstablished(slow);
+
+        Message<byte[]> frame = stompMessage("slow", "x".repeat(100));
+        ExecutorService stuck = Executors.newSingleThreadExecutor();
+        stuck.submit(() -> handler.handleMessage(frame));
+        Thread.sleep(100);
+
+        for (int i = 0; i < FRAMES; i++) {
+            handler.handleMessage(frame);
+        }
+
+        verify(slow, never()).close(any());
+        assertThat(meters.get("chat.outbound.dropped").functionCounter().count()).isGreaterThan(0);
+        assertThat(meters.get("chat.outbound.sessions").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        stuck.shutdown();
+        stuck.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    private static Message<byte[]> stompMessage(String sessionId, String body) {
+        StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setSubscriptionId("sub-0");
+        headers.setDestination("/topic/rooms/1");
+        headers.setMessageId("m");
+        return MessageBuilder.createMessage(body.getBytes(), headers.getMessageHeaders());
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.kakaoboard.chat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 테스트용 외부 STOMP 브로커 대역 (RabbitMQ/ActiveMQ 자리)
+ * - CONNECT / SUBSCRIBE / UNSUBSCRIBE / SEND / DISCONNECT 만 처리, heart-beat 는 0,0 으로 끔
+ * - SEND 는 목적지가 정확히 같은 구독 전부에 MESSAGE 로 (연결이 어느 서버 것이든)
+ */
+class StompBrokerStub implements AutoCloseable {
+
+    private final ServerSocket server;
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "stomp-broker-stub");
+        t.setDaemon(true);
+        return t;
+    });
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong messageIds = new AtomicLong();
+
+    private record Subscription(Connection connection, String id, String destination) {
+    }
+
+    StompBrokerStub() throws IOException {
+        server = new ServerSocket(0);
+        executor.execute(this::accept);
+    }
+
+    int port() {
+        return server.getLocalPort();
+    }
+
+    /** 목적지마다 구독이 하나 이상 들어와 있는지 */
+    boolean hasSubscribers(String... destinations) {
+        for (String destination : destinations) {
+            if (subscriptions.stream().noneMatch(s -> s.destination().equals(destination))) return false;
+        }
+        return true;
+    }
+
+    private void accept() {
+        while (!server.isClosed()) {
+            try {
+                Connection connection = new Connection(server.accept());
+                executor.execute(connection::read);
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        executor.shutdownNow();
+    }
+
+    private class Connection {
+
+        private final Socket socket;
+        private final OutputStream out;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.out = socket.getOutputStream();
+        }
+
+        void read() {
+            try (socket; InputStream in = socket.getInputStream()) {
+                Frame frame;
+                while ((frame = Frame.read(in)) != null) {
+                    handle(frame);
+                }
+            } catch (IOException ignored) {
+                // 서버 종료/연결 끊김
+            } finally {
+                subscriptions.removeIf(s -> s.connection() == this);
+            }
+        }
+
+        private void handle(Frame frame) throws IOException {
+            switch (frame.command) {
+                case "CONNECT", "STOMP" -> send("CONNECTED", Map.of("version", "1.2", "heart-beat", "0,0"), new byte[0]);
+                case "SUBSCRIBE" -> subscriptions.add(
+                        new Subscription(this, frame.headers.get("id"), frame.headers.get("destination")));
+                case "UNSUBSCRIBE" -> subscriptions.removeIf(
+                        s -> s.connection() == this && s.id().equals(frame.headers.get("id")));
+                case "SEND" -> {
+                    String destination = frame.headers.get("destination");
+                    for (Subscription s : subscriptions) {
+                        if (!s.destination().equals(destination)) continue;
+                        Map<String, String> headers = new LinkedHashMap<>();
+                        headers.put("destination", destination);
+                        headers.put("subscription", s.id());
+                        headers.put("message-id", String.valueOf(messageIds.incrementAndGet()));
+                        if (frame.headers.containsKey("content-type")) {
+                            headers.put("content-type", frame.headers.get("content-type"));
+                        }
+                        s.connection().send("MESSAGE", headers, frame.body);
+                    }
+                }
+                case "DISCONNECT" -> {
+                    if (frame.headers.containsKey("receipt")) {
+                        send("RECEIPT", Map.of("receipt-id", frame.headers.get("receipt")), new byte[0]);
+                    }
+                    socket.close();
+                }
+                default -> { }
+            }
+        }
+
+        // 여러 읽기 스레드가 같은 연결로 보낼 수 있으므로 프레임 단위로 잠금
+        synchronized void send(String command, Map<String, String> headers, byte[] body) throws IOException {
+            StringBuilder head = new StringBuilder(command).append('\n');
+            headers.forEach((k, v) -> head.append(k).append(':').append(v).append('\n'));
+            head.append("content-length:").append(body.length).append("\n\n");
+            out.write(head.toString().getBytes(StandardCharsets.UTF_8));
+            out.write(body);
+            out.write(0);
+            out.flush();
+        }
+    }
+
+    private record Frame(String command, Map<String, String> headers, byte[] body) {
+
+        /** 프레임 하나 (앞의 빈 줄 = heart-beat 는 건너뜀), 연결이 끝났으면 null */
+        static Frame read(InputStream in) throws IOException {
+            String command;
+            do {
+                command = line(in);
+                if (command == null) return null;
+            } while (command.isEmpty());
+
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (String line = line(in); line != null && !line.isEmpty(); line = line(in)) {
+                int colon = line.indexOf(':');
+                headers.putIfAbsent(line.substring(0, colon), line.substring(colon + 1));
+            }
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            String length = headers.get("content-length");
+            if (length != null) {
+                body.write(in.readNBytes(Integer.parseInt(length)));
+                in.read(); // 끝의 NUL
+            } else {
+                for (int b = in.read(); b > 0; b = in.read()) body.write(b);
+            }
+            return new Frame(command, headers, body.toByteArray());
+        }
+
+        private static String line(InputStream in) throws IOException {
+            ByteArrayOutputStream buf = new ByteArrayOutputStream();
+            for (int b = in.read(); b != '\n'; b = in.read()) {
+                if (b < 0) return null;
+                if (b != '\r') buf.write(b);
+            }
+            return buf.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.kakaoboard.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SampledSqlLoggerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SampledSqlLogger logger = new SampledSqlLogger(registry, 0);
+
+    @Test
+    void countsByStatementTypeAndLeavesSqlUnchanged() {
+        String select = "select d1_0.id from debate d1_0";
+        assertThat(logger.inspect(select)).isSameAs(select);
+        logger.inspect("  (select 1) union (select 2)");
+        logger.inspect("INSERT into comment (author,id) values (?,?)");
+        logger.inspect("update debate set hits=hits+1 where id=?");
+        logger.inspect("delete from vote where debate_id=?");
+        logger.inspect("call next value for comment_seq");
+        logger.inspect("");
+
+        assertThat(count("select")).isEqualTo(2);
+        assertThat(count("insert")).isEqualTo(1);
+        assertThat(count("update")).isEqualTo(1);
+        assertThat(count("delete")).isEqualTo(1);
+        assertThat(count("other")).isEqualTo(2);
+    }
+
+    @Test
+    void registersItselfAsStatementInspector() {
+        Map<String, Object> properties = new HashMap<>();
+        logger.customize(properties);
+
+        assertThat(properties).containsEntry(AvailableSettings.STATEMENT_INSPECTOR, logger);
+    }
+
+    private double count(String type) {
+        return registry.get("db.statements").tag("type", type).counter().count();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.kakaoboard.config;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Id;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ 본 풀(2개)을 트랜잭션들이 다 쥐고 있어도 id 구간을 받아 INSERT 가 진행되는지
+ * - MySQL 과 같이 시퀀스 테이블로 (force_table_use), 구간을 자주 받도록 increment 5
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sequence-block;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=2",
+        "spring.datasource.hikari.connection-timeout=1000",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SequenceBlockConnections.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SequenceBlockGeneratorTest {
+
+    @Entity(name = "SequenceBlockProbe")
+    static class Probe {
+        @Id
+        @BlockSequence(name = "probe_seq", allocationSize = 5, forceTable = true)
+        Long id;
+    }
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    void blocksAreFetchedWhileEveryPooledConnectionIsHeld() throws Exception {
+        int threads = 2;
+        int perThread = 20;
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CyclicBarrier allHoldConnections = new CyclicBarrier(threads);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> transaction.executeWithoutResult(status -> {
+                    // 트랜잭션마다 본 풀 커넥션을 하나씩 쥔 상태
+                    entityManager.createNativeQuery("select 1").getSingleResult();
+                    try {
+                        allHoldConnections.await(5, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        Probe probe = new Probe();
+                        entityManager.persist(probe);
+                        ids.add(probe.id);
+                    }
+                })));
+            }
+            for (Future<?> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+}
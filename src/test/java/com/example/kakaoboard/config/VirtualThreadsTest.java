@@ -0,0 +1,37 @@
+package com.example.kakaoboard.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.system.JavaVersion;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadsTest {
+
+    private static final boolean JAVA_21 = JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE);
+
+    @Test
+    void offMeansNamedDaemonPlatformThreads() {
+        ThreadFactory factory = VirtualThreads.factory(false, "mail-");
+        Thread first = factory.newThread(() -> { });
+        Thread second = factory.newThread(() -> { });
+
+        assertThat(first.getName()).isEqualTo("mail-1");
+        assertThat(second.getName()).isEqualTo("mail-2");
+        assertThat(first.isDaemon()).isTrue();
+        assertThat(VirtualThreads.active(false)).isFalse();
+    }
+
+    /** ✅ Java 17 에서 켜 두면 조용히 플랫폼 스레드로 (기동 실패 X) */
+    @Test
+    void onFollowsRuntimeVersion() throws Exception {
+        Thread thread = VirtualThreads.factory(true, "stomp-in-").newThread(() -> { });
+
+        assertThat(VirtualThreads.active(true)).isEqualTo(JAVA_21);
+        assertThat(thread.getName()).startsWith("stomp-in-");
+        // Thread.isVirtual() 은 Java 21 API → 17 로 컴파일하므로 리플렉션으로
+        boolean virtual = JAVA_21 && (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        assertThat(virtual).isEqualTo(JAVA_21);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.kakaoboard.config;
+
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.domain.User;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.example.kakaoboard.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(VoterKeyMigration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VoterKeyMigrationTest {
+
+    @Autowired private VoterKeyMigration migration;
+    @Autowired private DebateRepository debateRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbc;
+
+    @AfterEach
+    void tearDown() {
+        debateRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void usernameVotersBecomeUserIdsOnlyOnce() {
+        User kim = user("kim");
+        User lee = user("lee");
+        Debate debate = debateRepository.save(Debate.builder().title("t").author("a").category("게임")
+                .voters(new ArrayList<>(List.of("kim", "lee", "ghost"))).build());
+        // 기동 시 빈 DB 로 이미 한 번 실행됨 → 업그레이드 전 상태로
+        jdbc.update("delete from data_migration");
+
+        migration.migrate();
+        assertThat(voters(debate)).containsExactlyInAnyOrder(
+                String.valueOf(kim.getId()), String.valueOf(lee.getId()), "ghost");
+
+        // 닉네임이 다른 사용자의 id 와 같아도 두 번째 실행은 건드리지 않음
+        user(String.valueOf(kim.getId()));
+        migration.migrate();
+        assertThat(voters(debate)).containsExactlyInAnyOrder(
+                String.valueOf(kim.getId()), String.valueOf(lee.getId()), "ghost");
+    }
+
+    private List<String> voters(Debate debate) {
+        return jdbc.queryForList("select voter from debate_voters where debate_id = ?", String.class, debate.getId());
+    }
+
+    private User user(String name) {
+        User user = new User();
+        user.setUsername(name);
+        user.setEmail(name + "@x.com");
+        user.setPassword("{bcrypt}x");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.kakaoboard.controller.dto;
+
+import com.example.kakaoboard.Benchmark;
+import com.example.kakaoboard.domain.Comment;
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.service.CommentTreeBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseModelTest {
+
+    private static final int DEBATES = 200;
+    private static final int COMMENTS_PER_DEBATE = 50;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    /** 전체 목록: DebateDetail 은 댓글/투표자 그래프 없이 엔티티 응답보다 훨씬 작음 */
+    @Test
+    void debateListOmitsCommentGraph() throws Exception {
+        List<Debate> entities = debatesWithComments();
+        List<DebateDetail> details = entities.stream().map(DebateDetail::of).toList();
+
+        byte[] entityJson = mapper.writeValueAsBytes(entities);
+        byte[] detailJson = mapper.writeValueAsBytes(details);
+
+        String json = new String(detailJson);
+        assertThat(json).doesNotContain("\"comments\"", "\"voters\"", "\"replies\"");
+        assertThat(json).contains("\"isClosed\":false");
+        assertThat(detailJson.length).isLessThan(entityJson.length / 5);
+    }
+
+    /** 댓글 트리: 부모/토론 역참조 없이 replies 만 아래로 */
+    @Test
+    void commentTreeKeepsShape() throws Exception {
+        Debate debate = debatesWithComments().get(0);
+        List<CommentNode> tree = CommentNode.tree(CommentTreeBuilder.build(debate.getComments()));
+
+        assertThat(tree).hasSize(COMMENTS_PER_DEBATE / 5);
+        CommentNode first = tree.get(0);
+        assertThat(first.getParentId()).isNull();
+        assertThat(first.getReplies()).isNotEmpty();
+        assertThat(first.getReplies().get(0).getParentId()).isEqualTo(first.getId());
+
+        String json = mapper.writeValueAsString(tree);
+        assertThat(json).doesNotContain("\"debate\"", "\"parent\"");
+    }
+
+    /** 전체 목록: 엔티티(댓글 그래프 포함) vs DebateDetail — 응답 크기/요청당 할당량, 댓글 트리 크기 */
+    @Benchmark
+    void debateListPayloadAndAllocation() throws Exception {
+        List<Debate> entities = debatesWithComments();
+        List<DebateDetail> details = entities.stream().map(DebateDetail::of).toList();
+
+        byte[] entityJson = mapper.writeValueAsBytes(entities);
+        byte[] detailJson = mapper.writeValueAsBytes(details);
+        long entityAlloc = allocatedPerRun(() -> entities);
+        long detailAlloc = allocatedPerRun(() -> details);
+
+        System.out.printf("BENCH /api/debates entity=%dKB alloc=%dKB | dto=%dKB alloc=%dKB%n",
+                entityJson.length / 1024, entityAlloc / 1024, detailJson.length / 1024, detailAlloc / 1024);
+
+        List<CommentNode> tree = CommentNode.tree(CommentTreeBuilder.build(entities.get(0).getComments()));
+        System.out.printf("BENCH comment tree (%d comments) dto=%dB%n",
+                COMMENTS_PER_DEBATE, mapper.writeValueAsString(tree).length());
+    }
+
+    private long allocatedPerRun(Supplier<Object> body) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < 20; i++) {
+            mapper.writeValueAsBytes(body.get());
+        }
+        int runs = 50;
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < runs; i++) {
+            mapper.writeValueAsBytes(body.get());
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / runs;
+    }
+
+    // 토론마다 루트 댓글 10개 + 각 루트 아래 대댓글 4개 (엔티티의 comments 에는 전부 들어 있음)
+    private static List<Debate> debatesWithComments() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Debate> debates = new ArrayList<>();
+        long commentId = 1;
+        for (long id = 1; id <= DEBATES; id++) {
+            Debate d = new Debate();
+            d.setId(id);
+            d.setTitle("짜장면 vs 짬뽕 " + id);
+            d.setContent("중국집에 가면 무엇을 먹어야 하는가");
+            d.setAuthor("user" + id);
+            d.setCategory("기타");
+            d.setCreatedAt(now);
+            d.setComments(new ArrayList<>());
+            d.setReplies(new ArrayList<>());
+            d.setVoters(new ArrayList<>());
+            Comment root = null;
+            for (int i = 0; i < COMMENTS_PER_DEBATE; i++) {
+                Comment c = new Comment();
+                c.setId(commentId++);
+                c.setAuthor("commenter" + i);
+                c.setText("댓글 내용 " + i);
+                c.setIpAddress("10.0.0." + i);
+                c.setCreatedAt(now.plusSeconds(i));
+                c.setDebate(d);
+                c.setReplies(new ArrayList<>());
+                if (i % 5 == 0) {
+                    root = c;
+                } else {
+                    root.addReply(c);
+                }
+                d.getComments().add(c);
+            }
+            debates.add(d);
+        }
+        return debates;
+    }
+}
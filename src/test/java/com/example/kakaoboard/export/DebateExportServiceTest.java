@@ -0,0 +1,176 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.Benchmark;
+import com.example.kakaoboard.controller.dto.DebateDetail;
+import com.example.kakaoboard.domain.Comment;
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.repository.CommentRepository;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ 운영과 같이 내보내기가 자기 트랜잭션을 열도록 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DebateExportServiceTest {
+
+    private static final int COMMENTS = 2_000;
+    private static final int LARGE = 20_000;
+
+    @Autowired private DebateRepository debateRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private DebateExportService exporter;
+    private DebateDetail debate;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new DebateExportService(debateRepository, commentRepository, objectMapper, transactionManager);
+        Debate d = new Debate();
+        d.setTitle("짜장면 vs 짬뽕");
+        d.setContent("중국집 논쟁");
+        d.setAuthor("kim");
+        d.setCategory("기타");
+        Long id = debateRepository.save(d).getId();
+        insertComments(id, COMMENTS);
+        debate = exporter.find(id).orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("delete from comment");
+        debateRepository.deleteAll();
+    }
+
+    @Test
+    void ndjsonHasHeaderEveryCommentParentFirstAndEnd() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = exporter.write(debate, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(written).isEqualTo(COMMENTS);
+        assertThat(lines).hasSize(COMMENTS + 2);
+        assertThat(objectMapper.readTree(lines[0]).path("debate").path("title").asText()).isEqualTo("짜장면 vs 짬뽕");
+
+        Set<Long> seen = new HashSet<>();
+        for (int i = 1; i <= COMMENTS; i++) {
+            JsonNode c = objectMapper.readTree(lines[i]);
+            assertThat(c.path("type").asText()).isEqualTo("comment");
+            if (!c.path("parentId").isNull()) {
+                assertThat(seen).contains(c.path("parentId").asLong());
+            }
+            seen.add(c.path("id").asLong());
+        }
+        assertThat(objectMapper.readTree(lines[COMMENTS + 1]).path("comments").asLong()).isEqualTo(COMMENTS);
+    }
+
+    @Test
+    void binaryRoundTripsAndIsSmaller() throws Exception {
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        exporter.write(debate, ExportFormat.NDJSON, ndjson);
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        exporter.write(debate, ExportFormat.BINARY, binary);
+
+        try (BinaryExportReader reader = new BinaryExportReader(new ByteArrayInputStream(binary.toByteArray()))) {
+            assertThat(reader.debate().getTitle()).isEqualTo("짜장면 vs 짬뽕");
+            List<ExportedComment> sample = new ArrayList<>();
+            long n = 0;
+            for (ExportedComment c = reader.nextComment(); c != null; c = reader.nextComment()) {
+                if (n++ < 10) sample.add(c);
+            }
+            assertThat(n).isEqualTo(COMMENTS);
+            assertThat(reader.total()).isEqualTo(COMMENTS);
+            assertThat(sample.get(0).getParentId()).isNull();
+            assertThat(sample.get(1).getParentId()).isEqualTo(sample.get(0).getId());
+            assertThat(sample.get(1).getText()).isEqualTo("댓글 1");
+            assertThat(sample.get(1).getCreatedAt()).isNotNull();
+        }
+
+        assertThat(binary.size()).isLessThan(ndjson.size() / 2);
+    }
+
+    /**
+     * ✅ 댓글 2만 개 형식별 크기 + 응답으로 나간 바이트는 버리고 내보내는 동안의 할당량만
+     * - 댓글이 10배여도 한 건당 양은 같아야 함 (트리/목록으로 모으지 않음)
+     */
+    @Benchmark
+    void exportSizeAndAllocationPerComment() throws Exception {
+        Debate d = new Debate();
+        d.setTitle("large");
+        d.setCategory("기타");
+        Long largeId = debateRepository.save(d).getId();
+        insertComments(largeId, LARGE);
+        DebateDetail large = exporter.find(largeId).orElseThrow();
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        exporter.write(large, ExportFormat.NDJSON, ndjson);
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        exporter.write(large, ExportFormat.BINARY, binary);
+        System.out.printf("BENCH export %d comments ndjson=%dKB binary=%dKB%n",
+                LARGE, ndjson.size() / 1024, binary.size() / 1024);
+
+        long smallPerComment = allocatedPerComment(debate, COMMENTS);
+        long largePerComment = allocatedPerComment(large, LARGE);
+        System.out.printf("BENCH export alloc per comment: %d comments=%dB, %d comments=%dB (fetch size %d)%n",
+                COMMENTS, smallPerComment, LARGE, largePerComment, CommentRepository.EXPORT_FETCH_SIZE);
+        assertThat(largePerComment).isLessThan(smallPerComment * 3 / 2);
+    }
+
+    private long allocatedPerComment(DebateDetail target, int comments) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        exporter.write(target, ExportFormat.BINARY, OutputStream.nullOutputStream());
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        exporter.write(target, ExportFormat.BINARY, OutputStream.nullOutputStream());
+        return (threads.getThreadAllocatedBytes(threadId) - before) / comments;
+    }
+
+    // 5개마다 루트 1개 + 대댓글 4개 (id 는 댓글 시퀀스에서)
+    private void insertComments(Long debateId, int count) {
+        LocalDateTime now = LocalDateTime.now();
+        Long root = null;
+        for (int i = 0; i < count; i++) {
+            Long parent = i % 5 == 0 ? null : root;
+            jdbc.update("insert into comment (id, author, text, ip_address, created_at, debate_id, parent_id) "
+                            + "values (next value for " + Comment.ID_SEQUENCE + ", ?, ?, ?, ?, ?, ?)",
+                    "user" + (i % 100), "댓글 " + i, "10.0.0." + (i % 255), Timestamp.valueOf(now.plusNanos(i * 1000L)),
+                    debateId, parent);
+            if (i % 5 == 0) {
+                root = jdbc.queryForObject("select max(id) from comment", Long.class);
+            }
+        }
+    }
+}
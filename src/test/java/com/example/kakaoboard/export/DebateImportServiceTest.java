@@ -0,0 +1,195 @@
+package com.example.kakaoboard.export;
+
+import com.example.kakaoboard.Benchmark;
+import com.example.kakaoboard.controller.dto.DebateDetail;
+import com.example.kakaoboard.repository.CommentRepository;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ✅ 운영과 같이 가져오기가 자기 트랜잭션을 열도록 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({DebateImportService.class, DebateExportService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DebateImportServiceTest {
+
+    private static final int COMMENTS = 20_000;
+    private static final int[] BATCH_SIZES = {1, 50, 500};
+
+    @Autowired private DebateImportService importer;
+    @Autowired private DebateExportService exporter;
+    @Autowired private DebateRepository debateRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbc;
+    @Autowired private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("delete from comment");
+        debateRepository.deleteAll();
+    }
+
+    @Test
+    void restoresTreeAndRoundTripsThroughExport() throws Exception {
+        byte[] file = binaryExport(1_000);
+
+        DebateDetail imported = importer.importDebate(new ByteArrayInputStream(file), ExportFormat.BINARY);
+
+        assertThat(imported.getId()).isNotEqualTo(7L);
+        assertThat(imported.getTitle()).isEqualTo("짜장면 vs 짬뽕");
+        assertThat(imported.getAuthorVotes()).isEqualTo(3);
+
+        // 다시 내보내면 같은 댓글/같은 모양 (id 만 새로)
+        ByteArrayOutputStream again = new ByteArrayOutputStream();
+        exporter.write(imported, ExportFormat.NDJSON, again);
+        DebateDetail reimported = importer.importDebate(new ByteArrayInputStream(again.toByteArray()), ExportFormat.NDJSON);
+
+        try (BinaryExportReader original = new BinaryExportReader(new ByteArrayInputStream(file));
+             NdjsonExportReader copy = new NdjsonExportReader(objectMapper, new ByteArrayInputStream(again.toByteArray()))) {
+            original.debate();
+            copy.debate();
+            Map<Long, Integer> originalIndex = new HashMap<>();
+            Map<Long, Integer> copyIndex = new HashMap<>();
+            int i = 0;
+            for (ExportedComment a = original.nextComment(), b = copy.nextComment(); a != null;
+                 a = original.nextComment(), b = copy.nextComment(), i++) {
+                assertThat(b).isNotNull();
+                assertThat(b.getText()).isEqualTo(a.getText());
+                assertThat(b.getCreatedAt()).isEqualTo(a.getCreatedAt());
+                assertThat(b.getParentId() == null ? null : copyIndex.get(b.getParentId()))
+                        .isEqualTo(a.getParentId() == null ? null : originalIndex.get(a.getParentId()));
+                originalIndex.put(a.getId(), i);
+                copyIndex.put(b.getId(), i);
+            }
+            assertThat(copy.nextComment()).isNull();
+            assertThat(i).isEqualTo(1_000);
+        }
+        assertThat(commentRepository.count()).isEqualTo(2_000);
+        assertThat(reimported.getId()).isNotEqualTo(imported.getId());
+    }
+
+    /** 여러 서버에서 쓴 댓글: 대댓글 id 가 부모보다 작아 먼저 나옴 */
+    @Test
+    void replyBeforeParentIsSavedAfterParent() throws Exception {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryExportWriter writer = new BinaryExportWriter(out);
+        writer.debate(new DebateDetail(7L, "t", null, "kim", "기타", null,
+                null, null, null, null, 0, 0, 0, 0, false, now, null));
+        writer.comment(new ExportedComment(51L, 101L, "lee", "대댓글", null, now.plusSeconds(2)));
+        writer.comment(new ExportedComment(52L, 51L, "kim", "대대댓글", null, now.plusSeconds(3)));
+        writer.comment(new ExportedComment(101L, null, "kim", "루트", null, now.plusSeconds(1)));
+        writer.end(3);
+
+        DebateDetail imported = importer.importDebate(new ByteArrayInputStream(out.toByteArray()), ExportFormat.BINARY, 50);
+
+        List<String> tree = jdbc.queryForList("""
+                select c.text || '<' || coalesce(p.text, '-') from comment c left join comment p on p.id = c.parent_id
+                 where c.debate_id = ? order by c.created_at""", String.class, imported.getId());
+        assertThat(tree).containsExactly("루트<-", "대댓글<루트", "대대댓글<대댓글");
+    }
+
+    @Test
+    void truncatedFileSavesNothing() throws Exception {
+        byte[] file = binaryExport(500);
+        byte[] truncated = Arrays.copyOf(file, file.length / 2);
+
+        assertThatThrownBy(() -> importer.importDebate(new ByteArrayInputStream(truncated), ExportFormat.BINARY, 50))
+                .isInstanceOf(EOFException.class);
+        assertThat(debateRepository.count()).isZero();
+        assertThat(commentRepository.count()).isZero();
+    }
+
+    /** 실제로 JDBC 배치로 나가는지 (배치 크기별 prepare 횟수) */
+    @Test
+    void commentsAreInsertedInJdbcBatches() throws Exception {
+        int comments = 1_000;
+        byte[] file = binaryExport(comments);
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        long[] batches = new long[BATCH_SIZES.length];
+        for (int i = 0; i < BATCH_SIZES.length; i++) {
+            stats.clear();
+            importer.importDebate(new ByteArrayInputStream(file), ExportFormat.BINARY, BATCH_SIZES[i]);
+            batches[i] = stats.getPrepareStatementCount();
+        }
+        assertThat(commentRepository.count()).isEqualTo(3L * comments);
+        // 배치 1 은 댓글마다, 50/500 은 배치마다 prepare (+ id 50개마다 시퀀스 1번)
+        assertThat(batches[0]).isGreaterThanOrEqualTo(comments);
+        assertThat(batches[1]).isLessThan(comments / 10);
+        assertThat(batches[2]).isLessThan(batches[1]);
+    }
+
+    /** 배치 크기별 초당 INSERT 수 (댓글 2만 개) */
+    @Benchmark
+    void batchedInsertThroughput() throws Exception {
+        byte[] file = binaryExport(COMMENTS);
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 워밍업 (JIT)
+        importer.importDebate(new ByteArrayInputStream(file), ExportFormat.BINARY, 50);
+
+        for (int size : BATCH_SIZES) {
+            stats.clear();
+            long start = System.nanoTime();
+            importer.importDebate(new ByteArrayInputStream(file), ExportFormat.BINARY, size);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("BENCH import batch=%d comments/s=%.0f statements=%d%n",
+                    size, COMMENTS / seconds, stats.getPrepareStatementCount());
+        }
+    }
+
+    // 원본 토론 id 7, 5개마다 루트 1개 + 대댓글 4개 (원본 id 는 띄엄띄엄)
+    private static byte[] binaryExport(int comments) throws IOException {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryExportWriter writer = new BinaryExportWriter(out);
+        writer.debate(new DebateDetail(7L, "짜장면 vs 짬뽕", "중국집 논쟁", "kim", "기타", null,
+                "짬뽕", "국물", "lee", now, 3, 2, 10, 1, false, now.minusDays(1), null));
+        long root = 0;
+        for (int i = 0; i < comments; i++) {
+            long id = 1000 + i * 3L;
+            Long parent = i % 5 == 0 ? null : root;
+            if (i % 5 == 0) root = id;
+            writer.comment(new ExportedComment(id, parent, "user" + (i % 100), "댓글 " + i,
+                    "10.0.0." + (i % 255), now.plusSeconds(i)));
+        }
+        writer.end(comments);
+        return out.toByteArray();
+    }
+}
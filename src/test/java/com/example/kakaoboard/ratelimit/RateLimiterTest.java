@@ -0,0 +1,158 @@
+package com.example.kakaoboard.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static RateLimitProperties.Route route(String name, int burst, double perMinute) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName(name);
+        route.setMethod("POST");
+        route.setPaths(List.of("/api/debates/*/like"));
+        route.setBurst(burst);
+        route.setPerMinute(perMinute);
+        return route;
+    }
+
+    @Test
+    void bucketAllowsBurstThenWaitsForRefill() {
+        TokenBucket bucket = new TokenBucket(0);
+        long interval = TimeUnit.SECONDS.toNanos(1);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(0, interval, 3)).isZero();
+        }
+        assertThat(bucket.tryAcquire(0, interval, 3)).isEqualTo(interval);
+        // 1초 뒤 토큰 1개 충전
+        assertThat(bucket.tryAcquire(interval, interval, 3)).isZero();
+        assertThat(bucket.tryAcquire(interval, interval, 3)).isPositive();
+    }
+
+    /** 여러 스레드가 같은 키로 몰려도 정확히 burst 개만 통과 (락 없이) */
+    @Test
+    void concurrentClientsGetExactlyBurst() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Route like = route("like", 100, 0.001);
+        properties.setRoutes(List.of(like));
+        RateLimiter limiter = new RateLimiter(properties, new SimpleMeterRegistry());
+
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        for (int t = 0; t < 16; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire(like, "10.0.0.1") == 0) allowed.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(100);
+        // 다른 클라이언트는 영향 없음
+        assertThat(limiter.tryAcquire(like, "10.0.0.2")).isZero();
+        assertThat(limiter.matchHttp("POST", "/api/debates/7/like")).containsExactly(like);
+        assertThat(limiter.matchHttp("GET", "/api/debates/7/like")).isEmpty();
+    }
+
+    @Test
+    void idleBucketsAreEvicted() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setIdleEvictSeconds(600);
+        RateLimitProperties.Route like = route("like", 5, 6_000_000);
+        AtomicLong clock = new AtomicLong();
+        RateLimiter limiter = new RateLimiter(properties, new SimpleMeterRegistry(), clock::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            limiter.tryAcquire(like, "10.0." + (i / 256) + "." + (i % 256));
+        }
+        limiter.evictIdle();
+        assertThat(limiter.size()).isEqualTo(1_000);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(601));
+        limiter.evictIdle();
+        assertThat(limiter.size()).isZero();
+    }
+
+    /** 클라이언트가 보낸 X-Forwarded-For 는 무시: 값을 바꿔 가며 보내도 접속 주소의 버킷 하나 */
+    @Test
+    void spoofedForwardedForDoesNotGetFreshBucket() throws Exception {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route("like", 3, 0.001)));
+        RateLimiter limiter = new RateLimiter(properties, new SimpleMeterRegistry());
+        RateLimitFilter filter = new RateLimitFilter(limiter);
+
+        int[] statuses = new int[5];
+        for (int i = 0; i < statuses.length; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/debates/7/like");
+            request.setRemoteAddr("203.0.113.9");
+            request.addHeader("X-Forwarded-For", "10.9.9." + i);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            statuses[i] = response.getStatus();
+        }
+
+        assertThat(statuses).containsExactly(200, 200, 200, 429, 429);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    /** 버킷 수 상한: 넘으면 오래 안 쓴 버킷이 밀려날 뿐, 새 클라이언트가 공용 버킷에 묶여 같이 막히지 않음 */
+    @Test
+    void bucketCountIsCappedWithoutSharedBucket() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxBuckets(100);
+        RateLimitProperties.Route like = route("like", 5, 0.001);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RateLimiter limiter = new RateLimiter(properties, registry);
+
+        int allowed = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (limiter.tryAcquire(like, "10.0." + (i / 256) + "." + (i % 256)) == 0) allowed++;
+        }
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(100);
+        assertThat(allowed).isEqualTo(10_000);
+        assertThat(registry.get("ratelimit.evicted").counter().count()).isGreaterThanOrEqualTo(9_900);
+    }
+
+    /** IPv6 는 /64 대역 하나가 버킷 하나, IPv4 (mapped 포함) 는 주소 그대로 */
+    @Test
+    void ipv6ClientsShareBucketPer64() throws Exception {
+        assertThat(RateLimiter.ipKey("2001:db8:1:2:aaaa::1"))
+                .isEqualTo(RateLimiter.ipKey("2001:0db8:0001:0002:bbbb:cccc:dddd:2"))
+                .isEqualTo("2001:db8:1:2::/64")
+                .isNotEqualTo(RateLimiter.ipKey("2001:db8:1:3::1"));
+        assertThat(RateLimiter.ipKey("203.0.113.9")).isEqualTo("203.0.113.9");
+        assertThat(RateLimiter.ipKey("::ffff:203.0.113.9")).isEqualTo("203.0.113.9");
+
+        RateLimitProperties properties = new RateLimitProperties();
+        RateLimitProperties.Route like = route("like", 3, 0.001);
+        properties.setRoutes(List.of(like));
+        RateLimiter limiter = new RateLimiter(properties, new SimpleMeterRegistry());
+        RateLimitFilter filter = new RateLimitFilter(limiter);
+
+        int[] statuses = new int[5];
+        for (int i = 0; i < statuses.length; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/debates/7/like");
+            request.setRemoteAddr("2001:db8:1:2::" + (i + 1));
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            statuses[i] = response.getStatus();
+        }
+        assertThat(statuses).containsExactly(200, 200, 200, 429, 429);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.kakaoboard.search;
+
+import com.example.kakaoboard.Benchmark;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchIndexTest {
+
+    @Test
+    void koreanTextIsSplitIntoBigramsAndLatinIntoWords() {
+        assertThat(Tokenizer.tokens("토론은 LoL 최고!")).containsExactly("토론", "론은", "lol", "최고");
+        assertThat(Tokenizer.tokens("밥")).containsExactly("밥");
+        // 전각 영문/숫자도 같은 토큰
+        assertThat(Tokenizer.tokens("ＬｏＬ２")).containsExactly("lol2");
+    }
+
+    @Test
+    void ranksByBm25AndFindsWordsWithParticles() {
+        SearchIndex index = new SearchIndex();
+        index.put(SearchDocument.debate(1, "짜장면 vs 짬뽕", "중국집에서는 짜장면이 기본", null, null));
+        index.put(SearchDocument.debate(2, "부먹 vs 찍먹", "탕수육은 찍먹", "부먹이 정답", "소스를 부어야 한다"));
+        index.put(SearchDocument.comment(10, 2, "부먹 vs 찍먹", "짜장면 시키면 탕수육 서비스"));
+
+        List<SearchHit> hits = index.search("짜장면", 10);
+        assertThat(hits).extracting(SearchHit::getId).containsExactly(1L, 10L); // 제목 가중치로 토론이 먼저
+        assertThat(hits.get(1).getType()).isEqualTo(SearchDocument.Type.COMMENT);
+        assertThat(hits.get(1).getDebateId()).isEqualTo(2L);
+
+        // 반박 본문도 색인
+        assertThat(index.search("소스", 10)).extracting(SearchHit::getId).containsExactly(2L);
+        assertThat(index.search("없는단어", 10)).isEmpty();
+    }
+
+    @Test
+    void replacingADebateDropsOldTextAndComments() {
+        SearchIndex index = new SearchIndex();
+        index.replaceDebate(1, List.of(
+                SearchDocument.debate(1, "고양이 vs 강아지", "", null, null),
+                SearchDocument.comment(5, 1, "고양이 vs 강아지", "고양이 최고")));
+
+        index.replaceDebate(1, List.of(SearchDocument.debate(1, "여름 vs 겨울", "", null, null)));
+        assertThat(index.search("고양이", 10)).isEmpty();
+        assertThat(index.search("겨울", 10)).extracting(SearchHit::getId).containsExactly(1L);
+
+        index.replaceDebate(1, List.of());
+        assertThat(index.search("겨울", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.termCount()).isZero();
+    }
+
+    @Test
+    void snapshotRoundTripsAndRejectsCorruption(@TempDir Path dir) throws Exception {
+        SearchIndex index = new SearchIndex();
+        index.put(SearchDocument.debate(1, "민트초코 호불호", "치약맛 논쟁", null, null));
+        index.put(SearchDocument.comment(7, 1, "민트초코 호불호", "민트초코는 사랑입니다"));
+
+        Path file = dir.resolve("index.snapshot");
+        Instant takenAt = Instant.parse("2026-01-01T00:00:00Z");
+        SearchSnapshot.write(file, takenAt, index.documents());
+
+        SearchSnapshot snapshot = SearchSnapshot.read(file);
+        SearchIndex restored = new SearchIndex();
+        restored.putAll(snapshot.documents);
+        assertThat(snapshot.takenAt).isEqualTo(takenAt);
+        assertThat(restored.search("민트초코", 10)).extracting(SearchHit::getId)
+                .containsExactlyElementsOf(index.search("민트초코", 10).stream().map(SearchHit::getId).toList());
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(file, bytes);
+        assertThatThrownBy(() -> SearchSnapshot.read(file)).isInstanceOf(Exception.class);
+    }
+
+    /** 흔한 단어 사이에 드물게 섞인 단어: 그 문서만 모두 찾음 */
+    @Test
+    void rareWordIsFoundAmongManyDocuments() {
+        SearchIndex index = new SearchIndex();
+        index.putAll(generate(2_000, 100, new ArrayList<>()));
+
+        List<SearchHit> hits = index.search("민트초코", 50);
+        assertThat(hits).hasSize(20);
+        assertThat(hits).allSatisfy(hit -> assertThat(hit.getId() % 100).isZero());
+    }
+
+    /**
+     * ✅ 문서 10만 개: 역색인 검색 vs LIKE '%..%' 처럼 전체 훑기
+     */
+    @Benchmark
+    void benchmarkAgainstFullScan() {
+        SearchIndex index = new SearchIndex();
+        List<String> texts = new ArrayList<>();
+        List<SearchDocument> batch = generate(100_000, 1_000, texts);
+        long buildStart = System.nanoTime();
+        index.putAll(batch);
+        long buildMs = (System.nanoTime() - buildStart) / 1_000_000;
+
+        int rounds = 50;
+        long start = System.nanoTime();
+        for (int r = 0; r < rounds; r++) {
+            index.search("민트초코", 20);
+        }
+        double indexedMs = (System.nanoTime() - start) / 1e6 / rounds;
+
+        start = System.nanoTime();
+        int found = 0;
+        for (int r = 0; r < rounds; r++) {
+            for (String text : texts) {
+                if (text.contains("민트초코")) found++;
+            }
+        }
+        double scanMs = (System.nanoTime() - start) / 1e6 / rounds;
+
+        System.out.printf("search 100k docs: build=%dms indexed=%.3fms/query fullScan=%.3fms/query terms=%d (found=%d)%n",
+                buildMs, indexedMs, scanMs, index.termCount(), found / rounds);
+    }
+
+    // 흔한 단어 30개짜리 댓글 count 개, rareEvery 개 중 1개에만 "민트초코"
+    private static List<SearchDocument> generate(int count, int rareEvery, List<String> texts) {
+        String[] words = {"게임", "사회", "연애", "스포츠", "정치", "음식", "여행", "영화", "음악", "공부",
+                "회사", "학교", "친구", "가족", "돈", "시간", "주말", "운동", "커피", "고양이"};
+        Random random = new Random(42);
+        List<SearchDocument> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int w = 0; w < 30; w++) text.append(words[random.nextInt(words.length)]).append("는 ");
+            if (i % rareEvery == 0) text.append("민트초코");
+            texts.add(text.toString());
+            batch.add(SearchDocument.comment(i, i / 10, "t", text.toString()));
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.kakaoboard.search;
+
+import com.example.kakaoboard.event.DebateEvent;
+import com.example.kakaoboard.repository.CommentRepository;
+import com.example.kakaoboard.repository.DebateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class SearchServiceTest {
+
+    /** 댓글 추가/삭제는 그 댓글 문서만 넣고 뺌 → 토론 전체 댓글을 다시 읽지 않음 */
+    @Test
+    void commentEventsTouchOnlyThatComment(@TempDir Path dir) {
+        DebateRepository debates = mock(DebateRepository.class);
+        CommentRepository comments = mock(CommentRepository.class);
+        when(comments.findDocumentsByIdIn(List.of(10L))).thenReturn(List.of(comment(10L, "고양이 발바닥")));
+        when(comments.findDocumentsByIdIn(List.of(11L))).thenReturn(List.of(comment(11L, "강아지 꼬리")));
+
+        SearchService service = new SearchService(debates, comments, new SimpleMeterRegistry(),
+                dir.resolve("index.snapshot").toString());
+        service.load();
+
+        service.onDebateEvent(new DebateEvent(DebateEvent.Type.COMMENTED, 1L, List.of(10L)));
+        service.indexDirty();
+        service.onDebateEvent(new DebateEvent(DebateEvent.Type.COMMENTED, 1L, List.of(11L)));
+        service.indexDirty();
+        assertThat(service.search("고양이", null)).extracting(SearchHit::getId).containsExactly(10L);
+        assertThat(service.search("강아지", null)).extracting(SearchHit::getId).containsExactly(11L);
+
+        service.onDebateEvent(new DebateEvent(DebateEvent.Type.COMMENT_DELETED, 1L, List.of(10L)));
+        service.indexDirty();
+        assertThat(service.search("고양이", null)).isEmpty();
+        assertThat(service.search("강아지", null)).extracting(SearchHit::getId).containsExactly(11L);
+
+        verify(comments, never()).findTextsByDebateId(anyLong());
+        verify(debates, never()).findById(anyLong());
+        verify(comments, times(2)).findDocumentsByIdIn(any());
+    }
+
+    private static CommentRepository.CommentDocument comment(long id, String text) {
+        return new CommentRepository.CommentDocument() {
+            public Long getId() { return id; }
+            public Long getDebateId() { return 1L; }
+            public String getDebateTitle() { return "동물 토론"; }
+            public String getText() { return text; }
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.domain.Comment;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CommentTreeBuilderTest {
+
+    /** 루트 → 자식 → 손자 순서와 형제 시간순이 유지되는지 */
+    @Test
+    void buildsNestedTreeInOrder() {
+        LocalDateTime t = LocalDateTime.now();
+        Comment root1 = comment(1L, null, t);
+        Comment root2 = comment(2L, null, t.plusSeconds(1));
+        Comment child1 = comment(3L, root1, t.plusSeconds(2));
+        Comment child2 = comment(4L, root1, t.plusSeconds(3));
+        Comment grandChild = comment(5L, child1, t.plusSeconds(4));
+
+        List<Comment> roots = CommentTreeBuilder.build(
+                List.of(root1, root2, child1, child2, grandChild));
+
+        assertEquals(List.of(root1, root2), roots);
+        assertEquals(List.of(child1, child2), root1.getReplies());
+        assertEquals(List.of(grandChild), child1.getReplies());
+        assertEquals(0, root2.getReplies().size());
+    }
+
+    /** 부모가 섞여 있는 큰 트리도 댓글이 빠지거나 겹치지 않음 */
+    @Test
+    void keepsEveryCommentOfALargeTree() {
+        List<Comment> roots = CommentTreeBuilder.build(randomTree(2_000));
+
+        assertEquals(200, roots.size());
+        assertEquals(2_000, count(roots));
+    }
+
+    private static List<Comment> randomTree(int size) {
+        LocalDateTime t = LocalDateTime.now();
+        List<Comment> all = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // 앞쪽 댓글 중 하나를 부모로 (0번과 일부는 루트)
+            Comment parent = (i % 10 == 0) ? null : all.get((i * 7919) % i);
+            all.add(comment((long) i + 1, parent, t.plusNanos(i)));
+        }
+        return all;
+    }
+
+    private static int count(List<Comment> nodes) {
+        int n = 0;
+        for (Comment c : nodes) {
+            n += 1 + count(c.getReplies());
+        }
+        return n;
+    }
+
+    private static Comment comment(Long id, Comment parent, LocalDateTime createdAt) {
+        Comment c = new Comment();
+        c.setId(id);
+        c.setParent(parent);
+        c.setCreatedAt(createdAt);
+        return c;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.Benchmark;
+import com.example.kakaoboard.controller.dto.CommentNode;
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.repository.CommentRepository;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.example.kakaoboard.repository.ReplyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ✅ 댓글 트리 조회 (DB 에서 읽기 + 조립 + 응답 모델 변환) 를 H2 에서 끝까지
+ * - SQL 실행 수는 Hibernate Statistics 로 셈 (트리 크기와 무관하게 1번이어야 함)
+ * - 운영과 같이 읽기 전용 트랜잭션 하나로 (캐시는 빼고 매번 DB 에서)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CommentTreeQueryTest {
+
+    private static final int[] SIZES = {100, 2_000, 20_000};
+
+    @Autowired private DebateRepository debateRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbc;
+
+    private DebateService service;
+    private TransactionTemplate readOnly;
+    private Statistics stats;
+    private long nextId = 1;
+
+    @BeforeEach
+    void setUp() {
+        service = new DebateService(debateRepository, commentRepository, mock(ReplyRepository.class),
+                mock(DebateReactionCounter.class), mock(DebateVoteRecorder.class), mock(VoteDeduplicator.class),
+                event -> { });
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("delete from comment");
+        debateRepository.deleteAll();
+    }
+
+    /** 대댓글이 여러 단계여도 SQL 1번, 댓글이 빠지거나 겹치지 않음 */
+    @Test
+    void loadsWholeTreeWithOneStatement() {
+        for (int size : new int[]{10, 1_000}) {
+            Long debateId = debateWithComments(size);
+
+            stats.clear();
+            List<CommentNode> roots = tree(debateId);
+
+            assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(roots).hasSize(size / 10);
+            assertThat(count(roots)).isEqualTo(size);
+        }
+    }
+
+    /** 트리 크기별 조회 시간 + SQL 실행 수 (읽기/조립/변환 포함) */
+    @Benchmark
+    void commentTreeEndToEnd() {
+        for (int size : SIZES) {
+            Long debateId = debateWithComments(size);
+            // 워밍업 (JIT)
+            for (int i = 0; i < 3; i++) tree(debateId);
+
+            int runs = 10;
+            stats.clear();
+            long start = System.nanoTime();
+            int comments = 0;
+            for (int i = 0; i < runs; i++) {
+                comments = count(tree(debateId));
+            }
+            double avgMs = (System.nanoTime() - start) / 1e6 / runs;
+            System.out.printf("BENCH comment-tree comments=%d statements/call=%d avg=%.2fms%n",
+                    comments, stats.getPrepareStatementCount() / runs, avgMs);
+        }
+    }
+
+    private List<CommentNode> tree(Long debateId) {
+        return readOnly.execute(status -> service.getCommentTree(debateId));
+    }
+
+    // 루트 10개 중 1개, 나머지는 앞쪽 댓글 중 하나에 달린 대댓글 (여러 단계로 섞임)
+    private Long debateWithComments(int size) {
+        Long debateId = debateRepository.save(Debate.builder().title("t").author("a").category("게임").build()).getId();
+        LocalDateTime t = LocalDateTime.of(2026, 1, 1, 0, 0);
+        long first = nextId;
+        List<Object[]> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Long parentId = (i % 10 == 0) ? null : first + (i * 7919L) % i;
+            rows.add(new Object[]{nextId++, "u" + (i % 50), "댓글 " + i, debateId, parentId,
+                    Timestamp.valueOf(t.plusNanos(i * 1_000L))});
+        }
+        jdbc.batchUpdate("insert into comment (id, author, text, debate_id, parent_id, created_at) "
+                + "values (?, ?, ?, ?, ?, ?)", rows);
+        return debateId;
+    }
+
+    private static int count(List<CommentNode> nodes) {
+        int n = 0;
+        for (CommentNode node : nodes) {
+            n += 1 + count(node.getReplies());
+        }
+        return n;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.event.DebateEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static com.example.kakaoboard.service.DebateCacheInvalidator.DEBATE_LIST;
+import static com.example.kakaoboard.service.DebateCacheInvalidator.DEBATE_SUMMARY;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DebateCacheInvalidatorTest {
+
+    /** 숫자만 바뀌는 이벤트는 목록을 남기고 해당 토론 요약만, 글이 바뀌면 목록도 비움 */
+    @Test
+    void counterEventsKeepTheListCached() {
+        ConcurrentMapCacheManager caches = new ConcurrentMapCacheManager(DEBATE_LIST, DEBATE_SUMMARY);
+        DebateCacheInvalidator invalidator = new DebateCacheInvalidator(caches);
+        caches.getCache(DEBATE_LIST).put("전체", "page");
+        caches.getCache(DEBATE_SUMMARY).put(1L, "summary");
+
+        for (DebateEvent.Type type : new DebateEvent.Type[]{
+                DebateEvent.Type.LIKED, DebateEvent.Type.DISLIKED, DebateEvent.Type.VOTED}) {
+            caches.getCache(DEBATE_SUMMARY).put(1L, "summary");
+            invalidator.onDebateEvent(new DebateEvent(type, 1L));
+            assertNotNull(caches.getCache(DEBATE_LIST).get("전체"), type.name());
+            assertNull(caches.getCache(DEBATE_SUMMARY).get(1L), type.name());
+        }
+
+        invalidator.onDebateEvent(new DebateEvent(DebateEvent.Type.UPDATED, 1L));
+        assertNull(caches.getCache(DEBATE_LIST).get("전체"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.event.ActivityEvent;
+import com.example.kakaoboard.event.DebateEvent;
+import com.example.kakaoboard.repository.CommentRepository;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.example.kakaoboard.repository.ReplyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ✅ 자동 마감: UPDATE 한 번으로 승자(CASE) 계산, 읽어 둔 id 중 아직 열린 것만, 이번 마감분만 승리 집계
+ * - 운영과 같이 호출마다 따로 커밋되도록 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DebateCloseExpiredTest {
+
+    private static final long KIM = 1L;
+    private static final long LEE = 2L;
+
+    @Autowired private DebateRepository debateRepository;
+
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @AfterEach
+    void tearDown() {
+        debateRepository.deleteAll();
+    }
+
+    @Test
+    void winnerIsComputedPerRowAndClosedRowsAreLeftAlone() {
+        Debate authorWins = expired(3, 1);
+        Debate rebuttalWins = expired(1, 2);
+        Debate draw = expired(2, 2);
+        Debate closedElsewhere = expired(0, 5);
+        Debate notSelected = expired(4, 0);
+        LocalDateTime earlier = now.minusMinutes(5);
+        assertThat(debateRepository.closeExpired(List.of(closedElsewhere.getId()), earlier)).isEqualTo(1);
+
+        List<Long> ids = List.of(authorWins.getId(), rebuttalWins.getId(), draw.getId(), closedElsewhere.getId());
+        assertThat(debateRepository.closeExpired(ids, now)).isEqualTo(3);
+
+        assertThat(reload(authorWins).getWinner()).isEqualTo("author");
+        assertThat(reload(rebuttalWins).getWinner()).isEqualTo("rebuttal");
+        assertThat(reload(draw).getWinner()).isEqualTo("draw");
+        assertThat(List.of(reload(authorWins), reload(rebuttalWins), reload(draw)))
+                .allSatisfy(d -> {
+                    assertThat(d.isClosed()).isTrue();
+                    assertThat(d.getClosedAt()).isEqualTo(now);
+                });
+
+        // 이미 마감된 토론은 id 에 있어도 그대로 (closedAt/승자 덮어쓰지 않음)
+        Debate kept = reload(closedElsewhere);
+        assertThat(kept.getClosedAt()).isEqualTo(earlier);
+        assertThat(kept.getWinner()).isEqualTo("rebuttal");
+        // 읽어 둔 id 에 없으면 만료됐어도 다음 주기까지 열려 있음
+        assertThat(reload(notSelected).isClosed()).isFalse();
+
+        // 결과 조회는 이번 closedAt 으로 마감된 것만
+        assertThat(debateRepository.findClosedResults(ids, now))
+                .extracting(DebateRepository.ClosedResult::getWinner)
+                .containsExactlyInAnyOrder("author", "rebuttal", "draw");
+        assertThat(debateRepository.findClosedResults(ids, earlier))
+                .extracting(DebateRepository.ClosedResult::getWinner)
+                .containsExactly("rebuttal");
+    }
+
+    @Test
+    void scheduledCloseCreditsWinsOnlyToThisRunsWinners() {
+        Debate authorWins = expired(3, 1);
+        Debate rebuttalWins = expired(1, 2);
+        Debate draw = expired(2, 2);
+        Debate open = debateRepository.save(Debate.builder().title("open").author("kim").authorId(KIM)
+                .category("게임").rebuttalAuthor("lee").rebuttalAuthorId(LEE).rebuttalAt(now.minusHours(1)).build());
+        debateRepository.closeExpired(List.of(draw.getId()), now.minusMinutes(5));
+
+        List<Object> events = new ArrayList<>();
+        VoteDeduplicator deduplicator = mock(VoteDeduplicator.class);
+        DebateService service = new DebateService(debateRepository, mock(CommentRepository.class),
+                mock(ReplyRepository.class), mock(DebateReactionCounter.class), mock(DebateVoteRecorder.class),
+                deduplicator, events::add);
+
+        service.closeExpiredDebates();
+
+        assertThat(reload(authorWins).isClosed()).isTrue();
+        assertThat(reload(rebuttalWins).isClosed()).isTrue();
+        assertThat(reload(open).isClosed()).isFalse();
+        assertThat(events).filteredOn(DebateEvent.class::isInstance)
+                .extracting(e -> ((DebateEvent) e).getType(), e -> ((DebateEvent) e).getDebateId())
+                .containsExactly(tuple(DebateEvent.Type.CLOSED, null));
+        // 무승부/다른 주기에 마감된 토론은 승리 집계 없음
+        assertThat(events).filteredOn(ActivityEvent.class::isInstance)
+                .extracting(e -> ((ActivityEvent) e).getKind(), e -> ((ActivityEvent) e).getUserId())
+                .containsExactlyInAnyOrder(tuple(ActivityEvent.Kind.WIN, KIM), tuple(ActivityEvent.Kind.WIN, LEE));
+        verify(deduplicator).forget(authorWins.getId());
+        verify(deduplicator).forget(rebuttalWins.getId());
+    }
+
+    // 반박 후 12시간 넘게 지난 미마감 토론
+    private Debate expired(int authorVotes, int rebuttalVotes) {
+        return debateRepository.save(Debate.builder()
+                .title("t").author("kim").authorId(KIM).category("게임")
+                .rebuttalAuthor("lee").rebuttalAuthorId(LEE)
+                .rebuttalAt(now.minusHours(DebateService.CLOSE_AFTER_HOURS + 1))
+                .authorVotes(authorVotes).rebuttalVotes(rebuttalVotes)
+                .build());
+    }
+
+    private Debate reload(Debate debate) {
+        return debateRepository.findById(debate.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.controller.dto.DebatePageResponse;
+import com.example.kakaoboard.controller.dto.DebateSummary;
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.repository.CommentRepository;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.example.kakaoboard.repository.ReplyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ✅ 목록 커서(keyset) 페이징: 페이지를 끝까지 넘겨도 빠지거나 겹치는 토론이 없어야 함
+ * - 작성 시각이 같은 토론이 페이지 경계에 걸치도록 3개씩 같은 createdAt
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class DebatePagingTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired private DebateRepository debateRepository;
+    @Autowired private JdbcTemplate jdbc;
+
+    private DebateService service;
+    private final List<Debate> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new DebateService(debateRepository, mock(CommentRepository.class), mock(ReplyRepository.class),
+                mock(DebateReactionCounter.class), mock(DebateVoteRecorder.class), mock(VoteDeduplicator.class),
+                event -> { });
+        for (int i = 0; i < 17; i++) {
+            Debate d = debateRepository.saveAndFlush(Debate.builder()
+                    .title("t" + i).content("c").author("a")
+                    .category(i % 3 == 2 ? "사회" : "게임")
+                    .build());
+            // @PrePersist 가 createdAt 을 지금으로 덮으므로 저장 뒤에 맞춤
+            LocalDateTime createdAt = BASE.plusMinutes(i / 3);
+            jdbc.update("update debate set created_at = ? where id = ?", Timestamp.valueOf(createdAt), d.getId());
+            d.setCreatedAt(createdAt);
+            saved.add(d);
+        }
+    }
+
+    @Test
+    void walkingAllPagesReturnsEveryDebateOnceInOrder() {
+        List<DebateSummary> walked = walk(null, 5);
+
+        assertThat(walked).extracting(DebateSummary::getId)
+                .containsExactlyElementsOf(expectedIds(null))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void categoryFilterPagesOnlyThatCategory() {
+        List<DebateSummary> walked = walk("게임", 4);
+
+        assertThat(walked).extracting(DebateSummary::getCategory).containsOnly("게임");
+        assertThat(walked).extracting(DebateSummary::getId)
+                .containsExactlyElementsOf(expectedIds("게임"))
+                .doesNotHaveDuplicates();
+        assertThat(walk("사회", 100)).extracting(DebateSummary::getId).containsExactlyElementsOf(expectedIds("사회"));
+    }
+
+    @Test
+    void exactlyFullLastPageHasNoNext() {
+        // 사회 5개를 5개씩 → 한 페이지, 다음 없음 (size + 1 개를 읽어 판단)
+        DebatePageResponse page = service.findSummaries("사회", null, null, 5);
+        assertThat(page.getItems()).hasSize(5);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursorCreatedAt()).isNull();
+        assertThat(page.getNextCursorId()).isNull();
+
+        DebatePageResponse first = service.findSummaries("사회", null, null, 4);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(service.findSummaries("사회", first.getNextCursorCreatedAt(), first.getNextCursorId(), 4).getItems())
+                .hasSize(1);
+    }
+
+    // 다음 페이지가 없을 때까지 nextCursor 를 그대로 넘기며 모음
+    private List<DebateSummary> walk(String category, int size) {
+        List<DebateSummary> all = new ArrayList<>();
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        for (int pages = 0; pages < 100; pages++) {
+            DebatePageResponse page = service.findSummaries(category, cursorCreatedAt, cursorId, size);
+            all.addAll(page.getItems());
+            if (!page.isHasNext()) {
+                assertThat(page.getNextCursorCreatedAt()).isNull();
+                assertThat(page.getNextCursorId()).isNull();
+                return all;
+            }
+            assertThat(page.getItems()).hasSize(size);
+            DebateSummary last = page.getItems().get(size - 1);
+            assertThat(page.getNextCursorCreatedAt()).isEqualTo(last.getCreatedAt());
+            assertThat(page.getNextCursorId()).isEqualTo(last.getId());
+            cursorCreatedAt = page.getNextCursorCreatedAt();
+            cursorId = page.getNextCursorId();
+        }
+        throw new AssertionError("페이지가 끝나지 않음");
+    }
+
+    private List<Long> expectedIds(String category) {
+        return saved.stream()
+                .filter(d -> category == null || category.equals(d.getCategory()))
+                .sorted(Comparator.comparing(Debate::getCreatedAt).thenComparing(Debate::getId).reversed())
+                .map(Debate::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.Benchmark;
+import com.example.kakaoboard.event.DebateEvent;
+import com.example.kakaoboard.repository.DebateRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DebateReactionCounterTest {
+
+    /** write-behind: 클릭 폭주 중에 flush 가 계속 돌아도 증가분이 하나도 유실되지 않아야 함 */
+    @Test
+    void writeBehindLosesNoClicksUnderContention() throws Exception {
+        Contention result = clickWhileFlushing(4, 500);
+
+        assertEquals(4L * 500, result.dbLikes());
+    }
+
+    /** 클릭 수 대비 실제 UPDATE 횟수 (16스레드 × 5,000 클릭) */
+    @Benchmark
+    void writeBehindUpdatesPerClick() throws Exception {
+        int threads = 16;
+        int clicksPerThread = 5_000;
+        Contention result = clickWhileFlushing(threads, clicksPerThread);
+
+        System.out.printf("clicks=%d flushes(UPDATE)=%d elapsed=%dms%n",
+                threads * clicksPerThread, result.flushes(), result.elapsedMs());
+    }
+
+    private record Contention(long dbLikes, long flushes, long elapsedMs) {
+    }
+
+    // threads 개가 clicksPerThread 번씩 좋아요, 그동안 스레드 1개가 계속 flush
+    private static Contention clickWhileFlushing(int threads, int clicksPerThread) throws Exception {
+        AtomicLong dbLikes = new AtomicLong();
+        AtomicLong flushes = new AtomicLong();
+        DebateRepository repo = mock(DebateRepository.class);
+        when(repo.findReactionCountsById(anyLong())).thenReturn(Optional.of(counts(dbLikes)));
+        when(repo.incrementLikes(anyLong(), anyInt())).thenAnswer(inv -> {
+            dbLikes.addAndGet(inv.<Integer>getArgument(1));
+            flushes.incrementAndGet();
+            return 1;
+        });
+
+        DebateReactionCounter counter = new DebateReactionCounter(repo, event -> { }, true);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch done = new CountDownLatch(threads);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < clicksPerThread; i++) {
+                    counter.like(1L);
+                }
+                done.countDown();
+            });
+        }
+        pool.execute(() -> {
+            while (done.getCount() > 0) {
+                counter.flush();
+            }
+        });
+        done.await(30, TimeUnit.SECONDS);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+        counter.flush();
+
+        return new Contention(dbLikes.get(), flushes.get(), elapsedMs);
+    }
+
+    /** write-behind: 클릭마다 SELECT 하지 않고 기억해 둔 DB 값 + 대기 중 증가분, flush 후에만 다시 읽음 */
+    @Test
+    void writeBehindReadsCountsOncePerFlush() {
+        AtomicLong dbLikes = new AtomicLong(7);
+        DebateRepository repo = mock(DebateRepository.class);
+        when(repo.findReactionCountsById(1L)).thenReturn(Optional.of(counts(dbLikes)));
+        when(repo.findReactionCountsById(2L)).thenReturn(Optional.empty());
+        when(repo.incrementLikes(anyLong(), anyInt())).thenAnswer(inv -> {
+            dbLikes.addAndGet(inv.<Integer>getArgument(1));
+            return 1;
+        });
+
+        DebateReactionCounter counter = new DebateReactionCounter(repo, event -> { }, true);
+
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(7 + i, counter.like(1L).orElseThrow().get("likes"));
+        }
+        verify(repo, times(1)).findReactionCountsById(1L);
+
+        counter.flush();
+        assertEquals(0, counter.pendingKeys());
+        assertEquals(18, counter.like(1L).orElseThrow().get("likes"));
+        verify(repo, times(2)).findReactionCountsById(1L);
+
+        assertEquals(Optional.empty(), counter.like(2L));
+    }
+
+    /** write-behind: 반영 실패한 증가분은 남았다가 다음 flush 에, 반영되면 토론 키도 맵에서 빠짐 */
+    @Test
+    void failedFlushKeepsClicksAndSuccessfulFlushDropsKey() {
+        AtomicLong dbLikes = new AtomicLong();
+        DebateRepository repo = mock(DebateRepository.class);
+        when(repo.findReactionCountsById(1L)).thenReturn(Optional.of(counts(dbLikes)));
+        when(repo.incrementLikes(eq(1L), anyInt()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenAnswer(inv -> {
+                    dbLikes.addAndGet(inv.<Integer>getArgument(1));
+                    return 1;
+                });
+
+        DebateReactionCounter counter = new DebateReactionCounter(repo, event -> { }, true);
+        counter.like(1L);
+        counter.like(1L);
+
+        counter.flush();
+        assertEquals(0, dbLikes.get());
+        assertEquals(1, counter.pendingKeys());
+
+        counter.like(1L);
+        counter.flush();
+        assertEquals(3, dbLikes.get());
+        assertEquals(0, counter.pendingKeys());
+    }
+
+    /** write-behind: 클릭 때가 아니라 DB 반영 뒤에 LIKED 1개 (묶인 클릭 수 포함), 실패한 주기엔 발행 없음 */
+    @Test
+    void writeBehindPublishesAfterFlush() {
+        AtomicLong dbLikes = new AtomicLong();
+        DebateRepository repo = mock(DebateRepository.class);
+        when(repo.findReactionCountsById(1L)).thenReturn(Optional.of(counts(dbLikes)));
+        when(repo.incrementLikes(eq(1L), anyInt()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenAnswer(inv -> {
+                    dbLikes.addAndGet(inv.<Integer>getArgument(1));
+                    return 1;
+                });
+        List<DebateEvent> events = new ArrayList<>();
+        List<Long> dbLikesAtPublish = new ArrayList<>();
+
+        DebateReactionCounter counter = new DebateReactionCounter(repo, event -> {
+            events.add((DebateEvent) event);
+            dbLikesAtPublish.add(dbLikes.get());
+        }, true);
+        counter.like(1L);
+        counter.like(1L);
+        counter.like(1L);
+        assertEquals(0, events.size());
+
+        counter.flush();
+        assertEquals(0, events.size());
+
+        counter.flush();
+        assertEquals(1, events.size());
+        assertEquals(DebateEvent.Type.LIKED, events.get(0).getType());
+        assertEquals(1L, events.get(0).getDebateId());
+        assertEquals(3, events.get(0).getCount());
+        assertEquals(List.of(3L), dbLikesAtPublish);
+    }
+
+    /** 기본 모드: 클릭마다 원자적 UPDATE 1회, 없는 토론이면 empty */
+    @Test
+    void atomicModeIssuesOneIncrementPerClick() {
+        DebateRepository repo = mock(DebateRepository.class);
+        when(repo.incrementLikes(1L, 1)).thenReturn(1);
+        when(repo.incrementLikes(2L, 1)).thenReturn(0);
+        when(repo.findReactionCountsById(1L)).thenReturn(Optional.of(counts(new AtomicLong(7))));
+
+        DebateReactionCounter counter = new DebateReactionCounter(repo, event -> { }, false);
+
+        assertEquals(7, counter.like(1L).orElseThrow().get("likes"));
+        assertEquals(Optional.empty(), counter.like(2L));
+        verify(repo, never()).save(any());
+    }
+
+    private static DebateRepository.ReactionCounts counts(AtomicLong likes) {
+        return new DebateRepository.ReactionCounts() {
+            @Override
+            public int getLikes() {
+                return likes.intValue();
+            }
+
+            @Override
+            public int getDislikes() {
+                return 0;
+            }
+        };
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.Benchmark;
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.repository.DebateRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ✅ 읽기 캐시 효과: 토론 요약 / 목록 첫 페이지 / 댓글 트리 읽기를 H2 에서 반복해 p99 비교
+ * - spring.cache.type=caffeine (application.yml 의 spec 그대로) 와 none 을 각각 다른 컨텍스트로
+ *   (@DataJpaTest 는 기본으로 캐시를 끄므로 caffeine 쪽만 @AutoConfigureCache 로 다시 켬)
+ * - DebateService 는 스프링 빈 (@Cacheable/@Transactional 프록시 포함), 투표/좋아요 쪽 의존성만 mock
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+@Import({DebateService.class, DebateReadCacheTest.Dependencies.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+abstract class DebateReadCacheTest {
+
+    private static final int DEBATES = 50;
+    private static final int COMMENTS_PER_DEBATE = 200;
+    private static final int READS = 2_000;
+
+    @TestConfiguration
+    @EnableCaching
+    static class Dependencies {
+        @Bean DebateReactionCounter reactionCounter() { return mock(DebateReactionCounter.class); }
+        @Bean DebateVoteRecorder voteRecorder() { return mock(DebateVoteRecorder.class); }
+        @Bean VoteDeduplicator voteDeduplicator() { return mock(VoteDeduplicator.class); }
+    }
+
+    @Autowired private DebateService service;
+    @Autowired private DebateRepository debateRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private JdbcTemplate jdbc;
+
+    private final List<Long> debateIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime t = LocalDateTime.of(2026, 1, 1, 0, 0);
+        long commentId = 1;
+        List<Object[]> rows = new ArrayList<>();
+        for (int d = 0; d < DEBATES; d++) {
+            Long debateId = debateRepository.save(Debate.builder()
+                    .title("t" + d).content("c").author("a").category(d % 2 == 0 ? "게임" : "사회").build()).getId();
+            debateIds.add(debateId);
+            long first = commentId;
+            for (int i = 0; i < COMMENTS_PER_DEBATE; i++) {
+                Long parentId = (i % 10 == 0) ? null : first + (i * 7919L) % i;
+                rows.add(new Object[]{commentId++, "u" + (i % 50), "댓글 " + i, debateId, parentId,
+                        Timestamp.valueOf(t.plusNanos(i * 1_000L))});
+            }
+        }
+        jdbc.batchUpdate("insert into comment (id, author, text, debate_id, parent_id, created_at) "
+                + "values (?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.update("delete from comment");
+        debateRepository.deleteAll();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // 같은 토론을 두 번 읽었을 때 두 번째 읽기의 SQL 수
+    long statementsOnSecondRead() {
+        Long id = debateIds.get(0);
+        service.findSummary(id);
+        service.findSummaries(null, null, null, 20);
+        service.getCommentTree(id);
+
+        Statistics stats = statistics();
+        stats.clear();
+        service.findSummary(id);
+        service.findSummaries(null, null, null, 20);
+        service.getCommentTree(id);
+        return stats.getPrepareStatementCount();
+    }
+
+    // 요약 / 목록 / 댓글 트리 읽기를 READS 번씩 섞어 돌리고 종류별 p50/p99 출력
+    void reportPercentiles(String cacheType) {
+        String[] names = {"summary", "list", "comment-tree"};
+        List<LongConsumer> reads = List.of(
+                i -> service.findSummary(debateIds.get((int) (i % DEBATES))),
+                i -> service.findSummaries(i % 2 == 0 ? "게임" : null, null, null, 20),
+                i -> service.getCommentTree(debateIds.get((int) (i % DEBATES))));
+
+        // 워밍업 (JIT, 커넥션 풀)
+        for (int i = 0; i < 500; i++) {
+            for (LongConsumer read : reads) read.accept(i);
+        }
+
+        for (int r = 0; r < reads.size(); r++) {
+            long[] nanos = new long[READS];
+            for (int i = 0; i < READS; i++) {
+                long start = System.nanoTime();
+                reads.get(r).accept(i);
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            System.out.printf("BENCH read-cache cache=%s read=%s p50=%.1fus p99=%.1fus%n", cacheType, names[r],
+                    nanos[READS / 2] / 1e3, nanos[(int) (READS * 0.99)] / 1e3);
+        }
+    }
+
+    @AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+    static class Caffeine extends DebateReadCacheTest {
+
+        /** 캐시가 켜져 있으면 같은 토론 두 번째 읽기는 DB 에 가지 않음 */
+        @Test
+        void secondReadIsServedFromCache() {
+            assertThat(statementsOnSecondRead()).isZero();
+        }
+
+        @Benchmark
+        void readLatencyPercentiles() {
+            reportPercentiles("caffeine");
+        }
+    }
+
+    static class NoCache extends DebateReadCacheTest {
+
+        /** 캐시를 끄면 매번 DB (요약 1 + 목록 1 + 트리 1) */
+        @Test
+        void everyReadHitsDatabase() {
+            assertThat(statementsOnSecondRead()).isEqualTo(3);
+        }
+
+        @Benchmark
+        void readLatencyPercentiles() {
+            reportPercentiles("none");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.verification.InMemoryVerificationCodeStore;
+import com.example.kakaoboard.verification.VerificationCode;
+import com.example.kakaoboard.verification.VerificationCodeStore;
+import com.example.kakaoboard.verification.VerificationLockedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EmailVerificationServiceTest {
+
+    private final EmailService emailService = mock(EmailService.class);
+    private final EmailVerificationService service =
+            new EmailVerificationService(emailService, new InMemoryVerificationCodeStore(100, 3), 30, 30, 3);
+
+    @Test
+    void correctCodeVerifiesOnce() {
+        String code = service.createVerificationCode("a@x.com");
+
+        assertThat(service.verifyCode("a@x.com", code)).isTrue();
+        assertThat(service.isVerified("a@x.com")).isTrue();
+        // 한 번 쓴 번호는 다시 쓸 수 없음
+        assertThat(service.verifyCode("a@x.com", code)).isFalse();
+
+        service.clearVerification("a@x.com");
+        assertThat(service.isVerified("a@x.com")).isFalse();
+    }
+
+    @Test
+    void tooManyWrongCodesLockUntilExpiry() {
+        String code = service.createVerificationCode("a@x.com");
+        String wrong = code.equals("000000") ? "000001" : "000000";
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(service.verifyCode("a@x.com", wrong)).isFalse();
+        }
+
+        // 잠긴 뒤에는 맞는 번호도 실패, 새 번호 발급도 거부
+        assertThat(service.verifyCode("a@x.com", code)).isFalse();
+        assertThat(service.isVerified("a@x.com")).isFalse();
+        assertThatThrownBy(() -> service.createVerificationCode("a@x.com"))
+                .isInstanceOf(VerificationLockedException.class);
+        verify(emailService, times(1)).sendVerificationMail(anyString(), anyString());
+    }
+
+    /** 동시에 쏟아부어도 번호를 꺼내 비교하는 건 최대 시도 횟수만큼만 (확인 전에 시도를 먼저 차지) */
+    @Test
+    void parallelGuessesAreCountedBeforeComparing() throws Exception {
+        AtomicInteger compared = new AtomicInteger();
+        VerificationCodeStore slowStore = new InMemoryVerificationCodeStore(100, 3) {
+            @Override
+            public Optional<VerificationCode> find(String email, LocalDateTime now) {
+                compared.incrementAndGet();
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.find(email, now);
+            }
+        };
+        EmailVerificationService racing = new EmailVerificationService(emailService, slowStore, 30, 30, 3);
+        LocalDateTime now = LocalDateTime.now();
+        slowStore.save(new VerificationCode("a@x.com", "123456", now, now.plusMinutes(30), 0));
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            String guess = String.format("%06d", i);
+            results.add(pool.submit(() -> {
+                start.await();
+                return racing.verifyCode("a@x.com", guess);
+            }));
+        }
+        start.countDown();
+        pool.shutdown();
+        for (Future<Boolean> r : results) {
+            assertThat(r.get()).isFalse();
+        }
+
+        assertThat(compared.get()).isEqualTo(3);
+    }
+
+    @Test
+    void repeatedRequestsReuseTheSameCode() {
+        String first = service.createVerificationCode("a@x.com");
+        String second = service.createVerificationCode("a@x.com");
+
+        assertThat(second).isEqualTo(first);
+        verify(emailService, times(2)).sendVerificationMail("a@x.com", first);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.Benchmark;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ 로컬 가짜 SMTP 서버에 실제 SMTP 대화로 발송
+ */
+class MailDispatcherTest {
+
+    private FakeSmtpServer smtp;
+    private MailDispatcher dispatcher;
+    private SimpleMeterRegistry meters;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new FakeSmtpServer();
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(smtp.port());
+        meters = new SimpleMeterRegistry();
+        dispatcher = new MailDispatcher(sender, meters, "noreply@kakaoboard.test", 2, 100, 5, 10, 100, false);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        dispatcher.shutdown();
+        smtp.close();
+    }
+
+    @Test
+    void enqueueReturnsImmediatelyAndReusesConnections() throws Exception {
+        EmailService emailService = new EmailService(dispatcher);
+        smtp.hold = new CountDownLatch(1);
+
+        // SMTP 서버가 응답하지 않는 동안에도 요청 스레드는 큐에 넣고 바로 돌아옴
+        for (int i = 0; i < 20; i++) {
+            emailService.sendVerificationMail("user" + i + "@kakaoboard.test", String.format("%06d", i));
+        }
+        assertThat(meters.counter("mail.sent").count()).isZero();
+        smtp.hold.countDown();
+
+        awaitSent(20);
+        assertThat(smtp.messages).hasSize(20);
+        // 워커 2개가 연결을 재사용 → 메일 20통에 연결은 워커 수만큼
+        assertThat(smtp.connections.get()).isLessThanOrEqualTo(2);
+        assertThat(smtp.messages.get(0)).contains("Kakaoboard");
+    }
+
+    /** 요청 스레드가 메일 20통을 넣는 데 걸리는 시간과 SMTP 연결 수 */
+    @Benchmark
+    void enqueueLatency() throws Exception {
+        EmailService emailService = new EmailService(dispatcher);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            emailService.sendVerificationMail("user" + i + "@kakaoboard.test", String.format("%06d", i));
+        }
+        long enqueueMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        awaitSent(20);
+        System.out.printf("mails=20 enqueue=%dms connections=%d%n", enqueueMs, smtp.connections.get());
+    }
+
+    @Test
+    void retriesTransientFailuresWithBackoff() throws Exception {
+        smtp.failNext.set(2);
+
+        dispatcher.enqueue("retry@kakaoboard.test", "subject", "<p>hi</p>");
+
+        awaitSent(1);
+        assertThat(meters.counter("mail.retried").count()).isEqualTo(2);
+        assertThat(meters.counter("mail.failed").count()).isZero();
+    }
+
+    @Test
+    void identicalInFlightSendIsDeduplicated() throws Exception {
+        smtp.failNext.set(1);   // 첫 시도를 실패시켜 발송 중 상태를 유지
+
+        assertThat(dispatcher.enqueue("dup@kakaoboard.test", "s", "<p>123456</p>"))
+                .isEqualTo(MailDispatcher.Result.QUEUED);
+        assertThat(dispatcher.enqueue("dup@kakaoboard.test", "s", "<p>123456</p>"))
+                .isEqualTo(MailDispatcher.Result.DUPLICATE);
+        assertThat(dispatcher.enqueue("dup@kakaoboard.test", "s", "<p>654321</p>"))
+                .isEqualTo(MailDispatcher.Result.QUEUED);
+
+        awaitSent(2);
+        Thread.sleep(100);
+        assertThat(smtp.messages).hasSize(2);
+        // 발송이 끝나면 같은 메일도 다시 보낼 수 있음
+        assertThat(dispatcher.enqueue("dup@kakaoboard.test", "s", "<p>123456</p>"))
+                .isEqualTo(MailDispatcher.Result.QUEUED);
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (meters.counter("mail.sent").count() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meters.counter("mail.sent").count()).isEqualTo(count);
+    }
+
+    /**
+     * ✅ 최소한의 SMTP 서버 (EHLO/MAIL/RCPT/DATA/NOOP/RSET/QUIT)
+     * - failNext 만큼 DATA 에 451(일시 오류) 응답
+     * - hold 가 풀릴 때까지 DATA 응답을 미룸 (느린 서버)
+     */
+    static class FakeSmtpServer implements AutoCloseable {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final AtomicInteger connections = new AtomicInteger();
+        final AtomicInteger failNext = new AtomicInteger();
+        volatile CountDownLatch hold = new CountDownLatch(0);
+
+        private final ServerSocket server = new ServerSocket(0);
+
+        FakeSmtpServer() throws IOException {
+            Thread acceptor = new Thread(() -> {
+                while (!server.isClosed()) {
+                    try {
+                        Socket socket = server.accept();
+                        connections.incrementAndGet();
+                        Thread t = new Thread(() -> handle(socket));
+                        t.setDaemon(true);
+                        t.start();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            });
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return server.getLocalPort();
+        }
+
+        private void handle(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+                reply(out, "220 fake smtp");
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                    switch (command) {
+                        case "DATA" -> {
+                            reply(out, "354 go ahead");
+                            StringBuilder body = new StringBuilder();
+                            String dataLine;
+                            while ((dataLine = in.readLine()) != null && !dataLine.equals(".")) {
+                                body.append(dataLine).append('\n');
+                            }
+                            awaitHold();
+                            if (failNext.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                                reply(out, "451 try again later");
+                            } else {
+                                messages.add(body.toString());
+                                reply(out, "250 queued");
+                            }
+                        }
+                        case "QUIT" -> {
+                            reply(out, "221 bye");
+                            return;
+                        }
+                        default -> reply(out, "250 OK");
+                    }
+                }
+            } catch (IOException ignored) {
+                // 클라이언트가 연결을 끊음
+            }
+        }
+
+        private void awaitHold() throws IOException {
+            try {
+                hold.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        private static void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.kakaoboard.service;
+
+import com.example.kakaoboard.auth.PasswordHasher;
+import com.example.kakaoboard.domain.User;
+import com.example.kakaoboard.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class UserServiceTest {
+
+    /** 새 비밀번호 해시(해시 풀 대기)는 사용자를 읽기 전에 끝냄 → 기다리는 동안 커넥션을 잡지 않음 */
+    @Test
+    void updateHashesPasswordBeforeTouchingTheDatabase() {
+        UserRepository users = mock(UserRepository.class);
+        PasswordHasher hasher = mock(PasswordHasher.class);
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("kim");
+        user.setEmail("kim@x.com");
+        when(hasher.encode("newpass123")).thenReturn("{bcrypt}hash");
+        when(users.findById(1L)).thenReturn(Optional.of(user));
+        when(users.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        User updated = new UserService(users, hasher, mock(EmailVerificationService.class))
+                .updateUser(1L, "kim@x.com", "newpass123", "lee", null);
+
+        assertThat(updated.getPassword()).isEqualTo("{bcrypt}hash");
+        assertThat(updated.getUsername()).isEqualTo("lee");
+        InOrder order = inOrder(hasher, users);
+        order.verify(hasher).encode("newpass123");
+        order.verify(users).findById(1L);
+        order.verify(users).save(user);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.kakaoboard.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VoteDeduplicatorTest {
+
+    /** 기억한 투표자만 바로 거절 (오탐 없음), 마감/삭제하면 잊음 */
+    @Test
+    void rejectsOnlyRememberedVotersUntilForgotten() {
+        VoteDeduplicator dedup = new VoteDeduplicator(true, 1_000);
+
+        dedup.remember(1L, "7");
+        assertTrue(dedup.alreadyVoted(1L, "7"));
+        assertFalse(dedup.alreadyVoted(1L, "8"));
+        assertFalse(dedup.alreadyVoted(2L, "7"));
+
+        dedup.remember(2L, "7");
+        dedup.forget(1L);
+        assertFalse(dedup.alreadyVoted(1L, "7"));
+        assertTrue(dedup.alreadyVoted(2L, "7"));
+
+        dedup.remember(2L, "8");
+        assertTrue(dedup.alreadyVoted(2L, "7"));
+        assertTrue(dedup.alreadyVoted(2L, "8"));
+
+        VoteDeduplicator disabled = new VoteDeduplicator(false, 1_000);
+        disabled.remember(1L, "7");
+        assertFalse(disabled.alreadyVoted(1L, "7"));
+    }
+}
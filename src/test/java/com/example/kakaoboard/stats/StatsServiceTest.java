@@ -0,0 +1,191 @@
+package com.example.kakaoboard.stats;
+
+import com.example.kakaoboard.domain.CategoryStats;
+import com.example.kakaoboard.domain.Comment;
+import com.example.kakaoboard.domain.Debate;
+import com.example.kakaoboard.domain.User;
+import com.example.kakaoboard.domain.UserStats;
+import com.example.kakaoboard.event.ActivityEvent;
+import com.example.kakaoboard.repository.CategoryStatsRepository;
+import com.example.kakaoboard.repository.CommentRepository;
+import com.example.kakaoboard.repository.DebateRepository;
+import com.example.kakaoboard.repository.UserRepository;
+import com.example.kakaoboard.repository.UserStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.example.kakaoboard.event.ActivityEvent.Kind.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ 운영과 같이 호출마다 따로 커밋되도록 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({StatsReconciler.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StatsServiceTest {
+
+    @Autowired private UserStatsRepository userStatsRepository;
+    @Autowired private CategoryStatsRepository categoryStatsRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private DebateRepository debateRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private StatsReconciler reconciler;
+
+    private StatsService stats;
+    private User kim;
+
+    @BeforeEach
+    void setUp() {
+        stats = new StatsService(userStatsRepository, categoryStatsRepository, userRepository,
+                reconciler, new SimpleMeterRegistry());
+        kim = new User();
+        kim.setUsername("kim");
+        kim.setEmail("kim@x.com");
+        kim.setPassword("{bcrypt}x");
+        kim = userRepository.save(kim);
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll();
+        debateRepository.deleteAll();
+        userStatsRepository.deleteAllInBatch();
+        categoryStatsRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void eventsAreVisibleBeforeFlushAndAppliedOnceAfter() {
+        stats.onActivity(new ActivityEvent(DEBATE, kim.getId(), "게임", 1));
+        stats.onActivity(new ActivityEvent(COMMENT, kim.getId(), "게임", 1));
+        stats.onActivity(new ActivityEvent(COMMENT, null, "게임", 1));
+        stats.onActivity(new ActivityEvent(WIN, kim.getId(), null, 1));
+
+        // flush 전: 집계 행은 없지만 대기 중인 증가분이 보임
+        assertThat(userStatsRepository.count()).isZero();
+        assertThat(stats.user("kim").getDebates()).isEqualTo(1);
+
+        stats.flush();
+        stats.onActivity(new ActivityEvent(VOTE, kim.getId(), "사회", 1));
+        stats.flush();
+        stats.flush();
+
+        UserStats row = userStatsRepository.findById(kim.getId()).orElseThrow();
+        assertThat(userStatsRepository.count()).isEqualTo(1);
+        assertThat(row.getDebates()).isEqualTo(1);
+        assertThat(row.getComments()).isEqualTo(1);
+        assertThat(row.getWins()).isEqualTo(1);
+        assertThat(row.getVotesCast()).isEqualTo(1);
+        assertThat(stats.user("kim").getExp()).isEqualTo(10 + 2 + 30 + 1);
+
+        // 회원이면 users.exp/level 도 같이
+        User user = userRepository.findByUsername("kim").orElseThrow();
+        assertThat(user.getExp()).isEqualTo(43);
+        assertThat(user.getLevel()).isEqualTo(1);
+
+        // 다 반영된 키는 남지 않음
+        assertThat(stats.pendingKeys()).isZero();
+
+        List<CategoryStats> categories = stats.categories();
+        assertThat(categories).extracting(CategoryStats::getCategory).containsExactly("게임", "사회");
+        assertThat(categories.get(0).getComments()).isEqualTo(2);
+        assertThat(categories.get(1).getVotes()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileRebuildsFromSourceTables() {
+        Debate won = debateRepository.save(Debate.builder()
+                .title("t").author("kim").authorId(kim.getId()).category("게임")
+                .rebuttalAuthor("lee").winner("author").isClosed(true)
+                .authorVotes(1).voters(new java.util.ArrayList<>(List.of(String.valueOf(kim.getId()))))
+                .build());
+        debateRepository.save(Debate.builder().title("t2").author("kim").authorId(kim.getId()).category("사회").build());
+        commentRepository.save(Comment.builder().author("kim").authorId(kim.getId()).text("c").debate(won).build());
+        // 토큰 없이 이름만 "kim" 으로 쓴 글은 kim 의 통계가 아님 (카테고리에는 셈)
+        debateRepository.save(Debate.builder().title("t3").author("kim").category("사회").build());
+        commentRepository.save(Comment.builder().author("kim").text("c").debate(won).build());
+
+        // 이벤트를 놓쳤거나 잘못 반영된 상태
+        userStatsRepository.save(new UserStats(kim.getId(), 99, 0, 0, 0));
+        userStatsRepository.save(new UserStats(-1L, 5, 5, 5, 5));
+
+        stats.reconcile();
+
+        UserStats row = stats.user("kim");
+        assertThat(row.getDebates()).isEqualTo(2);
+        assertThat(row.getWins()).isEqualTo(1);
+        assertThat(row.getComments()).isEqualTo(1);
+        assertThat(row.getVotesCast()).isEqualTo(1);
+        assertThat(userStatsRepository.existsById(-1L)).isFalse();
+        assertThat(userRepository.findByUsername("kim").orElseThrow().getExp()).isEqualTo(20 + 30 + 2 + 1);
+
+        assertThat(categoryStatsRepository.findById("게임").orElseThrow().getVotes()).isEqualTo(1);
+        assertThat(categoryStatsRepository.findById("사회").orElseThrow().getDebates()).isEqualTo(2);
+        assertThat(categoryStatsRepository.findById("게임").orElseThrow().getComments()).isEqualTo(2);
+    }
+
+    @Test
+    void commentSubtreeIsReadAndDeletedWithoutWalkingReplies() {
+        Debate debate = debateRepository.save(Debate.builder().title("t").author("kim").category("게임").build());
+        Comment root = commentRepository.save(Comment.builder().author("kim").authorId(kim.getId()).text("r").debate(debate).build());
+        Comment child = commentRepository.save(Comment.builder().author("lee").text("c").debate(debate).parent(root).build());
+        commentRepository.save(Comment.builder().author("kim").authorId(kim.getId()).text("g").debate(debate).parent(child).build());
+        Comment other = commentRepository.save(Comment.builder().author("park").text("o").debate(debate).build());
+
+        List<CommentRepository.SubtreeRow> subtree = commentRepository.findSubtree(debate.getId(), root.getId());
+        assertThat(subtree).extracting(CommentRepository.SubtreeRow::getAuthorId).containsExactlyInAnyOrder(kim.getId(), null, kim.getId());
+        assertThat(subtree).extracting(CommentRepository.SubtreeRow::getDepth).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(commentRepository.findSubtree(debate.getId() + 1, root.getId())).isEmpty();
+
+        commentRepository.deleteSubtree(subtree);
+        assertThat(commentRepository.findAll()).extracting(Comment::getId).containsExactly(other.getId());
+    }
+
+    @Test
+    void closeExpiredOnlyTouchesSelectedIdsAndReportsOwnResults() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Debate selected = debateRepository.save(Debate.builder().title("a").author("kim").category("게임")
+                .rebuttalAuthor("lee").rebuttalAt(now.minusHours(13)).authorVotes(2).build());
+        Debate closedElsewhere = debateRepository.save(Debate.builder().title("b").author("kim").category("게임")
+                .rebuttalAuthor("lee").rebuttalAt(now.minusHours(13)).authorVotes(2).build());
+        List<Long> expired = debateRepository.findExpiredIds(now.minusHours(12));
+        assertThat(expired).containsExactlyInAnyOrder(selected.getId(), closedElsewhere.getId());
+
+        // 읽은 뒤 새로 만료된 토론, 다른 인스턴스가 먼저 마감한 토론
+        Debate lateExpired = debateRepository.save(Debate.builder().title("c").author("kim").category("게임")
+                .rebuttalAuthor("lee").rebuttalAt(now.minusHours(13)).build());
+        debateRepository.closeExpired(List.of(closedElsewhere.getId()), now.minusSeconds(1));
+
+        assertThat(debateRepository.closeExpired(expired, now)).isEqualTo(1);
+        assertThat(debateRepository.findById(lateExpired.getId()).orElseThrow().isClosed()).isFalse();
+        assertThat(debateRepository.findClosedResults(expired, now))
+                .extracting(DebateRepository.ClosedResult::getWinner).containsExactly("author");
+    }
+
+    /** 익명 활동은 카테고리에만: 사용자 키도, 사용자 통계/경험치도 생기지 않음 */
+    @Test
+    void anonymousActivityCountsOnlyForCategory() {
+        for (int i = 0; i < 1000; i++) {
+            stats.onActivity(new ActivityEvent(COMMENT, null, "게임", 1));
+        }
+        assertThat(stats.pendingKeys()).isEqualTo(1);
+        stats.flush();
+        assertThat(stats.pendingKeys()).isZero();
+        assertThat(userStatsRepository.count()).isZero();
+        assertThat(stats.user("kim").getComments()).isZero();
+        assertThat(userRepository.findByUsername("kim").orElseThrow().getExp()).isZero();
+        assertThat(categoryStatsRepository.findById("게임").orElseThrow().getComments()).isEqualTo(1000);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.kakaoboard.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingRankingTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    /** 테스트용으로 시각을 옮길 수 있는 Clock */
+    private static final class MutableClock extends Clock {
+        Instant now = START;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Test
+    void recentActivityOutranksOlderActivityOfTheSameSize() {
+        MutableClock clock = new MutableClock();
+        TrendingRanking ranking = new TrendingRanking(clock, Duration.ofHours(6), 10);
+        ranking.describe(1, "old", "게임");
+        ranking.describe(2, "new", "게임");
+
+        ranking.record(1, 10, START);
+        clock.now = START.plus(Duration.ofHours(6));
+        ranking.record(2, 6, clock.now);
+
+        List<TrendingEntry> top = ranking.top(TrendingRanking.ALL);
+        assertThat(top).extracting(TrendingEntry::getId).containsExactly(2L, 1L);
+        // 반감기 1번 지남 → 10 이 5 로
+        assertThat(top.get(1).getScore()).isCloseTo(5.0, within(1e-6));
+        assertThat(top.get(0).getScore()).isCloseTo(6.0, within(1e-6));
+    }
+
+    @Test
+    void categoryTopsAndRemovalRefill() {
+        TrendingRanking ranking = new TrendingRanking(new MutableClock(), Duration.ofHours(6), 2);
+        ranking.describe(1, "a", "게임");
+        ranking.describe(2, "b", "게임");
+        ranking.describe(3, "c", "게임");
+        ranking.describe(4, "d", "연애");
+        ranking.record(1, 5, START);
+        ranking.record(2, 4, START);
+        ranking.record(3, 3, START);
+        ranking.record(4, 10, START);
+
+        assertThat(ranking.top("게임")).extracting(TrendingEntry::getId).containsExactly(1L, 2L);
+        assertThat(ranking.top("연애")).extracting(TrendingEntry::getId).containsExactly(4L);
+        assertThat(ranking.top(TrendingRanking.ALL)).extracting(TrendingEntry::getId).containsExactly(4L, 1L);
+        assertThat(ranking.top("없는카테고리")).isEmpty();
+
+        // 상위에서 빠지면 남은 것 중 최고가 올라옴
+        ranking.remove(1);
+        assertThat(ranking.top("게임")).extracting(TrendingEntry::getId).containsExactly(2L, 3L);
+        assertThat(ranking.top(TrendingRanking.ALL)).extracting(TrendingEntry::getId).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void incrementalTopKMatchesFullRecompute() {
+        MutableClock clock = new MutableClock();
+        TrendingRanking ranking = new TrendingRanking(clock, Duration.ofHours(6), 50);
+        Map<Long, Double> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (long id = 0; id < 2_000; id++) ranking.describe(id, "t" + id, id % 2 == 0 ? "게임" : "사회");
+        for (int i = 0; i < 100_000; i++) {
+            clock.now = clock.now.plusSeconds(random.nextInt(3));
+            long id = random.nextInt(2_000);
+            double weight = 1 + random.nextInt(3);
+            ranking.record(id, weight, clock.now);
+            // 전체 재계산 기준: 모두 지금 시각으로 감쇠 (기준 시각만 다름 → 비교는 순서로)
+            double age = Duration.between(START, clock.now).toSeconds() / (6.0 * 3600);
+            expected.merge(id, weight * Math.pow(2, age), Double::sum);
+        }
+
+        List<Long> brute = expected.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(50).map(Map.Entry::getKey).toList();
+        assertThat(ranking.top(TrendingRanking.ALL)).extracting(TrendingEntry::getId).containsExactlyElementsOf(brute);
+    }
+
+    @Test
+    void pruneForgetsDecayedDebatesOutsideTheTop() {
+        MutableClock clock = new MutableClock();
+        TrendingRanking ranking = new TrendingRanking(clock, Duration.ofHours(1), 1);
+        ranking.describe(1, "a", "게임");
+        ranking.describe(2, "b", "게임");
+        ranking.record(1, 2, START);
+        ranking.record(2, 1, START);
+
+        clock.now = START.plus(Duration.ofHours(24));
+        assertThat(ranking.prune(0.01)).isEqualTo(1);
+        assertThat(ranking.tracked()).isEqualTo(1);
+        assertThat(ranking.top("게임")).extracting(TrendingEntry::getId).containsExactly(1L);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.kakaoboard.verification;
+
+import com.example.kakaoboard.Benchmark;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryVerificationCodeStoreTest {
+
+    @Test
+    void expiredCodesAreSweptAndVerifiedStateKept() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(100, 5);
+        LocalDateTime now = LocalDateTime.now();
+
+        store.save(new VerificationCode("a@x.com", "111111", now, now.plusMinutes(1), 0));
+        store.save(new VerificationCode("b@x.com", "222222", now, now.plusMinutes(30), 0));
+        store.markVerified("c@x.com", now.plusMinutes(30));
+
+        assertThat(store.reserveAttempt("b@x.com", now)).isEqualTo(1);
+        assertThat(store.find("b@x.com", now).orElseThrow().getFailedAttempts()).isEqualTo(1);
+
+        LocalDateTime later = now.plusMinutes(5);
+        assertThat(store.sweep(later)).isEqualTo(1);
+        assertThat(store.find("a@x.com", later)).isEmpty();
+        assertThat(store.find("b@x.com", later)).isPresent();
+        assertThat(store.isVerified("c@x.com", later)).isTrue();
+        assertThat(store.isVerified("c@x.com", now.plusMinutes(31))).isFalse();
+    }
+
+    @Test
+    void reissuedCodeReplacesOldOneWithoutGrowingQueue() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10, 5);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < 1000; i++) {
+            store.save(new VerificationCode("same@x.com", String.format("%06d", i), now, now.plusMinutes(30), 0));
+        }
+
+        assertThat(store.find("same@x.com", now).orElseThrow().getCode()).isEqualTo("000999");
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.queued()).isLessThanOrEqualTo(20);
+    }
+
+    /** 잠긴 번호는 다른 주소를 쏟아부어도 밀려나지 않음 (밀려나면 잠금이 풀림) */
+    @Test
+    void lockedCodeSurvivesCapacityFlood() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(100, 5);
+        LocalDateTime now = LocalDateTime.now();
+        store.save(new VerificationCode("victim@x.com", "123456", now, now.plusMinutes(30), 0));
+        for (int i = 0; i < 5; i++) {
+            store.reserveAttempt("victim@x.com", now);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            store.save(new VerificationCode("user" + i + "@flood.com", "123456", now, now.plusMinutes(30), 0));
+        }
+
+        assertThat(store.find("victim@x.com", now).orElseThrow().getFailedAttempts()).isEqualTo(5);
+        assertThat(store.size()).isLessThanOrEqualTo(100);
+        assertThat(store.queued()).isLessThanOrEqualTo(200);
+    }
+
+    /** 서로 다른 주소가 용량의 10배 들어와도 보관 수/큐는 용량 근처에서 멈추고 오래된 것부터 밀려남 */
+    @Test
+    void floodOfDistinctAddressesStaysWithinCapacity() {
+        int capacity = 1_000;
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(capacity, 5);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < 10_000; i++) {
+            store.save(new VerificationCode("user" + i + "@flood.com", "123456", now, now.plusMinutes(30), 0));
+        }
+
+        assertThat(store.size()).isLessThanOrEqualTo(capacity);
+        assertThat(store.queued()).isLessThanOrEqualTo(capacity * 2);
+        // 가장 최근 주소는 남아 있고, 가장 오래된 주소부터 밀려남
+        assertThat(store.find("user9999@flood.com", now)).isPresent();
+        assertThat(store.find("user0@flood.com", now)).isEmpty();
+    }
+
+    /**
+     * ✅ 100만 개 주소로 인증번호 요청 폭탄 → 힙이 용량 근처에서 멈추는지
+     */
+    @Benchmark
+    void heapDuringFloodOfDistinctAddresses() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(10_000, 5);
+        LocalDateTime now = LocalDateTime.now();
+        Runtime runtime = Runtime.getRuntime();
+
+        long heapAfterWarmup = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            store.save(new VerificationCode("user" + i + "@flood.com", "123456", now, now.plusMinutes(30), 0));
+            if (i == 100_000) {
+                System.gc();
+                heapAfterWarmup = runtime.totalMemory() - runtime.freeMemory();
+            }
+        }
+        System.gc();
+        long heapAfterFlood = runtime.totalMemory() - runtime.freeMemory();
+
+        System.out.printf("verification flood: size=%d queued=%d heap %dKB -> %dKB%n",
+                store.size(), store.queued(), heapAfterWarmup / 1024, heapAfterFlood / 1024);
+    }
+}
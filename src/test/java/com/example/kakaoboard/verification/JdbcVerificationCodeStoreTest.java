@@ -0,0 +1,57 @@
+package com.example.kakaoboard.verification;
+
+import com.example.kakaoboard.repository.EmailVerificationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ 서버 두 대(A, B)가 같은 DB(내장 H2)를 공유하는 상황
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class JdbcVerificationCodeStoreTest {
+
+    @Autowired
+    private EmailVerificationRepository repository;
+
+    @Test
+    void codeIssuedOnOneNodeIsVisibleAndCountedOnTheOther() {
+        JdbcVerificationCodeStore nodeA = new JdbcVerificationCodeStore(repository);
+        JdbcVerificationCodeStore nodeB = new JdbcVerificationCodeStore(repository);
+        LocalDateTime now = LocalDateTime.now();
+
+        nodeA.save(new VerificationCode("a@x.com", "123456", now, now.plusMinutes(30), 0));
+        assertThat(nodeB.find("a@x.com", now).orElseThrow().getCode()).isEqualTo("123456");
+
+        assertThat(nodeB.reserveAttempt("a@x.com", now)).isEqualTo(1);
+        assertThat(nodeA.reserveAttempt("a@x.com", now)).isEqualTo(2);
+        assertThat(nodeA.reserveAttempt("nobody@x.com", now)).isZero();
+        // 만료된 번호에는 시도 자체가 안 됨
+        assertThat(nodeA.reserveAttempt("a@x.com", now.plusMinutes(31))).isZero();
+
+        nodeB.markVerified("a@x.com", now.plusMinutes(30));
+        assertThat(nodeA.isVerified("a@x.com", now)).isTrue();
+
+        nodeA.clear("a@x.com");
+        assertThat(nodeB.find("a@x.com", now)).isEmpty();
+        assertThat(nodeB.isVerified("a@x.com", now)).isFalse();
+    }
+
+    @Test
+    void sweepDeletesOnlyRowsWithNothingLeftValid() {
+        JdbcVerificationCodeStore store = new JdbcVerificationCodeStore(repository);
+        LocalDateTime now = LocalDateTime.now();
+
+        store.save(new VerificationCode("old@x.com", "111111", now.minusMinutes(40), now.minusMinutes(10), 0));
+        store.save(new VerificationCode("kept@x.com", "222222", now.minusMinutes(40), now.minusMinutes(10), 0));
+        store.markVerified("kept@x.com", now.plusMinutes(10));
+
+        assertThat(store.sweep(now)).isEqualTo(1);
+        assertThat(repository.findById("old@x.com")).isEmpty();
+        assertThat(store.isVerified("kept@x.com", now)).isTrue();
+    }
+}